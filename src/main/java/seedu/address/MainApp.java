@@ -15,14 +15,18 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.demerit.DemeritRuleCatalogue;
+import seedu.address.model.demerit.DemeritRuleSet;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -46,6 +50,9 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    /** True if the address book in {@code model} was read from the data file. */
+    private boolean isAddressBookLoaded;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing Hall Ledger ]===========================");
@@ -57,16 +64,41 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
+        initDemeritRules(storage, model.getDemeritRuleCatalogue());
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, isAddressBookLoaded);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the storage for the data file in {@code userPrefs}, which appends to a journal if
+     * {@code userPrefs} asks for one. <br>
+     * Otherwise, a journal left by an earlier run that did is first folded into the data file, so that its changes
+     * are not lost now, nor replayed over newer data once the journal is used again. If that fails, the journal
+     * storage is used anyway, so that the journal is still read with the data file.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        if (userPrefs.isJournalDataFile()) {
+            return new JournalAddressBookStorage(addressBookFilePath);
+        }
+        try {
+            if (JournalAddressBookStorage.compactLeftoverJournal(addressBookFilePath)) {
+                logger.info("Folded the journal left next to " + addressBookFilePath + " into it.");
+            }
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Journal left next to " + addressBookFilePath + " could not be folded into it: "
+                    + e.getMessage() + ". Will keep reading it with the data file.");
+            return new JournalAddressBookStorage(addressBookFilePath);
+        }
+        return new JsonAddressBookStorage(addressBookFilePath);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -86,6 +118,7 @@ public class MainApp extends Application {
             initialData = addressBookOptional.isPresent()
                     ? addressBookOptional.get()
                     : SampleDataUtil.getSampleAddressBook();
+            isAddressBookLoaded = addressBookOptional.isPresent();
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty Hall Ledger.");
@@ -95,6 +128,32 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Puts the demerit rules in {@code storage}'s rule file in force in {@code catalogue}. <br>
+     * The built-in rules are used instead, and written out as a starting point for revisions, if the rule file is
+     * not found. The built-in rules are also used if errors occur when reading the rule file, or if the rule file
+     * changes the built-in rules without raising their version.
+     */
+    private void initDemeritRules(Storage storage, DemeritRuleCatalogue catalogue) {
+        Path ruleFilePath = storage.getDemeritRuleFilePath();
+        logger.info("Using demerit rule file : " + ruleFilePath);
+
+        try {
+            Optional<DemeritRuleSet> ruleSetOptional = storage.readDemeritRules();
+            if (ruleSetOptional.isPresent()) {
+                catalogue.install(ruleSetOptional.get());
+                return;
+            }
+            logger.info("Creating a new demerit rule file " + ruleFilePath + " with the built-in rules.");
+            storage.saveDemeritRules(DemeritRuleCatalogue.getBuiltInRules());
+        } catch (DataLoadingException | IllegalArgumentException e) {
+            logger.warning("Demerit rule file at " + ruleFilePath + " could not be loaded."
+                    + " Using the built-in demerit rules: " + e.getMessage());
+        } catch (IOException e) {
+            logger.warning("Failed to save demerit rule file : " + StringUtil.getDetails(e));
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -179,6 +238,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Hall Ledger ] =============================");
+        try {
+            logic.close();
+        } catch (CommandException e) {
+            logger.severe("Failed to save hall ledger " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * When changes to the hall ledger are written to the data file.
+ */
+public enum SaveDurability {
+    /** Every command waits until its changes are written. */
+    SYNCHRONOUS,
+    /** Changes are written in the background, once per save delay, however many commands made them. */
+    GROUP_COMMIT,
+    /** Changes are written in the background once no command has been entered for the save delay, and on exit. */
+    ON_IDLE
+}
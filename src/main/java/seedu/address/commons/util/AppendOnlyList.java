@@ -0,0 +1,105 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An immutable list that supports appending by returning a new list which shares storage with this one.
+ *
+ * <p>Every version of the list shares a backing array with spare capacity. The first version to append at a
+ * given position claims the free slot in place; any other version appending at the same position copies the
+ * array instead. Appending is therefore amortized O(1) and does not copy the existing elements, while older
+ * versions remain unchanged because they never read past their own size.
+ *
+ * @param <E> the type of elements in this list
+ */
+public final class AppendOnlyList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int MIN_CAPACITY = 4;
+    private static final AppendOnlyList<?> EMPTY = new AppendOnlyList<>(new Object[0], 0, new AtomicInteger());
+
+    private final Object[] elements;
+    private final int size;
+    /** Number of slots in {@code elements} already taken by some version sharing the array. */
+    private final AtomicInteger claimed;
+
+    private AppendOnlyList(Object[] elements, int size, AtomicInteger claimed) {
+        this.elements = elements;
+        this.size = size;
+        this.claimed = claimed;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> AppendOnlyList<E> empty() {
+        return (AppendOnlyList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list containing the elements of {@code items} in iteration order.
+     * If {@code items} is already an {@code AppendOnlyList}, it is returned as is.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> AppendOnlyList<E> copyOf(Collection<? extends E> items) {
+        requireNonNull(items);
+        if (items instanceof AppendOnlyList) {
+            return (AppendOnlyList<E>) items;
+        }
+        if (items.isEmpty()) {
+            return empty();
+        }
+        Object[] copy = items.toArray();
+        return new AppendOnlyList<>(copy, copy.length, new AtomicInteger(copy.length));
+    }
+
+    /**
+     * Returns a new list with {@code item} appended to the elements of this list.
+     * This list is not modified.
+     */
+    public AppendOnlyList<E> append(E item) {
+        if (size < elements.length && claimed.compareAndSet(size, size + 1)) {
+            elements[size] = item;
+            return new AppendOnlyList<>(elements, size + 1, claimed);
+        }
+
+        Object[] grown = Arrays.copyOf(elements, Math.max(MIN_CAPACITY, size * 2));
+        grown[size] = item;
+        return new AppendOnlyList<>(grown, size + 1, new AtomicInteger(size + 1));
+    }
+
+    /**
+     * Returns true if {@code after} starts with the elements of {@code before}, where both lists only ever grow by
+     * appending, as the versions of an {@code AppendOnlyList} do. Only the element at {@code before}'s last position
+     * is compared, by identity, so this takes constant time.
+     */
+    public static boolean extendsByAppending(List<?> after, List<?> before) {
+        requireNonNull(after);
+        requireNonNull(before);
+        if (after.size() < before.size()) {
+            return false;
+        }
+        return before.isEmpty() || after.get(before.size() - 1) == before.get(before.size() - 1);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (E) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
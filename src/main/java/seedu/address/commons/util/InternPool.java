@@ -0,0 +1,36 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A thread-safe pool of canonical instances of an immutable value type.
+ *
+ * <p>{@link #intern(Object)} returns the same instance for all values that are {@code equals} to each other,
+ * so repeated values share one object and compare equal by reference. Pooled values are held strongly,
+ * so the pool should only be used for value types drawn from a small domain.
+ *
+ * @param <T> an immutable type with value-based {@code equals} and {@code hashCode}
+ */
+public class InternPool<T> {
+
+    private final ConcurrentMap<T, T> canonicalValues = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}, adding {@code value} to the pool if there is none.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        T existing = canonicalValues.putIfAbsent(value, value);
+        return existing == null ? value : existing;
+    }
+
+    /**
+     * Returns the number of canonical instances in the pool.
+     */
+    public int size() {
+        return canonicalValues.size();
+    }
+}
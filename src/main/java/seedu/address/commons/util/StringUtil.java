@@ -16,6 +16,13 @@ import org.apache.commons.text.similarity.LevenshteinDistance;
  */
 public class StringUtil {
 
+    /** Queries shorter than this are only matched exactly or as substrings, never with typos. */
+    public static final int MIN_TYPO_QUERY_LENGTH = 4;
+    /** Largest Levenshtein distance at which a query still fuzzy-matches its target. */
+    public static final int MAX_TYPO_DISTANCE = 2;
+
+    private static final LevenshteinDistance BOUNDED_LEVENSHTEIN = new LevenshteinDistance(MAX_TYPO_DISTANCE);
+
     /**
      * Checks if a word is an exact match for any word in a given set, ignoring case.
      * <br>
@@ -108,25 +115,29 @@ public class StringUtil {
         checkArgument(!query.isEmpty(), "Query parameter cannot be empty");
         checkArgument(!target.isEmpty(), "Target parameter cannot be empty");
 
-        String queryProcessed = query.toLowerCase().trim();
-        String targetProcessed = target.toLowerCase().trim();
-
-        if (queryProcessed.equals(targetProcessed)) {
-            return true;
-        }
+        return fuzzyMatchesNormalized(query.toLowerCase().trim(), target.toLowerCase().trim());
+    }
 
-        if (targetProcessed.contains(queryProcessed)) {
+    /**
+     * Checks if {@code query} fuzzy-matches {@code target} under the rules of
+     * {@link #fuzzyMatchesIgnoresCase(String, String)}, where both strings are already trimmed and lower case.
+     * Unlike that method, the arguments are not case-folded or copied again, so it suits matching many targets
+     * against the same query.
+     *
+     * @param query The normalized string to search for. Cannot be null.
+     * @param target The normalized string to compare against. Cannot be null.
+     * @return true if the strings match exactly or fall within the fuzzy threshold.
+     */
+    public static boolean fuzzyMatchesNormalized(String query, String target) {
+        if (target.contains(query)) {
             return true;
         }
 
-        if (queryProcessed.length() <= 3) {
+        if (query.length() < MIN_TYPO_QUERY_LENGTH) {
             return false;
         }
 
-        LevenshteinDistance levenshtein = new LevenshteinDistance(2);
-        Integer distance = levenshtein.apply(queryProcessed, targetProcessed);
-
-        return distance != null && distance != -1;
+        return BOUNDED_LEVENSHTEIN.apply(query, target) != -1;
     }
 
     /**
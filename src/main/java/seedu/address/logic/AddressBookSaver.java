@@ -0,0 +1,314 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SaveDurability;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChange;
+import seedu.address.storage.AddressBookStorage;
+
+/**
+ * Writes snapshots of the hall ledger to an {@link AddressBookStorage} according to a {@link SaveDurability}.
+ *
+ * <p>Except under {@link SaveDurability#SYNCHRONOUS}, snapshots are written by a background thread. Snapshots
+ * submitted before the previous one is written replace it, so a burst of commands costs a single write. Persons
+ * are immutable, so a snapshot only copies the list of persons. Failed background writes are passed to the error
+ * handler and retried with the next write.
+ *
+ * <p>Once {@link #trackChanges(ObservableList)} is called, each snapshot is written together with the
+ * {@link PersonChange}s the person list reported since the last written snapshot, so that a storage such as a
+ * journal can record just those. When the changes are not all known, such as after the whole list is replaced,
+ * the snapshot is written on its own.
+ *
+ * <p>Each snapshot is submitted with the {@link seedu.address.model.AddressBook#getVersion() version} of the
+ * address book it was taken from. A snapshot whose version was already submitted, and not left unwritten by a
+ * failed write, is skipped without touching storage.
+ */
+public class AddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final SaveDurability durability;
+    private final long delayMillis;
+    private final ScheduledExecutorService executor;
+    private volatile Consumer<IOException> errorHandler = e -> { };
+
+    /** The changes reported since the last submitted snapshot, or null if they are not all known. */
+    private List<PersonChange> unsubmittedChanges;
+    private boolean isTrackingChanges;
+
+    /** The latest snapshot not yet written, or null if every submitted snapshot has been written. */
+    private ReadOnlyAddressBook pendingSnapshot;
+    /** The changes from the last written snapshot to {@code pendingSnapshot}, or null if they are not all known. */
+    private List<PersonChange> pendingChanges;
+    private ScheduledFuture<?> scheduledWrite;
+    private long coalescedCount;
+    /** The version of the latest snapshot written or waiting to be written, or -1 if there is none. */
+    private long latestVersion = -1;
+    private long submittedCount;
+    private long skippedCount;
+
+    /**
+     * Creates a saver that writes to {@code storage}. {@code delayMillis} is the group commit window under
+     * {@link SaveDurability#GROUP_COMMIT} and the idle time under {@link SaveDurability#ON_IDLE}.
+     */
+    public AddressBookSaver(AddressBookStorage storage, SaveDurability durability, long delayMillis) {
+        requireAllNonNull(storage, durability);
+        checkArgument(delayMillis >= 0);
+        this.storage = storage;
+        this.durability = durability;
+        this.delayMillis = delayMillis;
+        this.executor = durability == SaveDurability.SYNCHRONOUS ? null
+                : Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "hall-ledger-saver");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Sets the handler that is passed the exception of each failed background write.
+     * The handler is called on the saving thread.
+     */
+    public void setErrorHandler(Consumer<IOException> errorHandler) {
+        requireNonNull(errorHandler);
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Records that the address book at modification version {@code version} is already in storage, such as one just
+     * read from it, so that a snapshot at that version is skipped.
+     */
+    public synchronized void markSaved(long version) {
+        latestVersion = version;
+    }
+
+    /**
+     * Records the changes made to {@code persons} from now on, so that each snapshot of them is saved with the
+     * changes made since the previous one.
+     */
+    public void trackChanges(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        isTrackingChanges = true;
+        unsubmittedChanges = new ArrayList<>();
+        persons.addListener(this::recordChanges);
+    }
+
+    /**
+     * Saves a snapshot of {@code addressBook}, which is at modification version {@code version}, unless a snapshot
+     * at that version was already saved. Under {@link SaveDurability#SYNCHRONOUS} the snapshot is written before
+     * this method returns; otherwise it is written later by the saving thread.
+     *
+     * @throws IOException if the snapshot is written synchronously and writing it fails.
+     */
+    public void submit(ReadOnlyAddressBook addressBook, long version) throws IOException {
+        requireNonNull(addressBook);
+        synchronized (this) {
+            if (version == latestVersion && pendingSnapshot == null) {
+                skippedCount++;
+                logger.info("Hall ledger unchanged at version " + version + ", not saving ("
+                        + skippedCount + " skipped, " + submittedCount + " saved)");
+                return;
+            }
+            submittedCount++;
+            logger.info("Hall ledger changed from version " + latestVersion + " to " + version + ", saving ("
+                    + skippedCount + " skipped, " + submittedCount + " saved)");
+        }
+
+        ReadOnlyAddressBook snapshot = new Snapshot(addressBook);
+        List<PersonChange> changes = unsubmittedChanges;
+        unsubmittedChanges = isTrackingChanges ? new ArrayList<>() : null;
+        if (executor == null) {
+            try {
+                write(snapshot, changes);
+            } catch (IOException e) {
+                unsubmittedChanges = concat(changes, unsubmittedChanges);
+                throw e;
+            }
+            synchronized (this) {
+                latestVersion = version;
+            }
+            return;
+        }
+
+        synchronized (this) {
+            latestVersion = version;
+            if (pendingSnapshot != null) {
+                coalescedCount++;
+                pendingChanges = concat(pendingChanges, changes);
+            } else {
+                pendingChanges = changes;
+            }
+            pendingSnapshot = snapshot;
+            if (durability == SaveDurability.ON_IDLE && scheduledWrite != null) {
+                // Restart the idle timer; a write that has already started is not interrupted
+                scheduledWrite.cancel(false);
+                scheduledWrite = null;
+            }
+            if (scheduledWrite == null) {
+                scheduledWrite = executor.schedule(this::writeInBackground, delayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Writes the latest snapshot not yet written, if any, and waits until it is written.
+     * Does nothing once this saver is closed.
+     *
+     * @throws IOException if writing the snapshot fails.
+     */
+    public void flush() throws IOException {
+        if (executor == null || executor.isShutdown()) {
+            return;
+        }
+        try {
+            executor.submit(() -> {
+                writePendingSnapshot();
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Writes the latest snapshot not yet written, if any, then stops the saving thread.
+     * No snapshot may be submitted afterwards.
+     *
+     * @throws IOException if writing the snapshot fails.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private void writeInBackground() {
+        try {
+            writePendingSnapshot();
+        } catch (IOException e) {
+            errorHandler.accept(e);
+        }
+    }
+
+    /**
+     * Writes the pending snapshot. If writing fails, the snapshot stays pending unless a newer one was submitted.
+     */
+    private void writePendingSnapshot() throws IOException {
+        ReadOnlyAddressBook snapshot;
+        List<PersonChange> changes;
+        long coalesced;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            changes = pendingChanges;
+            coalesced = coalescedCount;
+            pendingSnapshot = null;
+            pendingChanges = null;
+            coalescedCount = 0;
+            scheduledWrite = null;
+        }
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            write(snapshot, changes);
+            logger.fine("Saved hall ledger snapshot of " + snapshot.getPersonList().size() + " residents, "
+                    + "replacing " + coalesced + " unwritten snapshot(s)");
+        } catch (IOException e) {
+            synchronized (this) {
+                if (pendingSnapshot == null) {
+                    pendingSnapshot = snapshot;
+                    pendingChanges = changes;
+                } else {
+                    pendingChanges = concat(changes, pendingChanges);
+                }
+            }
+            throw e;
+        }
+    }
+
+    private void write(ReadOnlyAddressBook snapshot, List<PersonChange> changes) throws IOException {
+        if (changes == null) {
+            storage.saveAddressBook(snapshot);
+        } else {
+            storage.saveAddressBookChanges(snapshot, changes);
+        }
+    }
+
+    /**
+     * Records the changes to the persons described by {@code change}. A change that replaces more than one person
+     * at once, or reorders them, cannot be told apart from a reset, so it leaves the changes unknown.
+     */
+    private void recordChanges(ListChangeListener.Change<? extends Person> change) {
+        while (change.next() && unsubmittedChanges != null) {
+            if (change.wasPermutated() || change.wasUpdated()
+                    || change.wasReplaced() && (change.getRemovedSize() != 1 || change.getAddedSize() != 1)) {
+                unsubmittedChanges = null;
+            } else if (change.wasReplaced()) {
+                unsubmittedChanges.add(new PersonChange(change.getRemoved().get(0), change.getAddedSubList().get(0)));
+            } else {
+                change.getRemoved().forEach(person -> unsubmittedChanges.add(PersonChange.removed(person)));
+                change.getAddedSubList().forEach(person -> unsubmittedChanges.add(PersonChange.added(person)));
+            }
+        }
+    }
+
+    /**
+     * Returns {@code earlier} followed by {@code later}, or null if either is not known.
+     */
+    private static List<PersonChange> concat(List<PersonChange> earlier, List<PersonChange> later) {
+        if (earlier == null || later == null) {
+            return null;
+        }
+        List<PersonChange> changes = new ArrayList<>(earlier);
+        changes.addAll(later);
+        return changes;
+    }
+
+    /**
+     * An immutable copy of the persons of an address book.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+
+        Snapshot(ReadOnlyAddressBook addressBook) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(addressBook.getPersonList()));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
@@ -11,7 +12,11 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.FilterDetails;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyFilterDetails;
+import seedu.address.model.demerit.DemeritRuleSet;
+import seedu.address.model.demerit.DemeritSummary;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.TagValueCounts;
+import seedu.address.model.tag.TagType;
 
 /**
  * API of the Logic component
@@ -43,6 +48,19 @@ public interface Logic {
      */
     boolean requiresConfirmation(String commandText);
 
+    /**
+     * Sets the handler that is passed the error message of each failed background save.
+     * The handler may be called on a thread other than the one executing commands.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
+    /**
+     * Saves any changes not yet saved and stops saving in the background.
+     *
+     * @throws CommandException If the changes could not be saved.
+     */
+    void close() throws CommandException;
+
     /**
      * Returns the AddressBook.
      *
@@ -53,6 +71,25 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Counts the persons in the filtered list by their {@code tagType} tag.
+     *
+     * @see seedu.address.model.Model#countFilteredTagValues(TagType)
+     */
+    TagValueCounts countFilteredTagValues(TagType tagType);
+
+    /**
+     * Returns the hall-wide demerit totals of each rule.
+     *
+     * @see seedu.address.model.Model#getDemeritSummary()
+     */
+    DemeritSummary getDemeritSummary();
+
+    /**
+     * Returns the demerit rules in force.
+     */
+    DemeritRuleSet getDemeritRules();
+
     /**
      * Returns the user prefs' address book file path.
      */
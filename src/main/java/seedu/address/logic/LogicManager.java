@@ -3,12 +3,14 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
@@ -21,7 +23,11 @@ import seedu.address.model.FilterDetails;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyFilterDetails;
+import seedu.address.model.demerit.DemeritRuleSet;
+import seedu.address.model.demerit.DemeritSummary;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.TagValueCounts;
+import seedu.address.model.tag.TagType;
 import seedu.address.storage.Storage;
 
 /**
@@ -38,14 +44,33 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final AddressBookSaver addressBookSaver;
+    private volatile Consumer<String> saveErrorHandler = message -> { };
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Changes are saved according to the save durability in the model's user prefs.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, false);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Changes are saved according to the save durability in the model's user prefs. If {@code isAddressBookSaved},
+     * the model's address book is the one in storage, so commands that leave it unchanged do not save it.
+     */
+    public LogicManager(Model model, Storage storage, boolean isAddressBookSaved) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        addressBookSaver = new AddressBookSaver(storage, model.getUserPrefs().getSaveDurability(),
+                model.getUserPrefs().getSaveDelayMillis());
+        addressBookSaver.setErrorHandler(this::reportBackgroundSaveError);
+        addressBookSaver.trackChanges(model.getAddressBook().getPersonList());
+        if (isAddressBookSaved) {
+            addressBookSaver.markSaved(model.getAddressBookVersion());
+        }
     }
 
     // ========================= Command Executor ===============================================
@@ -62,20 +87,54 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        refreshDemeritRules();
         Command command = addressBookParser.parseCommand(commandText);
         CommandResult commandResult = command.execute(model);
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            addressBookSaver.submit(model.getAddressBook(), model.getAddressBookVersion());
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    /**
+     * Returns the message shown to the user when saving fails with {@code e}.
+     */
+    private static String getSaveErrorMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
+    private void reportBackgroundSaveError(IOException e) {
+        String message = getSaveErrorMessage(e);
+        logger.warning(message);
+        saveErrorHandler.accept(message);
+    }
+
+    /**
+     * Puts the rules in the rule file in force if the file has been edited since it was last read.
+     * An invalid rule file, or one that changes the rules without raising their version, is reported in the log and
+     * leaves the current rules in force.
+     */
+    private void refreshDemeritRules() {
+        try {
+            storage.readDemeritRulesIfChanged().ifPresent(ruleSet -> {
+                model.getDemeritRuleCatalogue().install(ruleSet);
+                logger.info("Demerit rules version " + ruleSet.getVersion() + " loaded from "
+                        + storage.getDemeritRuleFilePath());
+            });
+        } catch (DataLoadingException | IllegalArgumentException e) {
+            logger.warning("Demerit rule file at " + storage.getDemeritRuleFilePath() + " could not be loaded."
+                    + " Keeping demerit rules version " + model.getDemeritRuleCatalogue().getVersion() + ": "
+                    + e.getMessage());
+        }
+    }
+
     /**
      * Executes the filter command and returns the result. Calls on {@code FindCommand} to perform the filtering based
      * on the {@link FilterDetails} called.
@@ -99,13 +158,26 @@ public class LogicManager implements Logic {
         return command.execute(model);
     }
 
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        this.saveErrorHandler = saveErrorHandler;
+    }
+
+    @Override
+    public void close() throws CommandException {
+        try {
+            addressBookSaver.close();
+        } catch (IOException ioe) {
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
+        }
+    }
+
     @Override
     public boolean requiresConfirmation(String commandText) {
         try {
             Command command = addressBookParser.parseCommand(commandText);
             if (command instanceof DeleteCommand deleteCommand) {
-                return model.getAddressBook().getPersonList().stream()
-                        .anyMatch(person -> person.getStudentId().equals(deleteCommand.getTargetStudentId()));
+                return model.getPersonByStudentId(deleteCommand.getTargetStudentId()).isPresent();
             }
             if (command instanceof ClearCommand) {
                 return !model.getAddressBook().getPersonList().isEmpty();
@@ -126,6 +198,21 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public TagValueCounts countFilteredTagValues(TagType tagType) {
+        return model.countFilteredTagValues(tagType);
+    }
+
+    @Override
+    public DemeritSummary getDemeritSummary() {
+        return model.getDemeritSummary();
+    }
+
+    @Override
+    public DemeritRuleSet getDemeritRules() {
+        return model.getDemeritRuleCatalogue().getRules();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
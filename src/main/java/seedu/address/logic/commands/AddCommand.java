@@ -41,6 +41,8 @@ public class AddCommand extends Command {
     public static final String MESSAGE_DUPLICATE_PERSON = "A resident with this student id already exists in "
             + "the hall ledger";
     public static final String MESSAGE_ROOM_OCCUPIED = "This room is already occupied!";
+    public static final String MESSAGE_INCIDENT_KEY_IN_USE = "This student ID still identifies the demerit incidents "
+            + "of another resident";
 
     private final Person toAdd;
 
@@ -64,6 +66,10 @@ public class AddCommand extends Command {
             throw new CommandException(MESSAGE_ROOM_OCCUPIED);
         }
 
+        if (model.getPersonByIncidentKey(toAdd.getStudentId()).isPresent()) {
+            throw new CommandException(MESSAGE_INCIDENT_KEY_IN_USE);
+        }
+
         model.addPerson(toAdd);
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.formatNoOptionalFields(toAdd)));
     }
@@ -3,8 +3,8 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.commands.util.ModelUtil.getPersonByStudentIdOrThrow;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
@@ -12,12 +12,15 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.demerit.DemeritIncident;
 import seedu.address.model.demerit.DemeritRule;
-import seedu.address.model.demerit.DemeritRuleCatalogue;
+import seedu.address.model.demerit.DemeritRuleSet;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.StudentId;
 
 /**
  * Applies a demerit rule to a resident identified by student ID.
+ *
+ * <p>The offence tier counts the resident's earlier offences against the same rule, either across all time or,
+ * if the user prefs set a demerit tier window, within that many days before now.
  */
 public class DemeritCommand extends Command {
 
@@ -69,35 +72,22 @@ public class DemeritCommand extends Command {
 
         Person personToUpdate = getPersonByStudentIdOrThrow(model, targetStudentId);
 
-        DemeritRule rule = DemeritRuleCatalogue.findByIndex(ruleIndex)
+        DemeritRuleSet rules = model.getDemeritRuleCatalogue().getRules();
+        DemeritRule rule = rules.findByIndex(ruleIndex)
                 .orElseThrow(() -> new CommandException(String.format(MESSAGE_RULE_NOT_FOUND, ruleIndex)));
 
-        int priorOccurrences = personToUpdate.getOccurrenceCountForRule(ruleIndex);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        int windowDays = model.getUserPrefs().getDemeritTierWindowDays();
+        int priorOccurrences = windowDays == 0
+                ? personToUpdate.getOccurrenceCountForRule(ruleIndex)
+                : personToUpdate.getOccurrenceCountForRuleSince(ruleIndex, now.minusDays(windowDays));
         int offenceNumber = priorOccurrences + 1;
         int pointsApplied = rule.getPointsForOccurrence(offenceNumber);
 
-        DemeritIncident newIncident = new DemeritIncident(
-                rule.getIndex(),
-                rule.getTitle(),
-                offenceNumber,
-                pointsApplied,
-                remark
-        );
-
-        List<DemeritIncident> updatedIncidents = new ArrayList<>(personToUpdate.getDemeritIncidents());
-        updatedIncidents.add(newIncident);
-
-        Person updatedPerson = new Person(
-                personToUpdate.getName(),
-                personToUpdate.getPhone(),
-                personToUpdate.getEmail(),
-                personToUpdate.getStudentId(),
-                personToUpdate.getRoomNumber(),
-                personToUpdate.getEmergencyContact(),
-                personToUpdate.getRemark(),
-                personToUpdate.getTags(),
-                updatedIncidents
-        );
+        DemeritIncident newIncident = new DemeritIncident(rule, rules.getVersion(), offenceNumber, pointsApplied,
+                remark).withRecordedAt(now);
+
+        Person updatedPerson = personToUpdate.withDemeritIncident(newIncident);
 
         model.setPerson(personToUpdate, updatedPerson);
         model.showAllPersons();
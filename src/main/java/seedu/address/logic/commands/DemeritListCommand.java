@@ -1,7 +1,6 @@
 package seedu.address.logic.commands;
 
 import seedu.address.model.Model;
-import seedu.address.model.demerit.DemeritRuleCatalogue;
 
 /**
  * Lists all available demerit rules and their point tiers.
@@ -16,7 +15,7 @@ public class DemeritListCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) {
-        return new CommandResult(DemeritRuleCatalogue.formatAllRules());
+        return new CommandResult(model.getDemeritRuleCatalogue().formatAllRules());
     }
 
     @Override
@@ -0,0 +1,51 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.Model;
+import seedu.address.model.demerit.DemeritRuleSet;
+import seedu.address.model.demerit.DemeritSummary;
+import seedu.address.model.demerit.RuleStatistics;
+
+/**
+ * Reports the hall-wide demerit totals of each rule, most incidents first.
+ * The displayed list of residents is not changed.
+ */
+public class DemeritReportCommand extends Command {
+
+    public static final String COMMAND_WORD = "demeritreport";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Reports the number of incidents and points issued for each demerit rule, most incidents first.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "%1$d incident(s) across %2$d rule(s), %3$d points issued:";
+    public static final String MESSAGE_NO_INCIDENTS = "No demerit incidents have been recorded.";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        DemeritSummary summary = model.getDemeritSummary();
+        if (summary.totalIncidents() == 0) {
+            return new CommandResult(MESSAGE_NO_INCIDENTS);
+        }
+
+        DemeritRuleSet ruleSet = model.getDemeritRuleCatalogue().getRules();
+        List<RuleStatistics> rules = summary.getRulesByMostIncidents();
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(MESSAGE_SUCCESS, summary.totalIncidents(), rules.size(),
+                summary.totalPointsIssued()));
+        for (RuleStatistics rule : rules) {
+            lines.add(DemeritSummary.formatEntry(rule, ruleSet));
+        }
+        return new CommandResult(String.join("\n", lines));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof DemeritReportCommand;
+    }
+}
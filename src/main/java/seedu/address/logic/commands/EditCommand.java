@@ -55,6 +55,8 @@ public class EditCommand extends Command {
     public static final String MESSAGE_DUPLICATE_PERSON = "The edit details cause duplicated resident details "
             + "in the address book.";
     public static final String MESSAGE_ROOM_OCCUPIED = "This room is already occupied!";
+    public static final String MESSAGE_INCIDENT_KEY_IN_USE = "This student ID still identifies the demerit "
+            + "incidents of another resident";
     public static final String MESSAGE_DUPLICATE_STUDENT_ID_PREFIX = "Please ensure that there are at most two "
             + PREFIX_STUDENT_ID + "prefixes, the first indicates the Student ID of the resident to edit, the "
             + "second indicates the resident's edited student ID value.\n%s";
@@ -99,6 +101,13 @@ public class EditCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
 
+        boolean incidentKeyOfOther = model.getPersonByIncidentKey(editedPerson.getStudentId())
+                .filter(owner -> !owner.isSamePerson(personToEdit))
+                .isPresent();
+        if (incidentKeyOfOther) {
+            throw new CommandException(MESSAGE_INCIDENT_KEY_IN_USE);
+        }
+
         model.setPerson(personToEdit, editedPerson);
         model.showAllPersons();
         model.setSelectedPerson(editedPerson);
@@ -113,26 +122,17 @@ public class EditCommand extends Command {
     private static Person createEditedPerson(Person personToEdit, EditPersonDescriptor editPersonDescriptor) {
         assert personToEdit != null;
 
-        Name updatedName = editPersonDescriptor.getName().orElse(personToEdit.getName());
-        Phone updatedPhone = editPersonDescriptor.getPhone().orElse(personToEdit.getPhone());
-        Email updatedEmail = editPersonDescriptor.getEmail().orElse(personToEdit.getEmail());
-        StudentId updatedStudentId = editPersonDescriptor.getStudentId().orElse(personToEdit.getStudentId());
-        RoomNumber updatedRoomNumber = editPersonDescriptor.getRoomNumber().orElse(personToEdit.getRoomNumber());
-        EmergencyContact updatedEmergencyContact = editPersonDescriptor.getEmergencyContact()
-                .orElse(personToEdit.getEmergencyContact());
-        Remark updatedRemark = editPersonDescriptor.getRemark().orElse(personToEdit.getRemark());
-
-        return new Person(
-                updatedName,
-                updatedPhone,
-                updatedEmail,
-                updatedStudentId,
-                updatedRoomNumber,
-                updatedEmergencyContact,
-                updatedRemark,
-                personToEdit.getTags(), // Tags are not editable through EditCommand, so we keep the original tags
-                personToEdit.getDemeritIncidents()
-        );
+        // Tags are not editable through EditCommand; they and the demerit history are shared with personToEdit
+        Person editedPerson = personToEdit;
+        editedPerson = editPersonDescriptor.getName().map(editedPerson::withName).orElse(editedPerson);
+        editedPerson = editPersonDescriptor.getPhone().map(editedPerson::withPhone).orElse(editedPerson);
+        editedPerson = editPersonDescriptor.getEmail().map(editedPerson::withEmail).orElse(editedPerson);
+        editedPerson = editPersonDescriptor.getStudentId().map(editedPerson::withStudentId).orElse(editedPerson);
+        editedPerson = editPersonDescriptor.getRoomNumber().map(editedPerson::withRoomNumber).orElse(editedPerson);
+        editedPerson = editPersonDescriptor.getEmergencyContact().map(editedPerson::withEmergencyContact)
+                .orElse(editedPerson);
+        editedPerson = editPersonDescriptor.getRemark().map(editedPerson::withRemark).orElse(editedPerson);
+        return editedPerson;
     }
 
     @Override
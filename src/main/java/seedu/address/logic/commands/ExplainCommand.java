@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.FilterCacheStatistics;
+import seedu.address.model.FilterDetails;
+import seedu.address.model.Model;
+import seedu.address.model.search.QueryPlan;
+
+/**
+ * Shows the plan a {@code find} with the same parameters would use, and the time spent in each of its steps.
+ * The displayed list of residents is not changed.
+ */
+public class ExplainCommand extends Command {
+
+    public static final String COMMAND_WORD = "explain";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the order in which a find checks each prefix, and the time spent on each check. "
+            + "The displayed residents are not changed.\n"
+            + "Parameters: the same as " + FindCommand.COMMAND_WORD + "\n"
+            + "Example: " + COMMAND_WORD + " n=Alice i=A1234567X";
+
+    public static final String MESSAGE_CACHE_STATISTICS = "Filter result cache: %1$d hits, %2$d patched hits, "
+            + "%3$d misses";
+
+    private final FilterDetails filterDetails;
+
+    /**
+     * Creates an {@code ExplainCommand} for the given {@code FilterDetails}.
+     */
+    public ExplainCommand(FilterDetails filterDetails) {
+        requireNonNull(filterDetails);
+        this.filterDetails = new FilterDetails(filterDetails);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        QueryPlan plan = model.planQuery(filterDetails);
+        FilterCacheStatistics statistics = model.getFilterCacheStatistics();
+        return new CommandResult(plan.explain(model.getAddressBook().getPersonList()).format() + "\n"
+                + String.format(MESSAGE_CACHE_STATISTICS, statistics.hits(), statistics.patchedHits(),
+                        statistics.misses()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExplainCommand otherExplainCommand)) {
+            return false;
+        }
+
+        return filterDetails.equals(otherExplainCommand.filterDetails);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filterDetails", filterDetails)
+                .toString();
+    }
+}
@@ -22,8 +22,9 @@ public class FindCommand extends Command {
             + ": Finds persons by prefixes (case-insensitive). Returns residents that satisfy all"
             + " specified prefixes.\n"
             + "Parameters: [n=NAME] [p=PHONE] [e=EMAIL] [r=ROOM_NUMBER] [i=STUDENT_ID] [ec=EMERGENCY_CONTACT] [y=YEAR] "
-            + "[m=MAJOR] [g=GENDER]\n"
-            + "Example: " + COMMAND_WORD + " n=Alice p=91234567 y=1";
+            + "[m=MAJOR] [g=GENDER] [dp=DEMERIT_POINTS]\n"
+            + "Example: " + COMMAND_WORD + " n=Alice p=91234567 y=1\n"
+            + "Example: " + COMMAND_WORD + " dp=25- (residents with at least 25 demerit points)";
 
     private final FilterDetails filterDetails;
     private final PersonMatchesDetailsPredicate predicate;
@@ -46,6 +47,13 @@ public class FindCommand extends Command {
         this.warningMessage = warningMessage;
     }
 
+    /**
+     * Returns a copy of the filter details applied by this command.
+     */
+    public FilterDetails getFilterDetails() {
+        return new FilterDetails(filterDetails);
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
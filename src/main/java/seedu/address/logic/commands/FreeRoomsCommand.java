@@ -0,0 +1,72 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.RoomNumber;
+
+/**
+ * Lists the rooms on a floor that no resident occupies.
+ * The displayed list of residents is not changed.
+ */
+public class FreeRoomsCommand extends Command {
+
+    public static final String COMMAND_WORD = "freerooms";
+    public static final int MAX_FLOOR = 99;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the rooms on a floor that no resident occupies.\n"
+            + "Parameters: FLOOR (integer from 0 to " + MAX_FLOOR + ")\n"
+            + "Example: " + COMMAND_WORD + " 12";
+
+    public static final String MESSAGE_SUCCESS = "%1$d free room(s) on floor %2$d: %3$s";
+    public static final String MESSAGE_NO_FREE_ROOMS = "Every room on floor %1$d is occupied.";
+
+    private final int floor;
+
+    /**
+     * Creates a {@code FreeRoomsCommand} that lists the free rooms on {@code floor}.
+     */
+    public FreeRoomsCommand(int floor) {
+        checkArgument(floor >= 0 && floor <= MAX_FLOOR);
+        this.floor = floor;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<RoomNumber> freeRooms = model.getFreeRooms(floor);
+        if (freeRooms.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_FREE_ROOMS, floor));
+        }
+
+        String rooms = freeRooms.stream().map(RoomNumber::toString).collect(Collectors.joining(", "));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, freeRooms.size(), floor, rooms));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FreeRoomsCommand otherFreeRoomsCommand)) {
+            return false;
+        }
+
+        return floor == otherFreeRoomsCommand.floor;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("floor", floor)
+                .toString();
+    }
+}
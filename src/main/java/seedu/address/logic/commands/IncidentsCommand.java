@@ -0,0 +1,112 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEMERIT_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDENT_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.demerit.IncidentQuery;
+import seedu.address.model.demerit.IncidentRecord;
+import seedu.address.model.person.Person;
+
+/**
+ * Lists the demerit incidents across all residents that match the given rule, resident, date range and remark
+ * words, earliest first.
+ * The displayed list of residents is not changed.
+ */
+public class IncidentsCommand extends Command {
+
+    public static final String COMMAND_WORD = "incidents";
+    public static final int MAX_LISTED = 50;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the demerit incidents across all residents that match every given constraint, "
+            + "earliest first.\n"
+            + "Parameters: "
+            + "[" + PREFIX_DEMERIT_INDEX + "RULE_INDEX] "
+            + "[" + PREFIX_STUDENT_ID + "STUDENT_ID] "
+            + "[" + PREFIX_FROM + "YYYY-MM-DD] "
+            + "[" + PREFIX_TO + "YYYY-MM-DD] "
+            + "[" + PREFIX_REMARK + "REMARK_WORDS]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_DEMERIT_INDEX + "21 "
+            + PREFIX_FROM + "2024-10-01 "
+            + PREFIX_REMARK + "fire exit";
+
+    public static final String MESSAGE_SUCCESS = "%1$d incident(s) found:";
+    public static final String MESSAGE_ENTRY = "%1$s %2$s (%3$s), %4$s: %5$s";
+    public static final String MESSAGE_MORE = "... and %1$d more";
+    public static final String MESSAGE_NO_INCIDENTS = "No demerit incidents match.";
+    public static final String UNKNOWN_TIME = "time unknown";
+
+    private final IncidentQuery query;
+
+    /**
+     * Creates an {@code IncidentsCommand} that lists the incidents matching {@code query}.
+     */
+    public IncidentsCommand(IncidentQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<IncidentRecord> records = model.findIncidents(query);
+        if (records.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_INCIDENTS);
+        }
+
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(MESSAGE_SUCCESS, records.size()));
+        for (IncidentRecord record : records.subList(0, Math.min(records.size(), MAX_LISTED))) {
+            lines.add(formatEntry(model, record));
+        }
+        if (records.size() > MAX_LISTED) {
+            lines.add(String.format(MESSAGE_MORE, records.size() - MAX_LISTED));
+        }
+        return new CommandResult(String.join("\n", lines));
+    }
+
+    /**
+     * Formats one incident as a line of the result.
+     */
+    public static String formatEntry(Model model, IncidentRecord record) {
+        String name = model.getPersonByStudentId(record.residentId())
+                .map(Person::getName)
+                .map(Object::toString)
+                .orElse("");
+        String time = record.incident().getRecordedAt()
+                .map(Object::toString)
+                .orElse(UNKNOWN_TIME);
+        return String.format(MESSAGE_ENTRY, record.getId(), name, record.residentId(), time, record.incident());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IncidentsCommand otherIncidentsCommand)) {
+            return false;
+        }
+
+        return query.equals(otherIncidentsCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Lists the residents with the most demerit points, most points first.
+ * The displayed list of residents is not changed.
+ */
+public class LeaderboardCommand extends Command {
+
+    public static final String COMMAND_WORD = "leaderboard";
+    public static final int DEFAULT_SIZE = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the residents with the most demerit points, most points first.\n"
+            + "Parameters: [NUMBER_OF_RESIDENTS] (positive integer, defaults to " + DEFAULT_SIZE + ")\n"
+            + "Example: " + COMMAND_WORD + " 20";
+
+    public static final String MESSAGE_SUCCESS = "Top %1$d resident(s) by demerit points:";
+    public static final String MESSAGE_ENTRY = "%1$d. %2$s (%3$s, room %4$s): %5$d points";
+    public static final String MESSAGE_NO_DEMERIT_POINTS = "No resident has any demerit points.";
+
+    private final int size;
+
+    /**
+     * Creates a {@code LeaderboardCommand} that lists at most {@code size} residents.
+     */
+    public LeaderboardCommand(int size) {
+        checkArgument(size > 0);
+        this.size = size;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Person> leaderboard = model.getDemeritLeaderboard(size);
+        if (leaderboard.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_DEMERIT_POINTS);
+        }
+
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(MESSAGE_SUCCESS, leaderboard.size()));
+        for (int i = 0; i < leaderboard.size(); i++) {
+            Person person = leaderboard.get(i);
+            lines.add(String.format(MESSAGE_ENTRY, i + 1, person.getName(), person.getStudentId(),
+                    person.getRoomNumber(), person.getTotalDemeritPoints()));
+        }
+        return new CommandResult(String.join("\n", lines));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LeaderboardCommand otherLeaderboardCommand)) {
+            return false;
+        }
+
+        return size == otherLeaderboardCommand.size;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("size", size)
+                .toString();
+    }
+}
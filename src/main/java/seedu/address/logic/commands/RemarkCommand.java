@@ -64,17 +64,7 @@ public class RemarkCommand extends Command {
      * @return a new {@code Person} instance with the updated remark.
      */
     private static Person createEditedPerson(Person personToRemark, Remark remark) {
-        Person newPerson = new Person(
-                personToRemark.getName(),
-                personToRemark.getPhone(),
-                personToRemark.getEmail(),
-                personToRemark.getStudentId(),
-                personToRemark.getRoomNumber(),
-                personToRemark.getEmergencyContact(),
-                remark, // add the new remark or overwrite the existing remark
-                personToRemark.getTags(),
-                personToRemark.getDemeritIncidents()
-        );
+        Person newPerson = personToRemark.withRemark(remark); // add the new remark or overwrite the existing remark
         assert newPerson.getRemark().equals(remark) : "New person remark should be the same as the input remark";
         return newPerson;
     }
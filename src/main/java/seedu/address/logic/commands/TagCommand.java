@@ -83,17 +83,7 @@ public class TagCommand extends Command {
      */
     private static Person createTaggedPerson(Person personToTag, Map<TagType, Tag> tags) {
         Map<TagType, Tag> updatedTags = computeUpdatedTags(personToTag.getTags(), tags);
-        return new Person(
-                personToTag.getName(),
-                personToTag.getPhone(),
-                personToTag.getEmail(),
-                personToTag.getStudentId(),
-                personToTag.getRoomNumber(),
-                personToTag.getEmergencyContact(),
-                personToTag.getRemark(),
-                updatedTags,
-                personToTag.getDemeritIncidents()
-        );
+        return personToTag.withTags(updatedTags);
     }
 
     /**
@@ -14,10 +14,15 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DemeritCommand;
 import seedu.address.logic.commands.DemeritListCommand;
+import seedu.address.logic.commands.DemeritReportCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExplainCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FreeRoomsCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.IncidentsCommand;
+import seedu.address.logic.commands.LeaderboardCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RemarkCommand;
 import seedu.address.logic.commands.TagCommand;
@@ -73,6 +78,9 @@ public class AddressBookParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case ExplainCommand.COMMAND_WORD:
+            return new ExplainCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
@@ -91,9 +99,21 @@ public class AddressBookParser {
         case DemeritListCommand.COMMAND_WORD:
             return new DemeritListCommandParser().parse(arguments);
 
+        case DemeritReportCommand.COMMAND_WORD:
+            return new DemeritReportCommandParser().parse(arguments);
+
         case DemeritCommand.COMMAND_WORD:
             return new DemeritCommandParser().parse(arguments);
 
+        case FreeRoomsCommand.COMMAND_WORD:
+            return new FreeRoomsCommandParser().parse(arguments);
+
+        case LeaderboardCommand.COMMAND_WORD:
+            return new LeaderboardCommandParser().parse(arguments);
+
+        case IncidentsCommand.COMMAND_WORD:
+            return new IncidentsCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
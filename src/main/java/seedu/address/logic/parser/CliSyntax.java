@@ -16,5 +16,8 @@ public class CliSyntax {
     public static final Prefix PREFIX_TAG_MAJOR = new Prefix("m=");
     public static final Prefix PREFIX_TAG_GENDER = new Prefix("g=");
     public static final Prefix PREFIX_DEMERIT_INDEX = new Prefix("di=");
+    public static final Prefix PREFIX_DEMERIT_POINTS = new Prefix("dp=");
     public static final Prefix PREFIX_REMARK = new Prefix("rm=");
+    public static final Prefix PREFIX_FROM = new Prefix("from=");
+    public static final Prefix PREFIX_TO = new Prefix("to=");
 }
@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.DemeritReportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code DemeritReportCommand} object.
+ */
+public class DemeritReportCommandParser implements Parser<DemeritReportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the DemeritReportCommand
+     * and returns a DemeritReportCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public DemeritReportCommand parse(String args) throws ParseException {
+        if (!args.trim().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, DemeritReportCommand.MESSAGE_USAGE));
+        }
+
+        return new DemeritReportCommand();
+    }
+}
+
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_EMPTY_ARGUMENT;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_PREFIX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEMERIT_POINTS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMERGENCY_CONTACT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
@@ -57,7 +58,7 @@ public class FindCommandParser implements Parser<FindCommand> {
 
     private static final Prefix[] SUPPORTED_PREFIXES = new Prefix[]{
         PREFIX_NAME, PREFIX_EMAIL, PREFIX_PHONE, PREFIX_ROOM_NUMBER, PREFIX_STUDENT_ID,
-        PREFIX_EMERGENCY_CONTACT, PREFIX_TAG_YEAR, PREFIX_TAG_MAJOR, PREFIX_TAG_GENDER
+        PREFIX_EMERGENCY_CONTACT, PREFIX_TAG_YEAR, PREFIX_TAG_MAJOR, PREFIX_TAG_GENDER, PREFIX_DEMERIT_POINTS
     };
 
     /**
@@ -82,6 +83,7 @@ public class FindCommandParser implements Parser<FindCommand> {
         ArgumentMultimap argMultimap = tokenizeAndCheckInvalidFormat(args);
 
         FilterDetails filterDetails = buildFilterDetails(argMultimap);
+        filterDetails.setDemeritPointsKeywords(parsePointRanges(argMultimap.getAllValues(PREFIX_DEMERIT_POINTS)));
         validateFilterKeywordLimits(filterDetails);
 
         // Message warns users that invalid keywords are being used for prefixes that only accepts
@@ -250,6 +252,22 @@ public class FindCommandParser implements Parser<FindCommand> {
         return invalidValues;
     }
 
+    /**
+     * Parses demerit point ranges into their canonical form, so that equal ranges written differently are only
+     * kept once. Unlike gender and year keywords, an invalid range is rejected rather than ignored.
+     *
+     * <p><b>Example:</b> Input ["25-", " 25 - ", "0-5"] -> Output ["25-", "0-5"]
+     *
+     * @throws ParseException if any range is invalid
+     */
+    private Set<String> parsePointRanges(List<String> rawRanges) throws ParseException {
+        Set<String> ranges = new HashSet<>();
+        for (String rawRange : rawRanges) {
+            ranges.add(ParserUtil.parsePointRange(rawRange).toString());
+        }
+        return ranges;
+    }
+
     private static Set<String> toSet(List<String> rawKeywords) {
         return new HashSet<>(rawKeywords);
     }
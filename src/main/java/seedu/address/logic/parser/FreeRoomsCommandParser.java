@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.FreeRoomsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code FreeRoomsCommand} object.
+ */
+public class FreeRoomsCommandParser implements Parser<FreeRoomsCommand> {
+
+    /** One or two digits, as at the start of a {@code RoomNumber}. */
+    private static final String FLOOR_REGEX = "\\d{1,2}";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FreeRoomsCommand
+     * and returns a FreeRoomsCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FreeRoomsCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (!trimmedArgs.matches(FLOOR_REGEX)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeRoomsCommand.MESSAGE_USAGE));
+        }
+
+        return new FreeRoomsCommand(Integer.parseInt(trimmedArgs));
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEMERIT_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDENT_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import seedu.address.logic.commands.IncidentsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.demerit.IncidentQuery;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Parses input arguments and creates a new {@code IncidentsCommand} object.
+ */
+public class IncidentsCommandParser implements Parser<IncidentsCommand> {
+
+    public static final String MESSAGE_EMPTY_REMARK = "Remark words to search for must not be blank.";
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The from= date must not be after the to= date.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the IncidentsCommand
+     * and returns an IncidentsCommand object for execution.
+     * The {@code to=} date is inclusive.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public IncidentsCommand parse(String args) throws ParseException {
+        ParserUtil.checkForUnknownPrefixes(args, IncidentsCommand.MESSAGE_USAGE,
+                PREFIX_DEMERIT_INDEX, PREFIX_STUDENT_ID, PREFIX_FROM, PREFIX_TO, PREFIX_REMARK);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
+                PREFIX_DEMERIT_INDEX, PREFIX_STUDENT_ID, PREFIX_FROM, PREFIX_TO, PREFIX_REMARK);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, IncidentsCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(
+                PREFIX_DEMERIT_INDEX, PREFIX_STUDENT_ID, PREFIX_FROM, PREFIX_TO, PREFIX_REMARK);
+
+        Integer ruleIndex = argMultimap.getValue(PREFIX_DEMERIT_INDEX).isPresent()
+                ? ParserUtil.parseDemeritIndex(argMultimap.getValue(PREFIX_DEMERIT_INDEX).get())
+                : null;
+        StudentId studentId = argMultimap.getValue(PREFIX_STUDENT_ID).isPresent()
+                ? ParserUtil.parseStudentId(argMultimap.getValue(PREFIX_STUDENT_ID).get())
+                : null;
+        LocalDate fromDate = argMultimap.getValue(PREFIX_FROM).isPresent()
+                ? ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get())
+                : null;
+        LocalDate toDate = argMultimap.getValue(PREFIX_TO).isPresent()
+                ? ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get())
+                : null;
+        if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+        String remark = argMultimap.getValue(PREFIX_REMARK).orElse(null);
+        if (remark != null && IncidentQuery.toWords(remark).isEmpty()) {
+            throw new ParseException(MESSAGE_EMPTY_REMARK);
+        }
+
+        LocalDateTime from = fromDate == null ? null : fromDate.atStartOfDay();
+        LocalDateTime to = toDate == null ? null : toDate.plusDays(1).atStartOfDay();
+        return new IncidentsCommand(new IncidentQuery(ruleIndex, studentId, from, to, remark));
+    }
+}
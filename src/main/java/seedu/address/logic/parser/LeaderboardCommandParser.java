@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.LeaderboardCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code LeaderboardCommand} object.
+ */
+public class LeaderboardCommandParser implements Parser<LeaderboardCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the LeaderboardCommand
+     * and returns a LeaderboardCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public LeaderboardCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new LeaderboardCommand(LeaderboardCommand.DEFAULT_SIZE);
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, LeaderboardCommand.MESSAGE_USAGE));
+        }
+
+        return new LeaderboardCommand(Integer.parseInt(trimmedArgs));
+    }
+}
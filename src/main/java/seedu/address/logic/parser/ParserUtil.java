@@ -3,6 +3,8 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_PREFIX;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.Optional;
 
 import seedu.address.commons.core.index.Index;
@@ -14,6 +16,7 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.RoomNumber;
 import seedu.address.model.person.StudentId;
+import seedu.address.model.search.PointRange;
 import seedu.address.model.tag.TagType;
 
 /**
@@ -22,6 +25,7 @@ import seedu.address.model.tag.TagType;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_DATE = "Dates must be valid and in the format YYYY-MM-DD.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -154,6 +158,21 @@ public class ParserUtil {
         return Optional.of(trimmedYear);
     }
 
+    /**
+     * Parses a {@code String range} of demerit points into a {@code PointRange}. Leading and trailing whitespaces
+     * will be trimmed.
+     *
+     * @throws ParseException if the given {@code range} is invalid.
+     */
+    public static PointRange parsePointRange(String range) throws ParseException {
+        requireNonNull(range);
+        String trimmedRange = range.trim();
+        if (!PointRange.isValidRange(trimmedRange)) {
+            throw new ParseException(PointRange.MESSAGE_CONSTRAINTS);
+        }
+        return PointRange.parse(trimmedRange);
+    }
+
     /**
      * Parses a {@code String input} into a positive integer.
      *
@@ -173,6 +192,21 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Parses a {@code String date} in the format YYYY-MM-DD into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is not a valid date in that format.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        try {
+            return LocalDate.parse(date.trim());
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_DATE);
+        }
+    }
+
     /**
      * Checks if the given {@code args} contains any occurances of "%=" that are not in the list of
      * {@code knownPrefixes}. If there are, a ParseException is thrown with a message indicating the unknown prefix
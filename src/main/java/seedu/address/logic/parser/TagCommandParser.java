@@ -97,7 +97,7 @@ public class TagCommandParser implements Parser<TagCommand> {
         value.ifPresent(v ->
                 tags.put(type, v.isEmpty()
                         ? null // sentinel to indicate tag removal if the user provided an empty string
-                        : new Tag(type, tryNormalizeTagContent(v, type))));
+                        : Tag.of(type, tryNormalizeTagContent(v, type))));
     }
 
     /**
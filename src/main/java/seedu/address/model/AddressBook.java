@@ -2,12 +2,24 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.demerit.DemeritSummary;
+import seedu.address.model.demerit.IncidentQuery;
+import seedu.address.model.demerit.IncidentRecord;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.RoomNumber;
+import seedu.address.model.person.StudentId;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.search.QueryPlan;
+import seedu.address.model.search.TagValueCounts;
+import seedu.address.model.tag.TagType;
 
 /**
  * Wraps all data at the address-book level
@@ -67,6 +79,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person with the given {@code studentId} in the address book, if present.
+     */
+    public Optional<Person> getPersonByStudentId(StudentId studentId) {
+        requireNonNull(studentId);
+        return persons.getPersonByStudentId(studentId);
+    }
+
+    /**
+     * Returns the person whose demerit incidents are filed under {@code incidentKey} in the address book, if any.
+     */
+    public Optional<Person> getPersonByIncidentKey(StudentId incidentKey) {
+        requireNonNull(incidentKey);
+        return persons.getPersonByIncidentKey(incidentKey);
+    }
+
     /**
      * Returns true if a person with the same room number as {@code person} exists in the address book.
      */
@@ -75,6 +103,134 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.isRoomOccupied(person);
     }
 
+    /**
+     * Returns a predicate equivalent to {@code plan} that skips persons ruled out by the address book's search index
+     * while planning it.
+     */
+    public Predicate<Person> narrowWithSearchIndex(QueryPlan plan) {
+        requireNonNull(plan);
+        return persons.narrowWithSearchIndex(plan);
+    }
+
+    /**
+     * Returns the number of modifications made to the persons in this address book so far.
+     */
+    public long getVersion() {
+        return persons.getVersion();
+    }
+
+    /**
+     * Returns the student IDs of the persons added, edited or removed after version {@code sinceVersion},
+     * or an empty {@code Optional} if too many changes have been made since then to list them.
+     */
+    public Optional<Set<StudentId>> getChangedSince(long sinceVersion) {
+        return persons.getChangedSince(sinceVersion);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate}, which must accept exactly the persons in
+     * {@code matches}, that answers from {@code matches} without testing anyone while the address book is unchanged.
+     */
+    public Predicate<Person> memoize(Predicate<Person> predicate, Set<StudentId> matches) {
+        requireNonNull(predicate);
+        requireNonNull(matches);
+        return persons.memoize(predicate, matches);
+    }
+
+    /**
+     * Returns a plan for matching persons against {@code filterDetails} that checks the most selective field first,
+     * as estimated by the address book's search indexes.
+     */
+    public QueryPlan planQuery(ReadOnlyFilterDetails filterDetails) {
+        requireNonNull(filterDetails);
+        return persons.planQuery(filterDetails);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate}, which must reject every person outside
+     * {@code candidates}, that rejects those persons without testing them while the address book is unchanged.
+     */
+    public Predicate<Person> restrictTo(Predicate<Person> predicate, Set<StudentId> candidates) {
+        requireNonNull(predicate);
+        requireNonNull(candidates);
+        return persons.restrictTo(predicate, candidates);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate}, which must accept every person in {@code matches},
+     * that accepts those persons without testing them while the address book is unchanged.
+     */
+    public Predicate<Person> extendWith(Predicate<Person> predicate, Set<StudentId> matches) {
+        requireNonNull(predicate);
+        requireNonNull(matches);
+        return persons.extendWith(predicate, matches);
+    }
+
+    /**
+     * Tests every person against {@code predicate} in parallel, and returns an equivalent predicate that answers
+     * from the result without testing anyone again until the address book changes.
+     * {@code predicate} must be safe to call from several threads at once.
+     */
+    public Predicate<Person> evaluateInParallel(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return persons.evaluateInParallel(predicate);
+    }
+
+    /**
+     * Returns a person occupying {@code roomNumber} in the address book, if any.
+     */
+    public Optional<Person> getPersonByRoomNumber(RoomNumber roomNumber) {
+        requireNonNull(roomNumber);
+        return persons.getPersonByRoomNumber(roomNumber);
+    }
+
+    /**
+     * Returns the occupied rooms on the given {@code floor}, ordered by unit.
+     */
+    public List<RoomNumber> getOccupiedRooms(int floor) {
+        return persons.getOccupiedRooms(floor);
+    }
+
+    /**
+     * Returns the free rooms on the given {@code floor}, ordered by unit.
+     */
+    public List<RoomNumber> getFreeRooms(int floor) {
+        return persons.getFreeRooms(floor);
+    }
+
+    /**
+     * Counts the persons among {@code subset}, which must all be in the address book, by their {@code tagType} tag.
+     * {@code tagType} must be a closed-set tag type.
+     */
+    public TagValueCounts countTagValues(TagType tagType, Collection<Person> subset) {
+        requireNonNull(tagType);
+        requireNonNull(subset);
+        return persons.countTagValues(tagType, subset);
+    }
+
+    /**
+     * Returns at most {@code size} persons with demerit points, most points first.
+     * Persons with equal points are ordered by student ID.
+     */
+    public List<Person> getDemeritLeaderboard(int size) {
+        return persons.getDemeritLeaderboard(size);
+    }
+
+    /**
+     * Returns a snapshot of the hall-wide demerit totals of the persons in this address book.
+     */
+    public DemeritSummary getDemeritSummary() {
+        return persons.getDemeritSummary();
+    }
+
+    /**
+     * Returns the demerit incidents of the persons in this address book that match {@code query}, earliest first.
+     */
+    public List<IncidentRecord> findIncidents(IncidentQuery query) {
+        requireNonNull(query);
+        return persons.findIncidents(query);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -0,0 +1,10 @@
+package seedu.address.model;
+
+/**
+ * Counts how the filtered person list was computed for details filters since the model was created.
+ *
+ * @param hits lookups answered by a cached result of an unchanged address book
+ * @param patchedHits lookups answered by a cached result patched with the persons changed since it was cached
+ * @param misses lookups that had to test every person
+ */
+public record FilterCacheStatistics(long hits, long patchedHits, long misses) {}
@@ -35,6 +35,7 @@ public class FilterDetails implements ReadOnlyFilterDetails {
     private final ObservableSet<String> tagYearKeywords;
     private final ObservableSet<String> tagMajorKeywords;
     private final ObservableSet<String> tagGenderKeywords;
+    private final ObservableSet<String> demeritPointsKeywords;
 
     /**
      * Initializes a new {@code FilterDetails} object with empty keyword sets.
@@ -49,6 +50,7 @@ public class FilterDetails implements ReadOnlyFilterDetails {
         this.tagYearKeywords = FXCollections.observableSet();
         this.tagMajorKeywords = FXCollections.observableSet();
         this.tagGenderKeywords = FXCollections.observableSet();
+        this.demeritPointsKeywords = FXCollections.observableSet();
     }
 
     /**
@@ -77,6 +79,7 @@ public class FilterDetails implements ReadOnlyFilterDetails {
         replaceAll(tagYearKeywords, other.getTagYearKeywords());
         replaceAll(tagMajorKeywords, other.getTagMajorKeywords());
         replaceAll(tagGenderKeywords, other.getTagGenderKeywords());
+        replaceAll(demeritPointsKeywords, other.getDemeritPointsKeywords());
     }
 
     // ==================== Getters ======================
@@ -116,6 +119,10 @@ public class FilterDetails implements ReadOnlyFilterDetails {
         return tagGenderKeywords;
     }
 
+    public ObservableSet<String> getDemeritPointsKeywords() {
+        return demeritPointsKeywords;
+    }
+
     // ==================== Setters ======================
 
     public void setNameKeywords(Set<String> nameKeywords) {
@@ -154,6 +161,10 @@ public class FilterDetails implements ReadOnlyFilterDetails {
         replaceAll(this.tagGenderKeywords, tagGenderKeywords);
     }
 
+    public void setDemeritPointsKeywords(Set<String> demeritPointsKeywords) {
+        replaceAll(this.demeritPointsKeywords, demeritPointsKeywords);
+    }
+
     /**
      * Validates that each filter prefix has at most {@code MAX_VALUES_PER_PREFIX} values.
      *
@@ -170,6 +181,7 @@ public class FilterDetails implements ReadOnlyFilterDetails {
         collectOverLimitPrefix("y=", tagYearKeywords, prefixesOverLimit);
         collectOverLimitPrefix("m=", tagMajorKeywords, prefixesOverLimit);
         collectOverLimitPrefix("g=", tagGenderKeywords, prefixesOverLimit);
+        collectOverLimitPrefix("dp=", demeritPointsKeywords, prefixesOverLimit);
 
         if (!prefixesOverLimit.isEmpty()) {
             throw new IllegalArgumentException(String.format(
@@ -205,7 +217,8 @@ public class FilterDetails implements ReadOnlyFilterDetails {
                 && emergencyContactKeywords.equals(otherFilterDetails.emergencyContactKeywords)
                 && tagYearKeywords.equals(otherFilterDetails.tagYearKeywords)
                 && tagMajorKeywords.equals(otherFilterDetails.tagMajorKeywords)
-                && tagGenderKeywords.equals(otherFilterDetails.tagGenderKeywords);
+                && tagGenderKeywords.equals(otherFilterDetails.tagGenderKeywords)
+                && demeritPointsKeywords.equals(otherFilterDetails.demeritPointsKeywords);
     }
 
     @Override
@@ -220,6 +233,7 @@ public class FilterDetails implements ReadOnlyFilterDetails {
                 + ", tagYearKeywords=" + tagYearKeywords
                 + ", tagMajorKeywords=" + tagMajorKeywords
                 + ", tagGenderKeywords=" + tagGenderKeywords
+                + ", demeritPointsKeywords=" + demeritPointsKeywords
                 + '}';
     }
 }
@@ -0,0 +1,93 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.search.CompiledFilter;
+
+/**
+ * A least-recently-used cache of the persons matching recently applied details filters.
+ *
+ * <p>Each result is stored with the {@link AddressBook#getVersion() version} of the address book it was computed
+ * from. A result computed from an older version is patched by re-testing only the persons changed since then,
+ * as long as the address book still knows which persons those are.
+ */
+class FilterResultCache {
+
+    static final int DEFAULT_CAPACITY = 16;
+
+    private final Map<CompiledFilter, CachedResult> results;
+    private long hits;
+    private long patchedHits;
+    private long misses;
+
+    /**
+     * Creates an empty cache that holds the results of at most {@code capacity} filters.
+     */
+    FilterResultCache(int capacity) {
+        this.results = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CompiledFilter, CachedResult> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the student IDs of the persons in {@code addressBook} matching {@code filter}, if they are cached.
+     * The returned set must not be modified.
+     */
+    Optional<Set<StudentId>> lookup(CompiledFilter filter, AddressBook addressBook) {
+        requireAllNonNull(filter, addressBook);
+        CachedResult cached = results.get(filter);
+        if (cached == null) {
+            misses++;
+            return Optional.empty();
+        }
+        if (cached.version() == addressBook.getVersion()) {
+            hits++;
+            return Optional.of(cached.matches());
+        }
+
+        Optional<Set<StudentId>> changed = addressBook.getChangedSince(cached.version());
+        if (changed.isEmpty()) {
+            results.remove(filter);
+            misses++;
+            return Optional.empty();
+        }
+        Set<StudentId> patched = new HashSet<>(cached.matches());
+        for (StudentId studentId : changed.get()) {
+            Optional<Person> person = addressBook.getPersonByStudentId(studentId);
+            if (person.isPresent() && filter.matches(person.get())) {
+                patched.add(studentId);
+            } else {
+                patched.remove(studentId);
+            }
+        }
+        store(filter, patched, addressBook.getVersion());
+        patchedHits++;
+        return Optional.of(patched);
+    }
+
+    /**
+     * Caches {@code matches} as the persons matching {@code filter} at address book version {@code version}.
+     * {@code matches} must not be modified afterwards.
+     */
+    void store(CompiledFilter filter, Set<StudentId> matches, long version) {
+        requireAllNonNull(filter, matches);
+        results.put(filter, new CachedResult(matches, version));
+    }
+
+    FilterCacheStatistics getStatistics() {
+        return new FilterCacheStatistics(hits, patchedHits, misses);
+    }
+
+    private record CachedResult(Set<StudentId> matches, long version) {}
+}
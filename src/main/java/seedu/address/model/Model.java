@@ -1,15 +1,23 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.demerit.DemeritRuleCatalogue;
+import seedu.address.model.demerit.DemeritSummary;
+import seedu.address.model.demerit.IncidentQuery;
+import seedu.address.model.demerit.IncidentRecord;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.RoomNumber;
 import seedu.address.model.person.StudentId;
+import seedu.address.model.search.QueryPlan;
+import seedu.address.model.search.TagValueCounts;
+import seedu.address.model.tag.TagType;
 
 /**
  * The API of the Model component.
@@ -56,6 +64,11 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the modification version of the address book, which increases with every change to its persons.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -96,6 +109,12 @@ public interface Model {
      */
     Optional<Person> getPersonByStudentId(StudentId studentId);
 
+    /**
+     * Returns the person whose demerit incidents are filed under {@code incidentKey}, if any.
+     * This may be a person who no longer has {@code incidentKey} as their student ID.
+     */
+    Optional<Person> getPersonByIncidentKey(StudentId incidentKey);
+
     /**
      * Returns an Optional containing the Person with the specified RoomNumber,
      * or an empty Optional if no such Person exists.
@@ -106,6 +125,51 @@ public interface Model {
      */
     Optional<Person> getPersonByRoomNumber(RoomNumber roomNumber);
 
+    /**
+     * Returns the rooms on the given {@code floor} that have no occupant, ordered by unit.
+     */
+    List<RoomNumber> getFreeRooms(int floor);
+
+    /**
+     * Returns at most {@code size} persons with demerit points, most points first.
+     * Persons with equal points are ordered by student ID. {@code size} must be positive.
+     */
+    List<Person> getDemeritLeaderboard(int size);
+
+    /**
+     * Returns the hall-wide number of incidents, points issued and offence tiers reached for each demerit rule.
+     */
+    DemeritSummary getDemeritSummary();
+
+    /**
+     * Returns the catalogue of the demerit rules in force.
+     */
+    DemeritRuleCatalogue getDemeritRuleCatalogue();
+
+    /**
+     * Returns the demerit incidents across all residents that match {@code query}, earliest first.
+     * Incidents without a recorded time come before all others.
+     */
+    List<IncidentRecord> findIncidents(IncidentQuery query);
+
+    /**
+     * Counts the persons in the filtered person list by their {@code tagType} tag.
+     * {@code tagType} must be a closed-set tag type, such as {@code YEAR} or {@code GENDER}.
+     */
+    TagValueCounts countFilteredTagValues(TagType tagType);
+
+    /**
+     * Returns the plan that {@link #updateFilteredPersonList(Predicate)} would use to match persons against
+     * {@code filterDetails}.
+     */
+    QueryPlan planQuery(ReadOnlyFilterDetails filterDetails);
+
+    /**
+     * Returns how often {@link #updateFilteredPersonList(Predicate)} answered a details filter from the results
+     * of an earlier, equivalent filter.
+     */
+    FilterCacheStatistics getFilterCacheStatistics();
+
     /**
      * Clears all stored filter details and shows all persons.
      */
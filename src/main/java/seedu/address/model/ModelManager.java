@@ -5,7 +5,10 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -15,10 +18,19 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.demerit.DemeritRuleCatalogue;
+import seedu.address.model.demerit.DemeritSummary;
+import seedu.address.model.demerit.IncidentQuery;
+import seedu.address.model.demerit.IncidentRecord;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesDetailsPredicate;
 import seedu.address.model.person.RoomNumber;
 import seedu.address.model.person.StudentId;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.search.CompiledFilter;
+import seedu.address.model.search.QueryPlan;
+import seedu.address.model.search.TagValueCounts;
+import seedu.address.model.tag.TagType;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -31,6 +43,10 @@ public class ModelManager implements Model {
     private final FilteredList<Person> filteredPersons;
     private final FilterDetails filterDetails;
     private final SimpleObjectProperty<Person> selectedPerson = new SimpleObjectProperty<>();
+    private final DemeritRuleCatalogue demeritRuleCatalogue = new DemeritRuleCatalogue();
+    private final FilterResultCache filterResultCache = new FilterResultCache(FilterResultCache.DEFAULT_CAPACITY);
+    /** The details predicate that {@code filteredPersons} currently shows, or null if it shows another predicate. */
+    private PersonMatchesDetailsPredicate shownDetailsPredicate;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -97,6 +113,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -141,28 +162,130 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (predicate instanceof PersonMatchesDetailsPredicate detailsPredicate) {
+            FilterDetails details = detailsPredicate.filterDetails();
+            CompiledFilter filter = CompiledFilter.compile(details);
+            Optional<Set<StudentId>> cachedMatches = filterResultCache.lookup(filter, addressBook);
+            if (cachedMatches.isPresent()) {
+                logger.fine("Filter result cache hit; " + cachedMatches.get().size() + " residents match");
+                predicate = addressBook.memoize(filter::matches, cachedMatches.get());
+                shownDetailsPredicate = detailsPredicate;
+                filteredPersons.setPredicate(predicate);
+                return;
+            }
+
+            // Planning searches the indexes for every field, so it is only done when the cache misses
+            QueryPlan plan = planQuery(details);
+            Predicate<Person> narrowedPredicate = addressBook.narrowWithSearchIndex(plan);
+            predicate = refineShownPersons(detailsPredicate, narrowedPredicate);
+            if (addressBook.getPersonList().size() >= userPrefs.getParallelFilterThreshold()) {
+                // Details predicates only read immutable state, so they can be tested on all cores
+                predicate = addressBook.evaluateInParallel(predicate);
+            }
+            shownDetailsPredicate = detailsPredicate;
+            filteredPersons.setPredicate(predicate);
+            filterResultCache.store(filter, getShownStudentIds(), addressBook.getVersion());
+            return;
+        }
+        shownDetailsPredicate = null;
         filteredPersons.setPredicate(predicate);
     }
 
+    /**
+     * Returns {@code predicate}, equivalent to {@code detailsPredicate}, adjusted so that it only tests the persons
+     * whose result can differ from the filter currently shown. If the new filter is narrower, persons outside the
+     * current result are rejected without testing; if it is wider, persons in the current result are accepted
+     * without testing.
+     */
+    private Predicate<Person> refineShownPersons(PersonMatchesDetailsPredicate detailsPredicate,
+                                                 Predicate<Person> predicate) {
+        if (shownDetailsPredicate == null) {
+            return predicate;
+        }
+        if (detailsPredicate.isNarrowerThan(shownDetailsPredicate)) {
+            logger.fine("Filter narrowed; re-testing " + filteredPersons.size() + " shown residents only");
+            return addressBook.restrictTo(predicate, getShownStudentIds());
+        }
+        if (shownDetailsPredicate.isNarrowerThan(detailsPredicate)) {
+            logger.fine("Filter widened; re-testing residents outside the " + filteredPersons.size() + " shown");
+            return addressBook.extendWith(predicate, getShownStudentIds());
+        }
+        return predicate;
+    }
+
+    private Set<StudentId> getShownStudentIds() {
+        Set<StudentId> studentIds = new HashSet<>();
+        for (Person person : filteredPersons) {
+            studentIds.add(person.getStudentId());
+        }
+        return studentIds;
+    }
+
     @Override
     public Optional<Person> getPersonByStudentId(StudentId studentId) {
         requireNonNull(studentId);
-        return addressBook.getPersonList().stream()
-                .filter(p -> p.getStudentId().equals(studentId))
-                .findFirst();
+        return addressBook.getPersonByStudentId(studentId);
+    }
+
+    @Override
+    public Optional<Person> getPersonByIncidentKey(StudentId incidentKey) {
+        requireNonNull(incidentKey);
+        return addressBook.getPersonByIncidentKey(incidentKey);
     }
 
     @Override
     public Optional<Person> getPersonByRoomNumber(RoomNumber roomNumber) {
         requireNonNull(roomNumber);
-        return addressBook.getPersonList().stream()
-                .filter(p -> p.getRoomNumber().equals(roomNumber))
-                .findFirst();
+        return addressBook.getPersonByRoomNumber(roomNumber);
+    }
+
+    @Override
+    public List<RoomNumber> getFreeRooms(int floor) {
+        return addressBook.getFreeRooms(floor);
+    }
+
+    @Override
+    public List<Person> getDemeritLeaderboard(int size) {
+        return addressBook.getDemeritLeaderboard(size);
+    }
+
+    @Override
+    public DemeritSummary getDemeritSummary() {
+        return addressBook.getDemeritSummary();
+    }
+
+    @Override
+    public DemeritRuleCatalogue getDemeritRuleCatalogue() {
+        return demeritRuleCatalogue;
+    }
+
+    @Override
+    public List<IncidentRecord> findIncidents(IncidentQuery query) {
+        requireNonNull(query);
+        return addressBook.findIncidents(query);
+    }
+
+    @Override
+    public QueryPlan planQuery(ReadOnlyFilterDetails filterDetails) {
+        requireNonNull(filterDetails);
+        return addressBook.planQuery(filterDetails);
+    }
+
+    @Override
+    public FilterCacheStatistics getFilterCacheStatistics() {
+        return filterResultCache.getStatistics();
+    }
+
+    @Override
+    public TagValueCounts countFilteredTagValues(TagType tagType) {
+        requireNonNull(tagType);
+        return addressBook.countTagValues(tagType, filteredPersons);
     }
 
     @Override
     public void showAllPersons() {
         setFilterDetails(new FilterDetails());
+        shownDetailsPredicate = null;
         filteredPersons.setPredicate(person -> true);
     }
     //=========== Filter Details Accessors =============================================================
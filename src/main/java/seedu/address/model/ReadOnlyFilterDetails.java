@@ -15,4 +15,5 @@ public interface ReadOnlyFilterDetails {
     ObservableSet<String> getTagYearKeywords();
     ObservableSet<String> getTagMajorKeywords();
     ObservableSet<String> getTagGenderKeywords();
+    ObservableSet<String> getDemeritPointsKeywords();
 }
@@ -3,6 +3,7 @@ package seedu.address.model;
 import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.SaveDurability;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,26 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    int getParallelFilterThreshold();
+
+    /**
+     * Returns the number of days of earlier offences that count towards a new offence's tier, or 0 for all time.
+     */
+    int getDemeritTierWindowDays();
+
+    /**
+     * Returns when changes to the hall ledger are written to the data file.
+     */
+    SaveDurability getSaveDurability();
+
+    /**
+     * Returns how long, in milliseconds, background saves wait to gather further changes.
+     */
+    int getSaveDelayMillis();
+
+    /**
+     * Returns true if changes are appended to a journal next to the data file instead of rewriting the data file.
+     */
+    boolean isJournalDataFile();
+
 }
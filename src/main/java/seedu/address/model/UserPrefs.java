@@ -1,20 +1,43 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.SaveDurability;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /** Ledgers with at least this many residents are filtered on all cores by default. */
+    public static final int DEFAULT_PARALLEL_FILTER_THRESHOLD = 20_000;
+    public static final String MESSAGE_INVALID_PARALLEL_FILTER_THRESHOLD =
+            "Parallel filter threshold must be a positive number of residents.";
+    /** Offence tiers count every earlier offence against the same rule, however long ago, by default. */
+    public static final int DEFAULT_DEMERIT_TIER_WINDOW_DAYS = 0;
+    public static final String MESSAGE_INVALID_DEMERIT_TIER_WINDOW_DAYS =
+            "Demerit tier window must be a number of days, or 0 to count offences across all time.";
+    /** Every command waits until its changes are written by default. */
+    public static final SaveDurability DEFAULT_SAVE_DURABILITY = SaveDurability.SYNCHRONOUS;
+    public static final int DEFAULT_SAVE_DELAY_MILLIS = 200;
+    /** The data file is rewritten in full on every save by default. */
+    public static final boolean DEFAULT_JOURNAL_DATA_FILE = false;
+    public static final String MESSAGE_INVALID_SAVE_DELAY_MILLIS =
+            "Save delay must be a non-negative number of milliseconds.";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "hall-ledger.json");
+    private int parallelFilterThreshold = DEFAULT_PARALLEL_FILTER_THRESHOLD;
+    private int demeritTierWindowDays = DEFAULT_DEMERIT_TIER_WINDOW_DAYS;
+    private SaveDurability saveDurability = DEFAULT_SAVE_DURABILITY;
+    private int saveDelayMillis = DEFAULT_SAVE_DELAY_MILLIS;
+    private boolean journalDataFile = DEFAULT_JOURNAL_DATA_FILE;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +59,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setParallelFilterThreshold(newUserPrefs.getParallelFilterThreshold());
+        setDemeritTierWindowDays(newUserPrefs.getDemeritTierWindowDays());
+        setSaveDurability(newUserPrefs.getSaveDurability());
+        setSaveDelayMillis(newUserPrefs.getSaveDelayMillis());
+        setJournalDataFile(newUserPrefs.isJournalDataFile());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +84,50 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getParallelFilterThreshold() {
+        return parallelFilterThreshold;
+    }
+
+    public void setParallelFilterThreshold(int parallelFilterThreshold) {
+        checkArgument(parallelFilterThreshold > 0, MESSAGE_INVALID_PARALLEL_FILTER_THRESHOLD);
+        this.parallelFilterThreshold = parallelFilterThreshold;
+    }
+
+    public int getDemeritTierWindowDays() {
+        return demeritTierWindowDays;
+    }
+
+    public void setDemeritTierWindowDays(int demeritTierWindowDays) {
+        checkArgument(demeritTierWindowDays >= 0, MESSAGE_INVALID_DEMERIT_TIER_WINDOW_DAYS);
+        this.demeritTierWindowDays = demeritTierWindowDays;
+    }
+
+    public SaveDurability getSaveDurability() {
+        return saveDurability;
+    }
+
+    public void setSaveDurability(SaveDurability saveDurability) {
+        requireNonNull(saveDurability);
+        this.saveDurability = saveDurability;
+    }
+
+    public int getSaveDelayMillis() {
+        return saveDelayMillis;
+    }
+
+    public void setSaveDelayMillis(int saveDelayMillis) {
+        checkArgument(saveDelayMillis >= 0, MESSAGE_INVALID_SAVE_DELAY_MILLIS);
+        this.saveDelayMillis = saveDelayMillis;
+    }
+
+    public boolean isJournalDataFile() {
+        return journalDataFile;
+    }
+
+    public void setJournalDataFile(boolean journalDataFile) {
+        this.journalDataFile = journalDataFile;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +141,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && parallelFilterThreshold == otherUserPrefs.parallelFilterThreshold
+                && demeritTierWindowDays == otherUserPrefs.demeritTierWindowDays
+                && saveDurability == otherUserPrefs.saveDurability
+                && saveDelayMillis == otherUserPrefs.saveDelayMillis
+                && journalDataFile == otherUserPrefs.journalDataFile;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, parallelFilterThreshold, demeritTierWindowDays,
+                saveDurability, saveDelayMillis, journalDataFile);
     }
 
     @Override
@@ -82,6 +160,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nParallel filter threshold : " + parallelFilterThreshold);
+        sb.append("\nDemerit tier window (days) : " + demeritTierWindowDays);
+        sb.append("\nSave durability : " + saveDurability);
+        sb.append("\nSave delay (ms) : " + saveDelayMillis);
+        sb.append("\nJournal data file : " + journalDataFile);
         return sb.toString();
     }
 
@@ -0,0 +1,208 @@
+package seedu.address.model.demerit;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.AppendOnlyList;
+import seedu.address.model.person.Person;
+
+/**
+ * Hall-wide demerit totals per rule: how many incidents were recorded, the points they applied, and how many of
+ * them were first, second or later offences.
+ *
+ * <p>Totals are indexed by rule index and kept in step with the resident list, so reading them never scans the
+ * residents' incidents. Applying a demerit to a resident only records the appended incidents; other changes to a
+ * resident re-record that resident's incidents alone. Rule indexes above
+ * {@link DemeritRuleSet#MAX_RULE_INDEX} are totalled in a map instead, so that one stray index cannot size the
+ * arrays.
+ */
+public class DemeritAnalytics {
+
+    private static final int FIRST_OFFENCE = 0;
+    private static final int SECOND_OFFENCE = 1;
+    private static final int LATER_OFFENCE = 2;
+    private static final int TIER_COUNT = 3;
+
+    private final SortedMap<Integer, RuleStatistics> sparseStatistics = new TreeMap<>();
+    private int[] incidentCounts;
+    private long[] pointsIssued;
+    private int[] tierCounts;
+    private int totalIncidents;
+    private long totalPointsIssued;
+
+    /**
+     * Creates analytics with no incidents recorded.
+     */
+    public DemeritAnalytics() {
+        clear();
+    }
+
+    /**
+     * Records every demerit incident of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        List<DemeritIncident> incidents = person.getDemeritIncidents();
+        for (int i = 0; i < incidents.size(); i++) {
+            record(incidents.get(i), 1);
+        }
+    }
+
+    /**
+     * Removes every demerit incident of {@code person} from the totals.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        List<DemeritIncident> incidents = person.getDemeritIncidents();
+        for (int i = 0; i < incidents.size(); i++) {
+            record(incidents.get(i), -1);
+        }
+    }
+
+    /**
+     * Updates the totals after {@code target} is replaced by {@code editedPerson}.
+     * If the incidents of {@code editedPerson} extend those of {@code target}, only the new incidents are recorded.
+     */
+    public void update(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        List<DemeritIncident> before = target.getDemeritIncidents();
+        List<DemeritIncident> after = editedPerson.getDemeritIncidents();
+        if (!AppendOnlyList.extendsByAppending(after, before)) {
+            remove(target);
+            add(editedPerson);
+            return;
+        }
+        for (int i = before.size(); i < after.size(); i++) {
+            record(after.get(i), 1);
+        }
+    }
+
+    /**
+     * Replaces the totals with those of {@code persons}.
+     */
+    public void reset(List<Person> persons) {
+        requireNonNull(persons);
+        clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns a snapshot of the current totals.
+     */
+    public DemeritSummary summarize() {
+        return new DemeritSummary(totalIncidents, totalPointsIssued, getTriggeredRules());
+    }
+
+    /**
+     * Returns the totals of every rule with at least one incident, in rule index order.
+     */
+    public List<RuleStatistics> getTriggeredRules() {
+        List<RuleStatistics> triggeredRules = new ArrayList<>();
+        for (int ruleIndex = 0; ruleIndex < incidentCounts.length; ruleIndex++) {
+            if (incidentCounts[ruleIndex] > 0) {
+                triggeredRules.add(getRuleStatistics(ruleIndex));
+            }
+        }
+        triggeredRules.addAll(sparseStatistics.values());
+        return triggeredRules;
+    }
+
+    /**
+     * Returns the totals of the rule with {@code ruleIndex}, which are all zero if it has no incidents.
+     */
+    public RuleStatistics getRuleStatistics(int ruleIndex) {
+        if (ruleIndex > DemeritRuleSet.MAX_RULE_INDEX && sparseStatistics.containsKey(ruleIndex)) {
+            return sparseStatistics.get(ruleIndex);
+        }
+        if (ruleIndex < 0 || ruleIndex >= incidentCounts.length) {
+            return new RuleStatistics(ruleIndex, 0, 0, 0, 0, 0);
+        }
+        int tierOffset = ruleIndex * TIER_COUNT;
+        return new RuleStatistics(ruleIndex, incidentCounts[ruleIndex], pointsIssued[ruleIndex],
+                tierCounts[tierOffset + FIRST_OFFENCE], tierCounts[tierOffset + SECOND_OFFENCE],
+                tierCounts[tierOffset + LATER_OFFENCE]);
+    }
+
+    /**
+     * Returns the number of incidents recorded across all rules.
+     */
+    public int getTotalIncidents() {
+        return totalIncidents;
+    }
+
+    /**
+     * Returns the demerit points applied across all rules.
+     */
+    public long getTotalPointsIssued() {
+        return totalPointsIssued;
+    }
+
+    private void clear() {
+        int size = DemeritRuleCatalogue.getBuiltInRules().getMaxIndex() + 1;
+        incidentCounts = new int[size];
+        pointsIssued = new long[size];
+        tierCounts = new int[size * TIER_COUNT];
+        sparseStatistics.clear();
+        totalIncidents = 0;
+        totalPointsIssued = 0;
+    }
+
+    /**
+     * Adds {@code incident} to the totals once if {@code sign} is 1, or removes it if {@code sign} is -1.
+     */
+    private void record(DemeritIncident incident, int sign) {
+        totalIncidents += sign;
+        totalPointsIssued += sign * (long) incident.getPointsApplied();
+        int ruleIndex = incident.getRuleIndex();
+        if (ruleIndex < 0) {
+            return;
+        }
+        if (ruleIndex > DemeritRuleSet.MAX_RULE_INDEX) {
+            recordSparse(incident, sign);
+            return;
+        }
+        ensureCapacity(ruleIndex);
+        incidentCounts[ruleIndex] += sign;
+        pointsIssued[ruleIndex] += sign * (long) incident.getPointsApplied();
+        tierCounts[ruleIndex * TIER_COUNT + toTier(incident.getOffenceNumber())] += sign;
+    }
+
+    private void recordSparse(DemeritIncident incident, int sign) {
+        int ruleIndex = incident.getRuleIndex();
+        int tier = toTier(incident.getOffenceNumber());
+        RuleStatistics statistics = getRuleStatistics(ruleIndex);
+        RuleStatistics updated = new RuleStatistics(ruleIndex, statistics.incidentCount() + sign,
+                statistics.pointsIssued() + sign * (long) incident.getPointsApplied(),
+                statistics.firstOffences() + (tier == FIRST_OFFENCE ? sign : 0),
+                statistics.secondOffences() + (tier == SECOND_OFFENCE ? sign : 0),
+                statistics.laterOffences() + (tier == LATER_OFFENCE ? sign : 0));
+        if (updated.incidentCount() > 0) {
+            sparseStatistics.put(ruleIndex, updated);
+        } else {
+            sparseStatistics.remove(ruleIndex);
+        }
+    }
+
+    private void ensureCapacity(int ruleIndex) {
+        if (ruleIndex < incidentCounts.length) {
+            return;
+        }
+        int size = ruleIndex + 1;
+        incidentCounts = Arrays.copyOf(incidentCounts, size);
+        pointsIssued = Arrays.copyOf(pointsIssued, size);
+        tierCounts = Arrays.copyOf(tierCounts, size * TIER_COUNT);
+    }
+
+    private static int toTier(int offenceNumber) {
+        if (offenceNumber <= 1) {
+            return FIRST_OFFENCE;
+        }
+        return offenceNumber == 2 ? SECOND_OFFENCE : LATER_OFFENCE;
+    }
+}
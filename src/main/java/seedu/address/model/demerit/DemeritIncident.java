@@ -2,41 +2,134 @@ package seedu.address.model.demerit;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
 import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.InternPool;
 
 /**
  * Represents one applied demerit incident on a resident.
+ *
+ * <p>An incident records the index and title of its rule as they stood in the version of the demerit rules it was
+ * applied under. The title is resolved once, when the incident is created or loaded, so an incident reads the same
+ * whichever rules are in force later. Incidents created from a rule share the rule's title string, and titles loaded
+ * from data are interned, so incidents of the same rule share one title string.
+ *
+ * <p>Incidents record when they were applied. Incidents loaded from data kept before times were recorded have
+ * no time.
  */
 public class DemeritIncident {
 
+    private static final InternPool<String> RULE_TITLES = new InternPool<>();
+
     private final int ruleIndex;
+    private final int catalogueVersion;
     private final String ruleTitle;
     private final int offenceNumber;
     private final int pointsApplied;
     private final String remark;
+    private final LocalDateTime recordedAt;
+
+    /**
+     * Creates a demerit incident for {@code rule} under version {@code catalogueVersion} of the demerit rules.
+     */
+    public DemeritIncident(DemeritRule rule, int catalogueVersion, int offenceNumber, int pointsApplied,
+                           String remark) {
+        requireNonNull(rule);
+        requireNonNull(remark);
+        this.ruleIndex = rule.getIndex();
+        this.catalogueVersion = catalogueVersion;
+        this.ruleTitle = rule.getTitle();
+        this.offenceNumber = offenceNumber;
+        this.pointsApplied = pointsApplied;
+        this.remark = remark.trim();
+        this.recordedAt = null;
+    }
 
     /**
-     * Creates a demerit incident.
+     * Creates a demerit incident whose title was not stored with it. The title is that of {@code ruleIndex} in the
+     * built-in rules if {@code catalogueVersion} is the built-in version, or empty otherwise.
      */
-    public DemeritIncident(int ruleIndex, String ruleTitle, int offenceNumber,
+    public DemeritIncident(int ruleIndex, int catalogueVersion, int offenceNumber,
+                           int pointsApplied, String remark) {
+        this(ruleIndex, catalogueVersion, findBuiltInTitle(ruleIndex, catalogueVersion).orElse(""),
+                offenceNumber, pointsApplied, remark);
+    }
+
+    /**
+     * Creates a demerit incident with an explicit rule title under {@code catalogueVersion}.
+     */
+    public DemeritIncident(int ruleIndex, int catalogueVersion, String ruleTitle, int offenceNumber,
                            int pointsApplied, String remark) {
         requireNonNull(ruleTitle);
         requireNonNull(remark);
+        String trimmedTitle = ruleTitle.trim();
         this.ruleIndex = ruleIndex;
-        this.ruleTitle = ruleTitle.trim();
+        this.catalogueVersion = catalogueVersion;
+        this.ruleTitle = findBuiltInTitle(ruleIndex, catalogueVersion)
+                .filter(trimmedTitle::equals)
+                .orElseGet(() -> RULE_TITLES.intern(trimmedTitle));
         this.offenceNumber = offenceNumber;
         this.pointsApplied = pointsApplied;
         this.remark = remark.trim();
+        this.recordedAt = null;
+    }
+
+    /**
+     * Creates a copy of {@code source} recorded at {@code recordedAt}.
+     */
+    private DemeritIncident(DemeritIncident source, LocalDateTime recordedAt) {
+        this.ruleIndex = source.ruleIndex;
+        this.catalogueVersion = source.catalogueVersion;
+        this.ruleTitle = source.ruleTitle;
+        this.offenceNumber = source.offenceNumber;
+        this.pointsApplied = source.pointsApplied;
+        this.remark = source.remark;
+        this.recordedAt = recordedAt;
+    }
+
+    /**
+     * Returns a copy of this incident recorded at {@code recordedAt}.
+     */
+    public DemeritIncident withRecordedAt(LocalDateTime recordedAt) {
+        requireNonNull(recordedAt);
+        return new DemeritIncident(this, recordedAt);
+    }
+
+    private static Optional<String> findBuiltInTitle(int ruleIndex, int catalogueVersion) {
+        if (catalogueVersion != DemeritRuleCatalogue.BUILT_IN_VERSION) {
+            return Optional.empty();
+        }
+        return DemeritRuleCatalogue.getBuiltInRules().findByIndex(ruleIndex).map(DemeritRule::getTitle);
     }
 
     public int getRuleIndex() {
         return ruleIndex;
     }
 
+    public int getCatalogueVersion() {
+        return catalogueVersion;
+    }
+
+    /**
+     * Returns the title of the rule this incident was applied under, or an empty string if it is not known.
+     */
     public String getRuleTitle() {
         return ruleTitle;
     }
 
+    /**
+     * Returns the rule title to save with this incident, unless it can be resolved again from the built-in rules.
+     * Other rule sets may have been replaced by the next run, so their titles are always saved.
+     */
+    public Optional<String> getTitleForStorage() {
+        boolean isBuiltInTitle = findBuiltInTitle(ruleIndex, catalogueVersion)
+                .map(ruleTitle::equals)
+                .orElse(false);
+        return isBuiltInTitle || ruleTitle.isEmpty() ? Optional.empty() : Optional.of(ruleTitle);
+    }
+
     public int getOffenceNumber() {
         return offenceNumber;
     }
@@ -49,6 +142,13 @@ public class DemeritIncident {
         return remark;
     }
 
+    /**
+     * Returns when this incident was recorded, if known.
+     */
+    public Optional<LocalDateTime> getRecordedAt() {
+        return Optional.ofNullable(recordedAt);
+    }
+
     @Override
     public String toString() {
         if (remark.isEmpty()) {
@@ -69,14 +169,17 @@ public class DemeritIncident {
         }
         DemeritIncident otherIncident = (DemeritIncident) other;
         return ruleIndex == otherIncident.ruleIndex
+                && catalogueVersion == otherIncident.catalogueVersion
                 && offenceNumber == otherIncident.offenceNumber
                 && pointsApplied == otherIncident.pointsApplied
                 && ruleTitle.equals(otherIncident.ruleTitle)
-                && remark.equals(otherIncident.remark);
+                && remark.equals(otherIncident.remark)
+                && Objects.equals(recordedAt, otherIncident.recordedAt);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(ruleIndex, ruleTitle, offenceNumber, pointsApplied, remark);
+        return Objects.hash(ruleIndex, catalogueVersion, ruleTitle, offenceNumber, pointsApplied, remark,
+                recordedAt);
     }
 }
@@ -2,6 +2,8 @@ package seedu.address.model.demerit;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Objects;
+
 /**
  * Represents one demerit rule from the DPS catalogue.
  */
@@ -61,6 +63,26 @@ public class DemeritRule {
         return thirdAndSubsequentPoints;
     }
 
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof DemeritRule otherRule)) {
+            return false;
+        }
+        return index == otherRule.index
+                && title.equals(otherRule.title)
+                && firstOffencePoints == otherRule.firstOffencePoints
+                && secondOffencePoints == otherRule.secondOffencePoints
+                && thirdAndSubsequentPoints == otherRule.thirdAndSubsequentPoints;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, title, firstOffencePoints, secondOffencePoints, thirdAndSubsequentPoints);
+    }
+
     @Override
     public String toString() {
         return String.format("[%d] %s (1st: %d, 2nd: %d, 3rd+: %d)",
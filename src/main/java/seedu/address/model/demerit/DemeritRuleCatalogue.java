@@ -1,19 +1,30 @@
 package seedu.address.model.demerit;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
- * Static catalogue of demerit rules used by Hall Ledger.
+ * Catalogue of the demerit rules currently in force in Hall Ledger.
  *
- * <p>The rules and point tiers are adapted from the Demerit Point Structure
+ * <p>The built-in rules and point tiers are adapted from the Demerit Point Structure
  * (DPS) for Breach of Housing Agreement issued by the Office of Student
- * Affairs, dated 9 January 2026.
+ * Affairs, dated 9 January 2026. A revised DPS can replace them at runtime through
+ * {@link #install(DemeritRuleSet)}, e.g. when the rule file is edited.
+ *
+ * <p>The rules in force are held as one immutable {@link DemeritRuleSet}, which {@link #install} swaps atomically.
+ * Each method reads a single snapshot, so a lookup never sees a mix of two rule sets. Every rule set installed
+ * into a catalogue is also kept by version, so that a version can be put back in force but never changed.
  */
 public final class DemeritRuleCatalogue {
 
-    private static final List<DemeritRule> RULES = List.of(
+    /** Version of the built-in rule set below. Incremented whenever a rule is added, removed or reworded. */
+    public static final int BUILT_IN_VERSION = 1;
+
+    private static final DemeritRuleSet BUILT_IN_RULES = new DemeritRuleSet(BUILT_IN_VERSION, List.of(
             new DemeritRule(
                     1,
                     "Breaches involving or resulting in criminal activity / sexual misconduct / "
@@ -168,39 +179,80 @@ public final class DemeritRuleCatalogue {
                     32,
                     "Non-compliance with prevailing safe management measures in NUS hostels",
                     3, 6, 6)
-    );
+    ));
+
+    public static final String MESSAGE_VERSION_NOT_RAISED = "Demerit rules version %1$d changes the rules without "
+            + "raising the version. Use a version above %2$d.";
+
+    private final Map<Integer, DemeritRuleSet> installedRules = new HashMap<>(Map.of(BUILT_IN_VERSION, BUILT_IN_RULES));
+
+    private volatile DemeritRuleSet rules = BUILT_IN_RULES;
 
-    private DemeritRuleCatalogue() {}
+    /**
+     * Returns the rule set compiled into Hall Ledger.
+     */
+    public static DemeritRuleSet getBuiltInRules() {
+        return BUILT_IN_RULES;
+    }
+
+    /**
+     * Returns the rule set currently in force.
+     */
+    public DemeritRuleSet getRules() {
+        return rules;
+    }
+
+    /**
+     * Puts {@code ruleSet} in force in place of the current rule set.
+     * {@code ruleSet} must either be a rule set installed before, or have a new version above that of the rule set
+     * in force.
+     *
+     * @throws IllegalArgumentException if {@code ruleSet} changes the rules without raising their version.
+     */
+    public synchronized void install(DemeritRuleSet ruleSet) {
+        requireNonNull(ruleSet);
+        DemeritRuleSet installed = installedRules.get(ruleSet.getVersion());
+        boolean isNewVersion = installed == null && ruleSet.getVersion() > rules.getVersion();
+        if (!ruleSet.equals(installed) && !isNewVersion) {
+            throw new IllegalArgumentException(
+                    String.format(MESSAGE_VERSION_NOT_RAISED, ruleSet.getVersion(), rules.getVersion()));
+        }
+        installedRules.put(ruleSet.getVersion(), ruleSet);
+        rules = ruleSet;
+    }
+
+    /**
+     * Returns the version of the rule set currently in force.
+     */
+    public int getVersion() {
+        return rules.getVersion();
+    }
 
     /**
      * Returns all demerit rules in index order.
      */
-    public static List<DemeritRule> getAllRules() {
-        return RULES;
+    public List<DemeritRule> getAllRules() {
+        return rules.getRules();
     }
 
     /**
      * Returns the rule with the given index, if present.
      */
-    public static Optional<DemeritRule> findByIndex(int index) {
-        return RULES.stream()
-                .filter(rule -> rule.getIndex() == index)
-                .findFirst();
+    public Optional<DemeritRule> findByIndex(int index) {
+        return rules.findByIndex(index);
     }
 
     /**
      * Returns true if a rule with the given index exists.
      */
-    public static boolean containsIndex(int index) {
-        return findByIndex(index).isPresent();
+    public boolean containsIndex(int index) {
+        return rules.findByIndex(index).isPresent();
     }
 
     /**
      * Formats all rules into a user-displayable block for the result box.
      */
-    public static String formatAllRules() {
-        return RULES.stream()
-                .map(DemeritRule::toString)
-                .collect(Collectors.joining(System.lineSeparator()));
+    public String formatAllRules() {
+        return rules.format();
     }
 }
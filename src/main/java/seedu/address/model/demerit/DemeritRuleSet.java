@@ -0,0 +1,125 @@
+package seedu.address.model.demerit;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * An immutable, versioned set of demerit rules.
+ *
+ * <p>Rules are held in an array indexed by rule index, so looking a rule up by index takes constant time.
+ * Rule indexes are expected to be dense, starting from 1, as they are numbered in the DPS.
+ */
+public final class DemeritRuleSet {
+
+    public static final int MAX_RULE_INDEX = 999;
+
+    public static final String MESSAGE_INVALID_VERSION = "Demerit rule set version should be a positive integer.";
+    public static final String MESSAGE_NO_RULES = "Demerit rule set should contain at least one rule.";
+    public static final String MESSAGE_INVALID_INDEX =
+            "Demerit rule index should be between 1 and " + MAX_RULE_INDEX + ".";
+    public static final String MESSAGE_DUPLICATE_INDEX = "Demerit rule set contains more than one rule [%1$d].";
+
+    private final int version;
+    private final List<DemeritRule> rules;
+    private final DemeritRule[] rulesByIndex;
+    private final String formattedRules;
+
+    /**
+     * Creates a rule set of {@code rules} under {@code version}.
+     * {@code version} must be positive, and {@code rules} must be non-empty with unique indexes between 1 and
+     * {@link #MAX_RULE_INDEX}.
+     */
+    public DemeritRuleSet(int version, List<DemeritRule> rules) {
+        requireNonNull(rules);
+        checkArgument(version > 0, MESSAGE_INVALID_VERSION);
+        checkArgument(!rules.isEmpty(), MESSAGE_NO_RULES);
+
+        List<DemeritRule> sortedRules = new ArrayList<>(rules);
+        sortedRules.sort(Comparator.comparingInt(DemeritRule::getIndex));
+        int maxIndex = sortedRules.get(sortedRules.size() - 1).getIndex();
+        checkArgument(sortedRules.get(0).getIndex() > 0 && maxIndex <= MAX_RULE_INDEX, MESSAGE_INVALID_INDEX);
+
+        DemeritRule[] byIndex = new DemeritRule[maxIndex + 1];
+        for (DemeritRule rule : sortedRules) {
+            if (byIndex[rule.getIndex()] != null) {
+                throw new IllegalArgumentException(String.format(MESSAGE_DUPLICATE_INDEX, rule.getIndex()));
+            }
+            byIndex[rule.getIndex()] = rule;
+        }
+
+        this.version = version;
+        this.rules = List.copyOf(sortedRules);
+        this.rulesByIndex = byIndex;
+        this.formattedRules = this.rules.stream()
+                .map(DemeritRule::toString)
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns all rules in index order.
+     */
+    public List<DemeritRule> getRules() {
+        return rules;
+    }
+
+    /**
+     * Returns the largest rule index in this set.
+     */
+    public int getMaxIndex() {
+        return rulesByIndex.length - 1;
+    }
+
+    /**
+     * Returns the rule with the given index, if present.
+     */
+    public Optional<DemeritRule> findByIndex(int index) {
+        if (index < 0 || index >= rulesByIndex.length) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(rulesByIndex[index]);
+    }
+
+    /**
+     * Returns all rules formatted one per line, in index order.
+     */
+    public String format() {
+        return formattedRules;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof DemeritRuleSet otherRuleSet)) {
+            return false;
+        }
+        return version == otherRuleSet.version && rules.equals(otherRuleSet.rules);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(version, rules);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("ruleCount", rules.size())
+                .toString();
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.model.demerit;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A snapshot of the hall-wide demerit totals.
+ *
+ * @param totalIncidents number of incidents recorded across all residents
+ * @param totalPointsIssued demerit points applied by those incidents
+ * @param triggeredRules totals of every rule with at least one incident, in rule index order
+ */
+public record DemeritSummary(int totalIncidents, long totalPointsIssued, List<RuleStatistics> triggeredRules) {
+
+    public static final String MESSAGE_ENTRY =
+            "[%1$d] %2$s: %3$d incident(s), %4$d points (1st: %5$d, 2nd: %6$d, 3rd+: %7$d)";
+    public static final String UNKNOWN_RULE_TITLE = "Unknown rule";
+
+    /**
+     * Orders rules by descending number of incidents, then by rule index.
+     */
+    public static final Comparator<RuleStatistics> MOST_INCIDENTS_FIRST =
+            Comparator.comparingInt(RuleStatistics::incidentCount).reversed()
+                    .thenComparingInt(RuleStatistics::ruleIndex);
+
+    public DemeritSummary {
+        triggeredRules = List.copyOf(triggeredRules);
+    }
+
+    /**
+     * Returns the totals of every rule with at least one incident, ordered by {@link #MOST_INCIDENTS_FIRST}.
+     */
+    public List<RuleStatistics> getRulesByMostIncidents() {
+        List<RuleStatistics> rules = new ArrayList<>(triggeredRules);
+        rules.sort(MOST_INCIDENTS_FIRST);
+        return rules;
+    }
+
+    /**
+     * Formats the totals of one rule as a line of a demerit report, titled as in {@code rules}.
+     */
+    public static String formatEntry(RuleStatistics rule, DemeritRuleSet rules) {
+        String title = rules.findByIndex(rule.ruleIndex())
+                .map(DemeritRule::getTitle)
+                .orElse(UNKNOWN_RULE_TITLE);
+        return String.format(MESSAGE_ENTRY, rule.ruleIndex(), title, rule.incidentCount(), rule.pointsIssued(),
+                rule.firstOffences(), rule.secondOffences(), rule.laterOffences());
+    }
+}
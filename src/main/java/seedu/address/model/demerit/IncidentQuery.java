@@ -0,0 +1,137 @@
+package seedu.address.model.demerit;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Constraints on the demerit incidents to find across the hall. A null constraint places no restriction.
+ */
+public final class IncidentQuery {
+
+    private final Integer ruleIndex;
+    private final StudentId residentId;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final Set<String> remarkWords;
+
+    /**
+     * Creates a query. Each argument may be null to leave it unconstrained.
+     *
+     * @param ruleIndex index of the rule the incidents were applied under
+     * @param residentId student ID of the resident the incidents were applied to
+     * @param from earliest time the incidents were recorded, inclusive
+     * @param to latest time the incidents were recorded, exclusive
+     * @param remarkText words that must all appear in the incidents' remarks, in any case and order
+     */
+    public IncidentQuery(Integer ruleIndex, StudentId residentId, LocalDateTime from, LocalDateTime to,
+                         String remarkText) {
+        this.ruleIndex = ruleIndex;
+        this.residentId = residentId;
+        this.from = from;
+        this.to = to;
+        this.remarkWords = remarkText == null ? Set.of() : toWords(remarkText);
+    }
+
+    public Optional<Integer> getRuleIndex() {
+        return Optional.ofNullable(ruleIndex);
+    }
+
+    public Optional<StudentId> getResidentId() {
+        return Optional.ofNullable(residentId);
+    }
+
+    public Optional<LocalDateTime> getFrom() {
+        return Optional.ofNullable(from);
+    }
+
+    public Optional<LocalDateTime> getTo() {
+        return Optional.ofNullable(to);
+    }
+
+    /**
+     * Returns the lower-cased words that must appear in an incident's remark.
+     */
+    public Set<String> getRemarkWords() {
+        return remarkWords;
+    }
+
+    /**
+     * Returns true if this query constrains the time incidents were recorded.
+     * Incidents without a recorded time never match such a query.
+     */
+    public boolean hasTimeRange() {
+        return from != null || to != null;
+    }
+
+    /**
+     * Returns true if {@code record} satisfies every constraint of this query.
+     */
+    public boolean matches(IncidentRecord record) {
+        DemeritIncident incident = record.incident();
+        if (ruleIndex != null && incident.getRuleIndex() != ruleIndex) {
+            return false;
+        }
+        if (residentId != null && !residentId.equals(record.residentId())) {
+            return false;
+        }
+        if (hasTimeRange() && !isInTimeRange(incident)) {
+            return false;
+        }
+        return remarkWords.isEmpty() || toWords(incident.getRemark()).containsAll(remarkWords);
+    }
+
+    private boolean isInTimeRange(DemeritIncident incident) {
+        if (incident.getRecordedAt().isEmpty()) {
+            return false;
+        }
+        LocalDateTime recordedAt = incident.getRecordedAt().get();
+        return (from == null || !recordedAt.isBefore(from)) && (to == null || recordedAt.isBefore(to));
+    }
+
+    /**
+     * Splits {@code text} into lower-cased words of letters and digits.
+     */
+    public static Set<String> toWords(String text) {
+        return Arrays.stream(text.toLowerCase().split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof IncidentQuery otherQuery)) {
+            return false;
+        }
+        return Objects.equals(ruleIndex, otherQuery.ruleIndex)
+                && Objects.equals(residentId, otherQuery.residentId)
+                && Objects.equals(from, otherQuery.from)
+                && Objects.equals(to, otherQuery.to)
+                && remarkWords.equals(otherQuery.remarkWords);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ruleIndex, residentId, from, to, remarkWords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("ruleIndex", ruleIndex)
+                .add("residentId", residentId)
+                .add("from", from)
+                .add("to", to)
+                .add("remarkWords", remarkWords)
+                .toString();
+    }
+}
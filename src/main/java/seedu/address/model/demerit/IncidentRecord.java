@@ -0,0 +1,42 @@
+package seedu.address.model.demerit;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+
+import seedu.address.model.person.StudentId;
+
+/**
+ * A demerit incident together with the resident it was applied to.
+ *
+ * <p>Residents' incident lists only grow by appending, so the position of an incident in its resident's list,
+ * together with the {@link seedu.address.model.person.Person#getIncidentKey() key} the list is filed under,
+ * identifies it. The key is saved with the resident and kept when their student ID is edited, so the ID stays the
+ * same across edits and restarts.
+ *
+ * @param residentId student ID of the resident the incident was applied to
+ * @param incidentKey student ID the resident's incidents are filed under
+ * @param sequence one-based position of the incident in the resident's incident list
+ * @param incident the incident itself
+ */
+public record IncidentRecord(StudentId residentId, StudentId incidentKey, int sequence, DemeritIncident incident) {
+
+    public IncidentRecord {
+        requireAllNonNull(residentId, incidentKey, incident);
+    }
+
+    /**
+     * Returns the ID of this incident, e.g. {@code A1234567X-2} for the second incident filed under A1234567X.
+     */
+    public String getId() {
+        return incidentKey + "-" + sequence;
+    }
+
+    /**
+     * Returns when the incident was recorded, or {@link LocalDateTime#MIN} if that is not known, so that incidents
+     * without a time sort before all others.
+     */
+    public LocalDateTime getSortTime() {
+        return incident.getRecordedAt().orElse(LocalDateTime.MIN);
+    }
+}
@@ -0,0 +1,268 @@
+package seedu.address.model.demerit;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.AppendOnlyList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * A hall-wide table of every resident's demerit incidents, indexed by resident, by rule and time, by time, and by
+ * the words of their remarks.
+ *
+ * <p>The table is kept in step with the resident list, so finding incidents across residents only visits the
+ * incidents in the most selective index instead of every resident's history. Applying a demerit to a resident only
+ * adds the appended incident; other changes to a resident re-index that resident's incidents alone.
+ *
+ * <p>The table does not copy any resident's history. Its by-resident index is a view over each resident's own
+ * append-only incident list, the one {@link Person#getDemeritIncidents()} returns, so a resident's incidents are
+ * held once and read the same way from either side.
+ *
+ * <p>This runs the other way from keeping the incidents here and making each resident a view over the table. A
+ * {@code Person} is immutable and is built, parsed and loaded with no table in reach, so the resident's own list
+ * stays the single owner of its incidents and this table only indexes them.
+ */
+public class IncidentStore {
+
+    /** Orders incidents by when they were recorded, then by resident and position. */
+    public static final Comparator<IncidentRecord> BY_TIME = Comparator.comparing(IncidentRecord::getSortTime)
+            .thenComparing(record -> record.residentId().value)
+            .thenComparingInt(IncidentRecord::sequence);
+
+    private final Map<StudentId, ResidentIncidents> byResident = new HashMap<>();
+    // Kept in sets so that removing a record stays cheap even when many share a time, as untimed records all do
+    private final Map<Integer, NavigableMap<LocalDateTime, Set<IncidentRecord>>> byRuleAndTime = new HashMap<>();
+    private final NavigableMap<LocalDateTime, Set<IncidentRecord>> byTime = new TreeMap<>();
+    private final Map<String, Set<IncidentRecord>> byRemarkWord = new HashMap<>();
+    private int size;
+
+    /**
+     * Adds every demerit incident of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        addFrom(person, 0);
+    }
+
+    /**
+     * Removes every demerit incident of {@code person}.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        ResidentIncidents records = byResident.remove(person.getStudentId());
+        if (records == null) {
+            return;
+        }
+        for (IncidentRecord record : records) {
+            unindex(record);
+        }
+        size -= records.size();
+    }
+
+    /**
+     * Updates the table after {@code target} is replaced by {@code editedPerson}.
+     * If {@code editedPerson} keeps the student ID of {@code target} and extends its incidents, only the new
+     * incidents are added.
+     */
+    public void update(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        List<DemeritIncident> before = target.getDemeritIncidents();
+        List<DemeritIncident> after = editedPerson.getDemeritIncidents();
+        boolean isAppend = target.getStudentId().equals(editedPerson.getStudentId())
+                && AppendOnlyList.extendsByAppending(after, before);
+        if (!isAppend) {
+            remove(target);
+            add(editedPerson);
+            return;
+        }
+        addFrom(editedPerson, before.size());
+    }
+
+    /**
+     * Replaces the contents of the table with the incidents of {@code persons}.
+     */
+    public void reset(List<Person> persons) {
+        requireNonNull(persons);
+        byResident.clear();
+        byRuleAndTime.clear();
+        byTime.clear();
+        byRemarkWord.clear();
+        size = 0;
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the incidents of the resident with {@code studentId}, in the order they were applied. The list is a
+     * view over the resident's own incident list as of the last update of the table.
+     */
+    public List<IncidentRecord> getIncidents(StudentId studentId) {
+        requireNonNull(studentId);
+        List<IncidentRecord> records = byResident.get(studentId);
+        return records == null ? List.of() : records;
+    }
+
+    /**
+     * Returns the number of incidents in the table.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns every incident matching {@code query}, ordered by {@link #BY_TIME}.
+     */
+    public List<IncidentRecord> find(IncidentQuery query) {
+        requireNonNull(query);
+        List<IncidentRecord> matches = new ArrayList<>();
+        for (IncidentRecord record : selectCandidates(query)) {
+            if (query.matches(record)) {
+                matches.add(record);
+            }
+        }
+        matches.sort(BY_TIME);
+        return matches;
+    }
+
+    /**
+     * Returns the incidents of the most selective index that applies to {@code query}. Every match of
+     * {@code query} is among them.
+     */
+    private Collection<IncidentRecord> selectCandidates(IncidentQuery query) {
+        if (query.getResidentId().isPresent()) {
+            return getIncidents(query.getResidentId().get());
+        }
+        if (query.getRuleIndex().isPresent()) {
+            NavigableMap<LocalDateTime, Set<IncidentRecord>> ruleTimes =
+                    byRuleAndTime.get(query.getRuleIndex().get());
+            return ruleTimes == null ? List.of() : flatten(restrictToTimeRange(ruleTimes, query));
+        }
+        if (!query.getRemarkWords().isEmpty()) {
+            return findRarestRemarkWord(query.getRemarkWords());
+        }
+        return flatten(restrictToTimeRange(byTime, query));
+    }
+
+    private static NavigableMap<LocalDateTime, Set<IncidentRecord>> restrictToTimeRange(
+            NavigableMap<LocalDateTime, Set<IncidentRecord>> times, IncidentQuery query) {
+        if (!query.hasTimeRange()) {
+            return times;
+        }
+        // Incidents without a time are keyed by LocalDateTime.MIN, so a time range always skips them
+        LocalDateTime from = query.getFrom().orElse(LocalDateTime.MIN.plusNanos(1));
+        return query.getTo().isPresent()
+                ? times.subMap(from, true, query.getTo().get(), false)
+                : times.tailMap(from, true);
+    }
+
+    private Set<IncidentRecord> findRarestRemarkWord(Set<String> words) {
+        Set<IncidentRecord> rarest = null;
+        for (String word : words) {
+            Set<IncidentRecord> records = byRemarkWord.getOrDefault(word, Set.of());
+            if (rarest == null || records.size() < rarest.size()) {
+                rarest = records;
+            }
+        }
+        return rarest;
+    }
+
+    private static List<IncidentRecord> flatten(NavigableMap<LocalDateTime, Set<IncidentRecord>> times) {
+        List<IncidentRecord> records = new ArrayList<>();
+        times.values().forEach(records::addAll);
+        return records;
+    }
+
+    /**
+     * Adds the incidents of {@code person} from position {@code start} onwards.
+     */
+    private void addFrom(Person person, int start) {
+        List<DemeritIncident> incidents = person.getDemeritIncidents();
+        if (start >= incidents.size()) {
+            return;
+        }
+        ResidentIncidents residentRecords =
+                new ResidentIncidents(person.getStudentId(), person.getIncidentKey(), incidents);
+        byResident.put(person.getStudentId(), residentRecords);
+        for (int i = start; i < incidents.size(); i++) {
+            index(residentRecords.get(i));
+        }
+        size += incidents.size() - start;
+    }
+
+    private void index(IncidentRecord record) {
+        LocalDateTime time = record.getSortTime();
+        byRuleAndTime.computeIfAbsent(record.incident().getRuleIndex(), ruleIndex -> new TreeMap<>())
+                .computeIfAbsent(time, key -> new HashSet<>())
+                .add(record);
+        byTime.computeIfAbsent(time, key -> new HashSet<>()).add(record);
+        for (String word : IncidentQuery.toWords(record.incident().getRemark())) {
+            byRemarkWord.computeIfAbsent(word, key -> new HashSet<>()).add(record);
+        }
+    }
+
+    private void unindex(IncidentRecord record) {
+        LocalDateTime time = record.getSortTime();
+        NavigableMap<LocalDateTime, Set<IncidentRecord>> ruleTimes =
+                byRuleAndTime.get(record.incident().getRuleIndex());
+        removeFromBucket(ruleTimes, time, record);
+        if (ruleTimes.isEmpty()) {
+            byRuleAndTime.remove(record.incident().getRuleIndex());
+        }
+        removeFromBucket(byTime, time, record);
+        for (String word : IncidentQuery.toWords(record.incident().getRemark())) {
+            Set<IncidentRecord> records = byRemarkWord.get(word);
+            records.remove(record);
+            if (records.isEmpty()) {
+                byRemarkWord.remove(word);
+            }
+        }
+    }
+
+    private static void removeFromBucket(NavigableMap<LocalDateTime, Set<IncidentRecord>> times,
+                                         LocalDateTime time, IncidentRecord record) {
+        Set<IncidentRecord> bucket = times.get(time);
+        bucket.remove(record);
+        if (bucket.isEmpty()) {
+            times.remove(time);
+        }
+    }
+
+    /**
+     * The incidents of one resident, as records, backed by the resident's own incident list.
+     */
+    private static class ResidentIncidents extends AbstractList<IncidentRecord> implements RandomAccess {
+        private final StudentId residentId;
+        private final StudentId incidentKey;
+        private final List<DemeritIncident> incidents;
+
+        ResidentIncidents(StudentId residentId, StudentId incidentKey, List<DemeritIncident> incidents) {
+            this.residentId = residentId;
+            this.incidentKey = incidentKey;
+            this.incidents = incidents;
+        }
+
+        @Override
+        public IncidentRecord get(int index) {
+            return new IncidentRecord(residentId, incidentKey, index + 1, incidents.get(index));
+        }
+
+        @Override
+        public int size() {
+            return incidents.size();
+        }
+    }
+}
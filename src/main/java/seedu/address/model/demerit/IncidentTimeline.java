@@ -0,0 +1,199 @@
+package seedu.address.model.demerit;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable, per-rule index of when a resident's demerit incidents were recorded.
+ *
+ * <p>The times of each rule's incidents are kept sorted in an array indexed by rule index, so the number of
+ * offences against a rule within any time window is found by binary search in logarithmic time. Incidents
+ * recorded before times were kept count as earlier than every window, so they only count towards all-time totals.
+ * Rule indexes above {@link DemeritRuleSet#MAX_RULE_INDEX} are kept in a map instead, so that one stray index
+ * cannot size the array.
+ */
+public final class IncidentTimeline {
+
+    private static final IncidentTimeline EMPTY = new IncidentTimeline(new LocalDateTime[0][], Map.of());
+    private static final LocalDateTime[] NO_TIMES = new LocalDateTime[0];
+
+    private final LocalDateTime[][] timesByRule;
+    private final Map<Integer, LocalDateTime[]> sparseTimesByRule;
+
+    private IncidentTimeline(LocalDateTime[][] timesByRule, Map<Integer, LocalDateTime[]> sparseTimesByRule) {
+        this.timesByRule = timesByRule;
+        this.sparseTimesByRule = sparseTimesByRule;
+    }
+
+    /**
+     * Returns a timeline of {@code incidents}.
+     */
+    public static IncidentTimeline of(List<DemeritIncident> incidents) {
+        requireNonNull(incidents);
+        int size = 0;
+        for (DemeritIncident incident : incidents) {
+            if (isDense(incident.getRuleIndex())) {
+                size = Math.max(size, incident.getRuleIndex() + 1);
+            }
+        }
+
+        List<List<LocalDateTime>> timeLists = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            timeLists.add(new ArrayList<>());
+        }
+        Map<Integer, List<LocalDateTime>> sparseTimeLists = new HashMap<>();
+        for (DemeritIncident incident : incidents) {
+            int ruleIndex = incident.getRuleIndex();
+            if (ruleIndex < 0) {
+                continue;
+            }
+            List<LocalDateTime> timeList = isDense(ruleIndex)
+                    ? timeLists.get(ruleIndex)
+                    : sparseTimeLists.computeIfAbsent(ruleIndex, unused -> new ArrayList<>());
+            timeList.add(timeOf(incident));
+        }
+        if (size == 0 && sparseTimeLists.isEmpty()) {
+            return EMPTY;
+        }
+
+        LocalDateTime[][] timesByRule = new LocalDateTime[size][];
+        for (int i = 0; i < size; i++) {
+            timesByRule[i] = toSortedArray(timeLists.get(i));
+        }
+        Map<Integer, LocalDateTime[]> sparseTimesByRule = new HashMap<>();
+        sparseTimeLists.forEach((ruleIndex, timeList) -> sparseTimesByRule.put(ruleIndex, toSortedArray(timeList)));
+        return new IncidentTimeline(timesByRule, Map.copyOf(sparseTimesByRule));
+    }
+
+    /**
+     * Returns a timeline with {@code incident} added. Only the array of the incident's rule is copied; the others
+     * are shared with this timeline.
+     */
+    public IncidentTimeline with(DemeritIncident incident) {
+        requireNonNull(incident);
+        int ruleIndex = incident.getRuleIndex();
+        if (ruleIndex < 0) {
+            return this;
+        }
+        LocalDateTime[] updatedTimes = insert(timesOf(ruleIndex), timeOf(incident));
+
+        if (!isDense(ruleIndex)) {
+            Map<Integer, LocalDateTime[]> updated = new HashMap<>(sparseTimesByRule);
+            updated.put(ruleIndex, updatedTimes);
+            return new IncidentTimeline(timesByRule, Map.copyOf(updated));
+        }
+        LocalDateTime[][] updated = Arrays.copyOf(timesByRule, Math.max(timesByRule.length, ruleIndex + 1));
+        for (int i = timesByRule.length; i < updated.length; i++) {
+            updated[i] = NO_TIMES;
+        }
+        updated[ruleIndex] = updatedTimes;
+        return new IncidentTimeline(updated, sparseTimesByRule);
+    }
+
+    /**
+     * Returns the number of incidents of the rule with {@code ruleIndex}.
+     */
+    public int countOccurrences(int ruleIndex) {
+        return timesOf(ruleIndex).length;
+    }
+
+    /**
+     * Returns the number of incidents of the rule with {@code ruleIndex} recorded at or after {@code since}.
+     */
+    public int countOccurrencesSince(int ruleIndex, LocalDateTime since) {
+        requireNonNull(since);
+        LocalDateTime[] times = timesOf(ruleIndex);
+        return times.length - lowerBound(times, since);
+    }
+
+    /**
+     * Returns the number of incidents of the rule with {@code ruleIndex} recorded at or after {@code from}
+     * and before {@code to}.
+     */
+    public int countOccurrencesBetween(int ruleIndex, LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        LocalDateTime[] times = timesOf(ruleIndex);
+        return Math.max(0, lowerBound(times, to) - lowerBound(times, from));
+    }
+
+    private LocalDateTime[] timesOf(int ruleIndex) {
+        if (!isDense(ruleIndex)) {
+            return sparseTimesByRule.getOrDefault(ruleIndex, NO_TIMES);
+        }
+        if (ruleIndex < 0 || ruleIndex >= timesByRule.length) {
+            return NO_TIMES;
+        }
+        return timesByRule[ruleIndex];
+    }
+
+    private static boolean isDense(int ruleIndex) {
+        return ruleIndex <= DemeritRuleSet.MAX_RULE_INDEX;
+    }
+
+    private static LocalDateTime[] toSortedArray(List<LocalDateTime> timeList) {
+        if (timeList.isEmpty()) {
+            return NO_TIMES;
+        }
+        LocalDateTime[] times = timeList.toArray(NO_TIMES);
+        Arrays.sort(times);
+        return times;
+    }
+
+    /**
+     * Returns a copy of the sorted {@code times} with {@code time} inserted in order.
+     */
+    private static LocalDateTime[] insert(LocalDateTime[] times, LocalDateTime time) {
+        // New incidents are usually the latest, so this is normally an append
+        int position = upperBound(times, time);
+        LocalDateTime[] updatedTimes = new LocalDateTime[times.length + 1];
+        System.arraycopy(times, 0, updatedTimes, 0, position);
+        updatedTimes[position] = time;
+        System.arraycopy(times, position, updatedTimes, position + 1, times.length - position);
+        return updatedTimes;
+    }
+
+    private static LocalDateTime timeOf(DemeritIncident incident) {
+        return incident.getRecordedAt().orElse(LocalDateTime.MIN);
+    }
+
+    /**
+     * Returns the position of the first time in {@code times} that is not before {@code time}.
+     */
+    private static int lowerBound(LocalDateTime[] times, LocalDateTime time) {
+        int low = 0;
+        int high = times.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (times[mid].isBefore(time)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of the first time in {@code times} that is after {@code time}.
+     */
+    private static int upperBound(LocalDateTime[] times, LocalDateTime time) {
+        int low = 0;
+        int high = times.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (times[mid].isAfter(time)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,14 @@
+package seedu.address.model.demerit;
+
+/**
+ * Hall-wide totals for one demerit rule.
+ *
+ * @param ruleIndex index of the rule in the {@link DemeritRuleCatalogue}
+ * @param incidentCount number of incidents recorded under the rule
+ * @param pointsIssued demerit points applied by those incidents
+ * @param firstOffences incidents that were a resident's first offence of the rule
+ * @param secondOffences incidents that were a resident's second offence of the rule
+ * @param laterOffences incidents that were a resident's third or later offence of the rule
+ */
+public record RuleStatistics(int ruleIndex, int incidentCount, long pointsIssued,
+                             int firstOffences, int secondOffences, int laterOffences) {}
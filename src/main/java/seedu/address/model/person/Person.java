@@ -1,17 +1,22 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
+import seedu.address.commons.util.AppendOnlyList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.demerit.DemeritIncident;
+import seedu.address.model.demerit.IncidentTimeline;
+import seedu.address.model.search.SearchField;
+import seedu.address.model.search.SearchKeys;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagType;
 
@@ -32,7 +37,15 @@ public class Person {
     private final EmergencyContact emergencyContact;
     private final Remark remark;
     private final Map<TagType, Tag> tags;
-    private final List<DemeritIncident> demeritIncidents;
+    private final AppendOnlyList<DemeritIncident> demeritIncidents;
+    private final StudentId incidentKey;
+
+    // Derived from demeritIncidents
+    private final int totalDemeritPoints;
+    private final IncidentTimeline incidentTimeline;
+
+    // Derived from the searchable fields
+    private final SearchKeys searchKeys;
 
     /**
      * Every field must be present and not null.
@@ -44,12 +57,23 @@ public class Person {
 
     /**
      * Every field must be present and not null.
+     * The incidents are filed under {@code studentId}.
      */
     public Person(Name name, Phone phone, Email email, StudentId studentId, RoomNumber roomNumber,
                   EmergencyContact emergencyContact, Remark remark, Map<TagType, Tag> tags,
                   List<DemeritIncident> demeritIncidents) {
+        this(name, phone, email, studentId, roomNumber, emergencyContact, remark, tags, demeritIncidents, studentId);
+    }
+
+    /**
+     * Every field must be present and not null.
+     * The incidents are filed under {@code incidentKey}, which may be a student ID the person no longer has.
+     */
+    public Person(Name name, Phone phone, Email email, StudentId studentId, RoomNumber roomNumber,
+                  EmergencyContact emergencyContact, Remark remark, Map<TagType, Tag> tags,
+                  List<DemeritIncident> demeritIncidents, StudentId incidentKey) {
         requireAllNonNull(name, phone, email, studentId, roomNumber,
-                emergencyContact, remark, tags, demeritIncidents);
+                emergencyContact, remark, tags, demeritIncidents, incidentKey);
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -57,8 +81,36 @@ public class Person {
         this.roomNumber = roomNumber;
         this.emergencyContact = emergencyContact;
         this.remark = remark;
-        this.tags = new HashMap<>(tags);
-        this.demeritIncidents = new ArrayList<>(demeritIncidents);
+        this.tags = copyTags(tags);
+        this.demeritIncidents = AppendOnlyList.copyOf(demeritIncidents);
+        this.incidentKey = incidentKey;
+        this.totalDemeritPoints = sumPoints(this.demeritIncidents);
+        this.incidentTimeline = IncidentTimeline.of(this.demeritIncidents);
+        this.searchKeys = SearchKeys.of(this);
+    }
+
+    /**
+     * Creates a person from fields that are already immutable and may be shared with other persons.
+     * {@code totalDemeritPoints} and {@code incidentTimeline} must be consistent with {@code demeritIncidents},
+     * and {@code previousSearchKeys} must be consistent with every searchable field except {@code changedFields}.
+     */
+    private Person(Name name, Phone phone, Email email, StudentId studentId, RoomNumber roomNumber,
+                   EmergencyContact emergencyContact, Remark remark, Map<TagType, Tag> tags,
+                   AppendOnlyList<DemeritIncident> demeritIncidents, StudentId incidentKey, int totalDemeritPoints,
+                   IncidentTimeline incidentTimeline, SearchKeys previousSearchKeys, SearchField... changedFields) {
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.studentId = studentId;
+        this.roomNumber = roomNumber;
+        this.emergencyContact = emergencyContact;
+        this.remark = remark;
+        this.tags = tags;
+        this.demeritIncidents = demeritIncidents;
+        this.incidentKey = incidentKey;
+        this.totalDemeritPoints = totalDemeritPoints;
+        this.incidentTimeline = incidentTimeline;
+        this.searchKeys = previousSearchKeys.update(this, changedFields);
     }
 
     public Name getName() {
@@ -94,7 +146,7 @@ public class Person {
      * if modification is attempted.
      */
     public Map<TagType, Tag> getTags() {
-        return Collections.unmodifiableMap(tags);
+        return tags;
     }
 
     /**
@@ -120,27 +172,158 @@ public class Person {
 
     /**
      * Returns an immutable list of demerit incidents.
+     * The hall-wide {@link seedu.address.model.demerit.IncidentStore} indexes this list itself rather than a copy.
      */
     public List<DemeritIncident> getDemeritIncidents() {
-        return Collections.unmodifiableList(demeritIncidents);
+        return demeritIncidents;
+    }
+
+    /**
+     * Returns the student ID this person's incidents are filed under, which their incident IDs are formed from.
+     * It is the student ID the person had when their first incident was recorded, so that the IDs stay the same
+     * when the person's student ID is edited later. It is not part of the person's identity or equality.
+     */
+    public StudentId getIncidentKey() {
+        return incidentKey;
     }
 
     /**
      * Returns the resident's total accumulated demerit points.
      */
     public int getTotalDemeritPoints() {
-        return demeritIncidents.stream()
-                .mapToInt(DemeritIncident::getPointsApplied)
-                .sum();
+        return totalDemeritPoints;
     }
 
     /**
      * Returns the number of times this resident has already committed the given rule.
      */
     public int getOccurrenceCountForRule(int ruleIndex) {
-        return (int) demeritIncidents.stream()
-                .filter(incident -> incident.getRuleIndex() == ruleIndex)
-                .count();
+        return incidentTimeline.countOccurrences(ruleIndex);
+    }
+
+    /**
+     * Returns the number of times this resident has committed the given rule at or after {@code since}.
+     * Incidents without a recorded time are not counted.
+     */
+    public int getOccurrenceCountForRuleSince(int ruleIndex, LocalDateTime since) {
+        return incidentTimeline.countOccurrencesSince(ruleIndex, since);
+    }
+
+    /**
+     * Returns the number of times this resident has committed the given rule at or after {@code from} and
+     * before {@code to}, e.g. within a semester. Incidents without a recorded time are not counted.
+     */
+    public int getOccurrenceCountForRuleBetween(int ruleIndex, LocalDateTime from, LocalDateTime to) {
+        return incidentTimeline.countOccurrencesBetween(ruleIndex, from, to);
+    }
+
+    /**
+     * Returns the trimmed, lower-cased value of {@code field} for this person,
+     * or an empty string if this person has no value for it.
+     */
+    public String getSearchKey(SearchField field) {
+        return searchKeys.get(field);
+    }
+
+    /**
+     * Returns a copy of this person with the given name.
+     */
+    public Person withName(Name name) {
+        requireNonNull(name);
+        return new Person(name, phone, email, studentId, roomNumber, emergencyContact, remark, tags,
+                demeritIncidents, incidentKey, totalDemeritPoints, incidentTimeline, searchKeys, SearchField.NAME);
+    }
+
+    /**
+     * Returns a copy of this person with the given phone.
+     */
+    public Person withPhone(Phone phone) {
+        requireNonNull(phone);
+        return new Person(name, phone, email, studentId, roomNumber, emergencyContact, remark, tags,
+                demeritIncidents, incidentKey, totalDemeritPoints, incidentTimeline, searchKeys, SearchField.PHONE);
+    }
+
+    /**
+     * Returns a copy of this person with the given email.
+     */
+    public Person withEmail(Email email) {
+        requireNonNull(email);
+        return new Person(name, phone, email, studentId, roomNumber, emergencyContact, remark, tags,
+                demeritIncidents, incidentKey, totalDemeritPoints, incidentTimeline, searchKeys, SearchField.EMAIL);
+    }
+
+    /**
+     * Returns a copy of this person with the given student ID.
+     */
+    public Person withStudentId(StudentId studentId) {
+        requireNonNull(studentId);
+        return new Person(name, phone, email, studentId, roomNumber, emergencyContact, remark, tags,
+                demeritIncidents, demeritIncidents.isEmpty() ? studentId : incidentKey, totalDemeritPoints,
+                incidentTimeline, searchKeys, SearchField.STUDENT_ID);
+    }
+
+    /**
+     * Returns a copy of this person with the given room number.
+     */
+    public Person withRoomNumber(RoomNumber roomNumber) {
+        requireNonNull(roomNumber);
+        return new Person(name, phone, email, studentId, roomNumber, emergencyContact, remark, tags,
+                demeritIncidents, incidentKey, totalDemeritPoints, incidentTimeline, searchKeys,
+                SearchField.ROOM_NUMBER);
+    }
+
+    /**
+     * Returns a copy of this person with the given emergency contact.
+     */
+    public Person withEmergencyContact(EmergencyContact emergencyContact) {
+        requireNonNull(emergencyContact);
+        return new Person(name, phone, email, studentId, roomNumber, emergencyContact, remark, tags,
+                demeritIncidents, incidentKey, totalDemeritPoints, incidentTimeline, searchKeys,
+                SearchField.EMERGENCY_CONTACT);
+    }
+
+    /**
+     * Returns a copy of this person with the given remark.
+     */
+    public Person withRemark(Remark remark) {
+        requireNonNull(remark);
+        return new Person(name, phone, email, studentId, roomNumber, emergencyContact, remark, tags,
+                demeritIncidents, incidentKey, totalDemeritPoints, incidentTimeline, searchKeys);
+    }
+
+    /**
+     * Returns a copy of this person with their tags replaced by {@code tags}.
+     */
+    public Person withTags(Map<TagType, Tag> tags) {
+        requireNonNull(tags);
+        return new Person(name, phone, email, studentId, roomNumber, emergencyContact, remark, copyTags(tags),
+                demeritIncidents, incidentKey, totalDemeritPoints, incidentTimeline, searchKeys,
+                SearchField.YEAR, SearchField.MAJOR, SearchField.GENDER);
+    }
+
+    /**
+     * Returns a copy of this person with {@code incident} appended to their demerit incidents.
+     * The existing incidents are shared with this person and the demerit aggregates are carried forward.
+     */
+    public Person withDemeritIncident(DemeritIncident incident) {
+        requireNonNull(incident);
+        return new Person(name, phone, email, studentId, roomNumber, emergencyContact, remark, tags,
+                demeritIncidents.append(incident), incidentKey, totalDemeritPoints + incident.getPointsApplied(),
+                incidentTimeline.with(incident), searchKeys, SearchField.DEMERIT_POINTS);
+    }
+
+    private static Map<TagType, Tag> copyTags(Map<TagType, Tag> tags) {
+        EnumMap<TagType, Tag> copy = new EnumMap<>(TagType.class);
+        copy.putAll(tags);
+        return Collections.unmodifiableMap(copy);
+    }
+
+    private static int sumPoints(List<DemeritIncident> incidents) {
+        int total = 0;
+        for (DemeritIncident incident : incidents) {
+            total += incident.getPointsApplied();
+        }
+        return total;
     }
 
     /**
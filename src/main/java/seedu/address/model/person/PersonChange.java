@@ -0,0 +1,31 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * A single change to the person list: {@code before} was replaced by {@code after}.
+ * {@code before} is null if {@code after} was added, and {@code after} is null if {@code before} was removed.
+ */
+public record PersonChange(Person before, Person after) {
+
+    /**
+     * Every change adds, edits or removes someone, so at most one side may be null.
+     */
+    public PersonChange {
+        checkArgument(before != null || after != null);
+    }
+
+    /**
+     * Returns the change that adds {@code person}.
+     */
+    public static PersonChange added(Person person) {
+        return new PersonChange(null, person);
+    }
+
+    /**
+     * Returns the change that removes {@code person}.
+     */
+    public static PersonChange removed(Person person) {
+        return new PersonChange(person, null);
+    }
+}
@@ -3,15 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
-import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.FilterDetails;
+import seedu.address.model.search.CompiledFilter;
 
 /**
  * Tests whether a {@code Person} matches the details specified in a {@link FilterDetails}.
+ * The details are compiled into a {@link CompiledFilter} once, when the predicate is created.
  */
 public class PersonMatchesDetailsPredicate implements Predicate<Person> {
 
@@ -19,12 +19,14 @@ public class PersonMatchesDetailsPredicate implements Predicate<Person> {
      * The filter details to match against.
      */
     private final FilterDetails filterDetails;
+    private final CompiledFilter compiledFilter;
 
     /**
      * Creates a {@code PersonMatchesDetailsPredicate} with the given {@code FilterDetails}.
      */
     public PersonMatchesDetailsPredicate(FilterDetails filterDetails) {
-        this.filterDetails = requireNonNull(filterDetails);
+        this.filterDetails = new FilterDetails(requireNonNull(filterDetails));
+        this.compiledFilter = CompiledFilter.compile(this.filterDetails);
     }
 
     /**
@@ -34,69 +36,19 @@ public class PersonMatchesDetailsPredicate implements Predicate<Person> {
         return new FilterDetails(filterDetails);
     }
 
-    @Override
-    public boolean test(Person person) {
-        String personNameString = person.getName().fullName;
-        String personEmailString = person.getEmail().value;
-        String personPhoneString = person.getPhone().value;
-        String personRoomNumberString = person.getRoomNumber().value;
-        String personStudentIdString = person.getStudentId().value;
-        String personEmergencyContactString = person.getEmergencyContact().value;
-
-        // Get the person's tag values as strings, or empty strings if the tags are not present
-        String personYearString = person.getYear().map(tag -> tag.getTagContent()).orElse("");
-        String personMajorString = person.getMajor().map(tag -> tag.getTagContent()).orElse("");
-        String personGenderString = person.getGender().map(tag -> tag.getTagContent()).orElse("");
-
-        return isFuzzyMatch(personNameString, filterDetails.getNameKeywords())
-                && isFuzzyMatch(personEmailString, filterDetails.getEmailKeywords())
-                && isFuzzyMatch(personPhoneString, filterDetails.getPhoneNumberKeywords())
-                && isFuzzyMatch(personRoomNumberString, filterDetails.getRoomNumberKeywords())
-                && isExactMatch(personStudentIdString, filterDetails.getStudentIdKeywords())
-                && isFuzzyMatch(personEmergencyContactString, filterDetails.getEmergencyContactKeywords())
-                && isExactMatch(personYearString, filterDetails.getTagYearKeywords())
-                && isFuzzyMatch(personMajorString, filterDetails.getTagMajorKeywords())
-                && isExactMatch(personGenderString, filterDetails.getTagGenderKeywords());
-    }
-
     /**
-     * Checks if the given {@code fieldValue} matches any of the {@code keywords} via fuzzy matching defined in
-     * {@link StringUtil#fuzzyMatchesAnyIgnoreCase(String, Set)}.
-     * <p>
-     * If the field value is empty, it will only match if the keywords are also empty (meaning non-existent).
+     * Returns true if every person accepted by this predicate is also accepted by {@code other}.
+     *
+     * @see CompiledFilter#implies(CompiledFilter)
      */
-    private boolean isFuzzyMatch(String fieldValue, Set<String> keywords) {
-        requireNonNull(keywords);
-        requireNonNull(fieldValue);
-
-        if (keywords.isEmpty()) {
-            return true;
-        }
-        if (fieldValue.isEmpty()) {
-            return false;
-        }
-
-        return StringUtil.fuzzyMatchesAnyIgnoreCase(fieldValue, keywords);
+    public boolean isNarrowerThan(PersonMatchesDetailsPredicate other) {
+        requireNonNull(other);
+        return compiledFilter.implies(other.compiledFilter);
     }
 
-    /**
-     * Checks if any of the person's tags exactly match any of the {@code keywords} as defined in
-     * {@link StringUtil#equalsAnyIgnoreCase(String, Set)}.
-     * <p>
-     * If the field value is empty, it will only match if the keywords are also empty (meaning non-existent).
-     */
-    private boolean isExactMatch(String fieldValue, Set<String> keywords) {
-        requireNonNull(fieldValue);
-        requireNonNull(keywords);
-
-        if (keywords.isEmpty()) {
-            return true;
-        }
-        if (fieldValue.isEmpty()) {
-            return false;
-        }
-
-        return StringUtil.equalsAnyIgnoreCase(fieldValue, keywords);
+    @Override
+    public boolean test(Person person) {
+        return compiledFilter.matches(person);
     }
 
     @Override
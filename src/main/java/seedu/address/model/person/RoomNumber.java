@@ -17,7 +17,12 @@ public class RoomNumber {
      */
     public static final String VALIDATION_REGEX = "^\\d{1,2}[A-Za-z]";
 
+    /** Lowest and highest unit letters that can follow the floor digits. */
+    public static final char FIRST_UNIT = 'A';
+    public static final char LAST_UNIT = 'Z';
+
     public final String value;
+    private final int floor;
 
     /**
      * Constructs an {@code RoomNumber}.
@@ -29,11 +34,25 @@ public class RoomNumber {
         checkArgument(isValidRoomNumber(roomNumber), MESSAGE_CONSTRAINTS);
 
         //Remove leading 0s if any by converting the digits to an integer before concatenating back with the alphabet
-        int floor = Integer.parseInt(roomNumber.substring(0, roomNumber.length() - 1));
+        floor = Integer.parseInt(roomNumber.substring(0, roomNumber.length() - 1));
         String alphabet = roomNumber.substring(roomNumber.length() - 1);
         value = floor + alphabet.toUpperCase();
     }
 
+    /**
+     * Returns the floor of this room, i.e. the leading digits of the room number.
+     */
+    public int getFloor() {
+        return floor;
+    }
+
+    /**
+     * Returns the upper-case unit letter of this room on its floor.
+     */
+    public char getUnit() {
+        return value.charAt(value.length() - 1);
+    }
+
     /**
      * Returns true if a given string is a valid room number.
      */
@@ -0,0 +1,111 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Tracks which residents occupy which rooms, together with a per-floor view of occupied units.
+ *
+ * <p>Room lookups are constant-time and floor queries are proportional to the number of units on a floor,
+ * rather than to the number of residents in the hall.
+ */
+class RoomOccupancyIndex {
+
+    private static final int UNITS_PER_FLOOR = RoomNumber.LAST_UNIT - RoomNumber.FIRST_UNIT + 1;
+
+    private final Map<RoomNumber, List<Person>> occupantsByRoom = new HashMap<>();
+    private final Map<Integer, BitSet> occupiedUnitsByFloor = new HashMap<>();
+
+    /**
+     * Records {@code person} as an occupant of their room.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        RoomNumber room = person.getRoomNumber();
+        occupantsByRoom.computeIfAbsent(room, unused -> new ArrayList<>(1)).add(person);
+        occupiedUnitsByFloor.computeIfAbsent(room.getFloor(), unused -> new BitSet(UNITS_PER_FLOOR))
+                .set(toBit(room));
+    }
+
+    /**
+     * Removes {@code person} from the occupants of their room.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        RoomNumber room = person.getRoomNumber();
+        List<Person> occupants = occupantsByRoom.get(room);
+        if (occupants == null || !occupants.remove(person) || !occupants.isEmpty()) {
+            return;
+        }
+
+        occupantsByRoom.remove(room);
+        BitSet occupiedUnits = occupiedUnitsByFloor.get(room.getFloor());
+        occupiedUnits.clear(toBit(room));
+        if (occupiedUnits.isEmpty()) {
+            occupiedUnitsByFloor.remove(room.getFloor());
+        }
+    }
+
+    /**
+     * Replaces the index contents with the rooms of {@code persons}.
+     */
+    void reset(List<Person> persons) {
+        occupantsByRoom.clear();
+        occupiedUnitsByFloor.clear();
+        persons.forEach(this::add);
+    }
+
+    boolean isOccupied(RoomNumber room) {
+        requireNonNull(room);
+        return occupantsByRoom.containsKey(room);
+    }
+
+    /**
+     * Returns the first recorded occupant of {@code room}, if any.
+     */
+    Optional<Person> getOccupant(RoomNumber room) {
+        requireNonNull(room);
+        List<Person> occupants = occupantsByRoom.get(room);
+        return occupants == null ? Optional.empty() : Optional.of(occupants.get(0));
+    }
+
+    /**
+     * Returns the occupied rooms on {@code floor} in unit order.
+     */
+    List<RoomNumber> getOccupiedRooms(int floor) {
+        BitSet occupiedUnits = occupiedUnitsByFloor.getOrDefault(floor, new BitSet());
+        List<RoomNumber> rooms = new ArrayList<>();
+        for (int bit = occupiedUnits.nextSetBit(0); bit >= 0; bit = occupiedUnits.nextSetBit(bit + 1)) {
+            rooms.add(toRoom(floor, bit));
+        }
+        return rooms;
+    }
+
+    /**
+     * Returns the unoccupied rooms on {@code floor} in unit order.
+     */
+    List<RoomNumber> getFreeRooms(int floor) {
+        BitSet occupiedUnits = occupiedUnitsByFloor.getOrDefault(floor, new BitSet());
+        List<RoomNumber> rooms = new ArrayList<>();
+        int bit = occupiedUnits.nextClearBit(0);
+        while (bit < UNITS_PER_FLOOR) {
+            rooms.add(toRoom(floor, bit));
+            bit = occupiedUnits.nextClearBit(bit + 1);
+        }
+        return rooms;
+    }
+
+    private static int toBit(RoomNumber room) {
+        return room.getUnit() - RoomNumber.FIRST_UNIT;
+    }
+
+    private static RoomNumber toRoom(int floor, int bit) {
+        return new RoomNumber(String.valueOf(floor) + (char) (RoomNumber.FIRST_UNIT + bit));
+    }
+}
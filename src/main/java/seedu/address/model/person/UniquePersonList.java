@@ -3,13 +3,38 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyFilterDetails;
+import seedu.address.model.demerit.DemeritAnalytics;
+import seedu.address.model.demerit.DemeritSummary;
+import seedu.address.model.demerit.IncidentQuery;
+import seedu.address.model.demerit.IncidentRecord;
+import seedu.address.model.demerit.IncidentStore;
+import seedu.address.model.person.exceptions.DuplicateIncidentKeyException;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.model.search.QueryPlan;
+import seedu.address.model.search.TagValueCounts;
+import seedu.address.model.tag.TagType;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -20,20 +45,63 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * <p>{@code StudentId} to {@code Person} and to position indexes, a {@link RoomOccupancyIndex}, a
+ * {@link PersonSearchIndex} and {@link DemeritAnalytics} are maintained alongside the backing list so that identity
+ * lookups, edits, room lookups, searches and demerit totals do not need to scan every resident.
+ *
+ * <p>Every modification bumps the list's version, which the search index reads to detect stale narrowed
+ * predicates. The persons touched by the most recent modifications are logged, so that results computed at an
+ * earlier version can be patched with {@link #getChangedSince(long)} instead of being recomputed.
+ *
+ * <p>Every person claims their student ID and their {@link Person#getIncidentKey() incident key}, and no incident
+ * key may be claimed by two persons, so that an incident ID always refers to the incidents of one person. A new
+ * student ID therefore cannot be one that another person's demerit incidents are still filed under.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    static final int MAX_LOGGED_CHANGES = 256;
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<StudentId, Person> studentIdIndex = new HashMap<>();
+    /** The position of each person in {@code internalList}, by student ID. */
+    private final Map<StudentId, Integer> positionIndex = new HashMap<>();
+    private final Map<StudentId, Person> incidentKeyIndex = new HashMap<>();
+    private final RoomOccupancyIndex roomIndex = new RoomOccupancyIndex();
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex(this::getVersion);
+    private final DemeritAnalytics demeritAnalytics = new DemeritAnalytics();
+    private final IncidentStore incidentStore = new IncidentStore();
+    /** The persons touched by the most recent modifications, oldest first. */
+    private final Deque<LoggedChange> changeLog = new ArrayDeque<>();
+    private long version;
+    /** The earliest version from which every later change is still in {@code changeLog}. */
+    private long oldestPatchableVersion;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return studentIdIndex.containsKey(toCheck.getStudentId());
+    }
+
+    /**
+     * Returns the person with the given {@code studentId}, if present.
+     */
+    public Optional<Person> getPersonByStudentId(StudentId studentId) {
+        requireNonNull(studentId);
+        return Optional.ofNullable(studentIdIndex.get(studentId));
+    }
+
+    /**
+     * Returns the person whose demerit incidents are filed under {@code incidentKey}, if present.
+     */
+    public Optional<Person> getPersonByIncidentKey(StudentId incidentKey) {
+        requireNonNull(incidentKey);
+        return Optional.ofNullable(incidentKeyIndex.get(incidentKey));
     }
 
     /**
@@ -41,31 +109,197 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean isRoomOccupied(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::hasSameRoom);
+        return roomIndex.isOccupied(toCheck.getRoomNumber());
+    }
+
+    /**
+     * Returns a person occupying {@code roomNumber}, if any.
+     */
+    public Optional<Person> getPersonByRoomNumber(RoomNumber roomNumber) {
+        return roomIndex.getOccupant(roomNumber);
+    }
+
+    /**
+     * Returns the occupied rooms on the given {@code floor}, ordered by unit.
+     */
+    public List<RoomNumber> getOccupiedRooms(int floor) {
+        return roomIndex.getOccupiedRooms(floor);
+    }
+
+    /**
+     * Returns the free rooms on the given {@code floor}, ordered by unit.
+     */
+    public List<RoomNumber> getFreeRooms(int floor) {
+        return roomIndex.getFreeRooms(floor);
+    }
+
+    /**
+     * Returns a plan for matching persons against {@code filterDetails} that checks the most selective field first.
+     *
+     * @see PersonSearchIndex#planQuery(ReadOnlyFilterDetails)
+     */
+    public QueryPlan planQuery(ReadOnlyFilterDetails filterDetails) {
+        return searchIndex.planQuery(filterDetails);
+    }
+
+    /**
+     * Counts the persons among {@code persons}, which must all be in this list, by their {@code tagType} tag.
+     * {@code tagType} must be a closed-set tag type.
+     */
+    public TagValueCounts countTagValues(TagType tagType, Collection<Person> persons) {
+        return searchIndex.countTagValues(tagType, persons);
+    }
+
+    /**
+     * Returns at most {@code size} persons with demerit points, most points first.
+     * Persons with equal points are ordered by student ID.
+     */
+    public List<Person> getDemeritLeaderboard(int size) {
+        List<Person> leaderboard = new ArrayList<>();
+        for (StudentId studentId : searchIndex.findHighestDemeritPoints(size)) {
+            leaderboard.add(studentIdIndex.get(studentId));
+        }
+        return leaderboard;
+    }
+
+    /**
+     * Returns a snapshot of the hall-wide demerit totals of the persons in this list.
+     */
+    public DemeritSummary getDemeritSummary() {
+        return demeritAnalytics.summarize();
+    }
+
+    /**
+     * Returns the demerit incidents of the persons in this list that match {@code query}, earliest first.
+     */
+    public List<IncidentRecord> findIncidents(IncidentQuery query) {
+        return incidentStore.find(query);
+    }
+
+    /**
+     * Returns the number of modifications made to this list so far.
+     * Every add, edit and removal is one modification, and so is replacing the whole list.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the student IDs of the persons added, edited or removed after version {@code sinceVersion},
+     * or an empty {@code Optional} if those changes are no longer known. Only the most recent modifications are
+     * logged, and none from before the whole list was last replaced.
+     */
+    public Optional<Set<StudentId>> getChangedSince(long sinceVersion) {
+        if (sinceVersion < oldestPatchableVersion || sinceVersion > version) {
+            return Optional.empty();
+        }
+        Set<StudentId> changed = new HashSet<>();
+        Iterator<LoggedChange> newestFirst = changeLog.descendingIterator();
+        while (newestFirst.hasNext()) {
+            LoggedChange change = newestFirst.next();
+            if (change.version() <= sinceVersion) {
+                break;
+            }
+            changed.add(change.studentId());
+        }
+        return Optional.of(changed);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate}, which must accept exactly the persons in
+     * {@code matches}, that answers from {@code matches} without testing anyone until the list changes.
+     *
+     * @see PersonSearchIndex#memoize(Predicate, Set)
+     */
+    public Predicate<Person> memoize(Predicate<Person> predicate, Set<StudentId> matches) {
+        return searchIndex.memoize(predicate, matches);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code plan} that skips persons outside the candidates found while
+     * planning it.
+     *
+     * @see PersonSearchIndex#narrow(QueryPlan)
+     */
+    public Predicate<Person> narrowWithSearchIndex(QueryPlan plan) {
+        return searchIndex.narrow(plan);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate}, which must reject every person outside
+     * {@code candidates}, that rejects those persons without testing them.
+     *
+     * @see PersonSearchIndex#restrictTo(Predicate, Set)
+     */
+    public Predicate<Person> restrictTo(Predicate<Person> predicate, Set<StudentId> candidates) {
+        return searchIndex.restrictTo(predicate, candidates);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate}, which must accept every person in {@code matches},
+     * that accepts those persons without testing them.
+     *
+     * @see PersonSearchIndex#extendWith(Predicate, Set)
+     */
+    public Predicate<Person> extendWith(Predicate<Person> predicate, Set<StudentId> matches) {
+        return searchIndex.extendWith(predicate, matches);
+    }
+
+    /**
+     * Tests every person against {@code predicate} in parallel, and returns an equivalent predicate that answers
+     * from the result without testing anyone again until the list changes.
+     * {@code predicate} must be safe to call from several threads at once.
+     *
+     * <p>A {@code FilteredList} can only be filtered through a predicate, so the matches are handed back as one
+     * rather than applied to the list directly. Setting it still visits every person on the calling thread, but each
+     * visit only looks the person's student ID up in the matches instead of testing {@code predicate} again.
+     *
+     * @see PersonSearchIndex#memoize(Predicate, Set)
+     */
+    public Predicate<Person> evaluateInParallel(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        Person[] snapshot = internalList.toArray(new Person[0]);
+        Set<StudentId> matches = Arrays.stream(snapshot)
+                .parallel()
+                .filter(predicate)
+                .map(Person::getStudentId)
+                .collect(Collectors.toSet());
+        return searchIndex.memoize(predicate, matches);
     }
 
     /**
      * Adds a person to the list.
-     * The person must not already exist in the list.
+     * The person must not already exist in the list, and must not share an incident key with another person.
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        if (claimsIncidentKeyOfAnother(toAdd, null)) {
+            throw new DuplicateIncidentKeyException();
+        }
+        studentIdIndex.put(toAdd.getStudentId(), toAdd);
+        incidentKeyIndex.put(toAdd.getIncidentKey(), toAdd);
+        positionIndex.put(toAdd.getStudentId(), internalList.size());
+        roomIndex.add(toAdd);
+        searchIndex.add(toAdd);
+        demeritAnalytics.add(toAdd);
+        incidentStore.add(toAdd);
+        logChange(toAdd.getStudentId());
         internalList.add(toAdd);
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
-     * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the list,
+     * and {@code editedPerson} must not share an incident key with another person.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!target.equals(studentIdIndex.get(target.getStudentId()))) {
             throw new PersonNotFoundException();
         }
 
@@ -73,6 +307,23 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        if (claimsIncidentKeyOfAnother(editedPerson, target)) {
+            throw new DuplicateIncidentKeyException();
+        }
+
+        int index = positionIndex.remove(target.getStudentId());
+        studentIdIndex.remove(target.getStudentId());
+        studentIdIndex.put(editedPerson.getStudentId(), editedPerson);
+        incidentKeyIndex.remove(target.getIncidentKey());
+        incidentKeyIndex.put(editedPerson.getIncidentKey(), editedPerson);
+        positionIndex.put(editedPerson.getStudentId(), index);
+        roomIndex.remove(target);
+        roomIndex.add(editedPerson);
+        searchIndex.remove(target);
+        searchIndex.add(editedPerson);
+        demeritAnalytics.update(target, editedPerson);
+        incidentStore.update(target, editedPerson);
+        logChange(target.getStudentId(), editedPerson.getStudentId());
         internalList.set(index, editedPerson);
     }
 
@@ -82,26 +333,44 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!toRemove.equals(studentIdIndex.get(toRemove.getStudentId()))) {
             throw new PersonNotFoundException();
         }
+        int index = positionIndex.remove(toRemove.getStudentId());
+        studentIdIndex.remove(toRemove.getStudentId());
+        incidentKeyIndex.remove(toRemove.getIncidentKey());
+        roomIndex.remove(toRemove);
+        searchIndex.remove(toRemove);
+        demeritAnalytics.remove(toRemove);
+        incidentStore.remove(toRemove);
+        logChange(toRemove.getStudentId());
+        internalList.remove(index);
+        // The persons after the removed one each move up by one
+        for (int i = index; i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i).getStudentId(), i);
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        rebuildIndex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * {@code persons} must not contain duplicate persons, nor persons sharing an incident key.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
         if (!personsAreUnique(persons)) {
             throw new DuplicatePersonException();
         }
+        if (!findSharedIncidentKeys(persons).isEmpty()) {
+            throw new DuplicateIncidentKeyException();
+        }
 
+        rebuildIndex(persons);
         internalList.setAll(persons);
     }
 
@@ -139,18 +408,126 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Returns true if {@code person} would share an incident key with a person in the list other than
+     * {@code replaced}, which may be null.
+     */
+    private boolean claimsIncidentKeyOfAnother(Person person, Person replaced) {
+        return Stream.of(incidentKeyIndex.get(person.getIncidentKey()), studentIdIndex.get(person.getIncidentKey()),
+                        incidentKeyIndex.get(person.getStudentId()))
+                .anyMatch(owner -> owner != null && (replaced == null || !owner.isSamePerson(replaced)));
+    }
+
+    /**
+     * Rebuilds the student ID, position, incident key, room and search indexes from {@code persons}, and counts one
+     * modification.
+     */
+    private void rebuildIndex(List<Person> persons) {
+        studentIdIndex.clear();
+        positionIndex.clear();
+        incidentKeyIndex.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            studentIdIndex.put(person.getStudentId(), person);
+            positionIndex.put(person.getStudentId(), i);
+            incidentKeyIndex.put(person.getIncidentKey(), person);
+        }
+        roomIndex.reset(persons);
+        searchIndex.reset(persons);
+        demeritAnalytics.reset(persons);
+        incidentStore.reset(persons);
+        version++;
+        changeLog.clear();
+        oldestPatchableVersion = version;
+    }
+
+    /**
+     * Counts one modification, which touched the persons with {@code studentIds}.
+     * This must happen after the indexes are updated and before the backing list is, so that predicates narrowed by
+     * the search index see the new version by the time the list reports the change.
+     */
+    private void logChange(StudentId... studentIds) {
+        version++;
+        for (StudentId studentId : studentIds) {
+            changeLog.addLast(new LoggedChange(version, studentId));
+        }
+        while (changeLog.size() > MAX_LOGGED_CHANGES) {
+            oldestPatchableVersion = changeLog.removeFirst().version();
+        }
+    }
+
+    /**
+     * Returns every student ID that is shared by more than one person in {@code persons},
+     * in the order in which the repetitions are found.
+     */
+    public static Set<StudentId> findDuplicateStudentIds(List<Person> persons) {
+        requireAllNonNull(persons);
+        Set<StudentId> seen = new HashSet<>();
+        Set<StudentId> duplicates = new LinkedHashSet<>();
+        for (Person person : persons) {
+            if (!seen.add(person.getStudentId())) {
+                duplicates.add(person.getStudentId());
+            }
+        }
+        return duplicates;
+    }
+
+    /**
+     * Returns every incident key in {@code persons} that is claimed by more than one person, in the order in which
+     * the conflicts are found. A person claims their own incident key and student ID.
+     */
+    public static Set<StudentId> findSharedIncidentKeys(List<Person> persons) {
+        requireAllNonNull(persons);
+        Map<StudentId, StudentId> keyOwners = new HashMap<>();
+        Set<StudentId> sharedKeys = new LinkedHashSet<>();
+        for (Person person : persons) {
+            StudentId owner = keyOwners.putIfAbsent(person.getIncidentKey(), person.getStudentId());
+            if (owner != null && !owner.equals(person.getStudentId())) {
+                sharedKeys.add(person.getIncidentKey());
+            }
+        }
+        for (Person person : persons) {
+            StudentId owner = keyOwners.get(person.getStudentId());
+            if (owner != null && !owner.equals(person.getStudentId())) {
+                sharedKeys.add(person.getStudentId());
+            }
+        }
+        return sharedKeys;
+    }
+
+    /**
+     * Returns every room that is claimed by persons with different student IDs in {@code persons},
+     * in the order in which the conflicts are found.
+     */
+    public static Set<RoomNumber> findSharedRooms(List<Person> persons) {
+        requireAllNonNull(persons);
+        Map<RoomNumber, StudentId> firstOccupants = new HashMap<>();
+        Set<RoomNumber> sharedRooms = new LinkedHashSet<>();
+        for (Person person : persons) {
+            StudentId firstOccupant = firstOccupants.putIfAbsent(person.getRoomNumber(), person.getStudentId());
+            if (firstOccupant != null && !firstOccupant.equals(person.getStudentId())) {
+                sharedRooms.add(person.getRoomNumber());
+            }
+        }
+        return sharedRooms;
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<StudentId> seen = new HashSet<>();
+        for (Person person : persons) {
+            if (!seen.add(person.getStudentId())) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * A person touched by the modification that brought the list to {@code version}.
+     */
+    private record LoggedChange(long version, StudentId studentId) {}
 }
 
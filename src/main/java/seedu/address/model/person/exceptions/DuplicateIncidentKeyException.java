@@ -0,0 +1,11 @@
+package seedu.address.model.person.exceptions;
+
+/**
+ * Signals that the operation will file the demerit incidents of two Persons under the same student ID, or give a
+ * Person a student ID that another Person's demerit incidents are filed under.
+ */
+public class DuplicateIncidentKeyException extends RuntimeException {
+    public DuplicateIncidentKeyException() {
+        super("Operation would file the demerit incidents of different persons under the same student ID");
+    }
+}
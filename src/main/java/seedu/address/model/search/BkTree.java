@@ -0,0 +1,194 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.text.similarity.LevenshteinDistance;
+
+import seedu.address.model.person.StudentId;
+
+/**
+ * A BK-tree over normalized field values under Levenshtein distance, mapping each distinct value to the residents
+ * holding it.
+ *
+ * <p>Finding every value within distance {@code k} of a query only descends into subtrees whose edge distance lies
+ * within {@code k} of the query's distance to their parent, so most of the tree is never compared against.
+ * A removed value whose node has no children is pruned, together with any ancestors left empty and childless.
+ * Other removed values stay in the tree as empty nodes, which keeps removal cheap, until they make up more than
+ * half of the tree, when it is rebuilt from the values still held.
+ */
+public class BkTree {
+
+    private static final LevenshteinDistance LEVENSHTEIN = LevenshteinDistance.getDefaultInstance();
+
+    private Node root;
+    private int nodeCount;
+    /** Number of nodes whose value no resident holds any more. */
+    private int emptyNodeCount;
+
+    /**
+     * Records that the resident with {@code studentId} holds {@code normalizedValue}.
+     */
+    public void add(String normalizedValue, StudentId studentId) {
+        requireNonNull(normalizedValue);
+        requireNonNull(studentId);
+        findOrInsert(normalizedValue).studentIds.add(studentId);
+    }
+
+    /**
+     * Returns the node of {@code normalizedValue}, inserting an empty one if there is none.
+     */
+    private Node findOrInsert(String normalizedValue) {
+        if (root == null) {
+            root = new Node(normalizedValue);
+            nodeCount++;
+            return root;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = LEVENSHTEIN.apply(normalizedValue, node.value);
+            if (distance == 0) {
+                if (node.studentIds.isEmpty()) {
+                    emptyNodeCount--;
+                }
+                return node;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                child = new Node(normalizedValue);
+                node.children.put(distance, child);
+                nodeCount++;
+                return child;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Removes the record that the resident with {@code studentId} holds {@code normalizedValue}, if present.
+     */
+    public void remove(String normalizedValue, StudentId studentId) {
+        requireNonNull(normalizedValue);
+        requireNonNull(studentId);
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        while (node != null) {
+            int distance = LEVENSHTEIN.apply(normalizedValue, node.value);
+            if (distance == 0) {
+                if (node.studentIds.remove(studentId) && node.studentIds.isEmpty()) {
+                    emptyNodeCount++;
+                    prune(node, path);
+                }
+                return;
+            }
+            path.push(node);
+            node = node.children.get(distance);
+        }
+    }
+
+    /**
+     * Detaches {@code node}, which has just become empty, and then each of its ancestors in {@code path} (nearest
+     * first) that is left empty and childless. Rebuilds the tree if empty nodes still make up more than half of it.
+     */
+    private void prune(Node node, Deque<Node> path) {
+        while (node.studentIds.isEmpty() && node.children.isEmpty()) {
+            Node parent = path.poll();
+            nodeCount--;
+            emptyNodeCount--;
+            if (parent == null) {
+                root = null;
+                return;
+            }
+            parent.children.values().remove(node);
+            node = parent;
+        }
+        if (emptyNodeCount * 2 > nodeCount) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Rebuilds the tree from the values that residents still hold, dropping every empty node.
+     */
+    private void rebuild() {
+        List<Node> liveNodes = new ArrayList<>();
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            if (!node.studentIds.isEmpty()) {
+                liveNodes.add(node);
+            }
+            node.children.values().forEach(pending::push);
+        }
+
+        clear();
+        for (Node liveNode : liveNodes) {
+            findOrInsert(liveNode.value).studentIds.addAll(liveNode.studentIds);
+        }
+    }
+
+    /**
+     * Removes all values from the tree.
+     */
+    public void clear() {
+        root = null;
+        nodeCount = 0;
+        emptyNodeCount = 0;
+    }
+
+    /**
+     * Returns the number of nodes in the tree, including empty ones.
+     */
+    int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Returns the residents holding a value within Levenshtein distance {@code maxDistance} of
+     * {@code normalizedQuery}.
+     */
+    public Set<StudentId> findWithin(String normalizedQuery, int maxDistance) {
+        requireNonNull(normalizedQuery);
+        Set<StudentId> matches = new HashSet<>();
+        if (root == null) {
+            return matches;
+        }
+
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = LEVENSHTEIN.apply(normalizedQuery, node.value);
+            if (distance <= maxDistance) {
+                matches.addAll(node.studentIds);
+            }
+            for (int edge = Math.max(1, distance - maxDistance); edge <= distance + maxDistance; edge++) {
+                Node child = node.children.get(edge);
+                if (child != null) {
+                    pending.push(child);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static class Node {
+        private final String value;
+        private final Set<StudentId> studentIds = new HashSet<>(2);
+        private final Map<Integer, Node> children = new HashMap<>(4);
+
+        Node(String value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagType;
+
+/**
+ * Indexes the tags of every {@link TagType} that has a fixed set of allowed values with one bitmap per value,
+ * plus one bitmap of residents without a tag of that type.
+ *
+ * <p>Each resident is assigned a slot, and bit {@code i} of a bitmap describes the resident in slot {@code i}.
+ * Slots freed by removed residents are reused, so the bitmaps stay as dense as the resident list. Filtering on
+ * several values then becomes word-wise OR and AND operations, and counting residents with a value becomes a
+ * population count.
+ */
+public class ClosedTagIndex {
+
+    private final Map<StudentId, Integer> slots = new HashMap<>();
+    private final List<StudentId> residentsBySlot = new ArrayList<>();
+    private final BitSet occupiedSlots = new BitSet();
+    private final Map<TagType, Map<String, BitSet>> valueBitmaps = new EnumMap<>(TagType.class);
+    private final Map<TagType, BitSet> missingBitmaps = new EnumMap<>(TagType.class);
+
+    /**
+     * Creates an empty index.
+     */
+    public ClosedTagIndex() {
+        for (TagType tagType : TagType.values()) {
+            if (!isIndexed(tagType)) {
+                continue;
+            }
+            Map<String, BitSet> bitmaps = new LinkedHashMap<>();
+            for (String allowedValue : tagType.getAllowedValues().get()) {
+                bitmaps.put(normalize(allowedValue), new BitSet());
+            }
+            valueBitmaps.put(tagType, bitmaps);
+            missingBitmaps.put(tagType, new BitSet());
+        }
+    }
+
+    /**
+     * Returns true if tags of {@code tagType} are indexed, which is the case for every closed-set tag type.
+     */
+    public static boolean isIndexed(TagType tagType) {
+        return tagType.getAllowedValues().isPresent();
+    }
+
+    /**
+     * Indexes the closed-set tags of {@code person}, replacing anything indexed for them before.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        remove(person.getStudentId());
+
+        int slot = occupiedSlots.nextClearBit(0);
+        occupiedSlots.set(slot);
+        slots.put(person.getStudentId(), slot);
+        if (slot == residentsBySlot.size()) {
+            residentsBySlot.add(person.getStudentId());
+        } else {
+            residentsBySlot.set(slot, person.getStudentId());
+        }
+
+        valueBitmaps.forEach((tagType, bitmaps) -> {
+            Tag tag = person.getTags().get(tagType);
+            BitSet bitmap = tag == null ? missingBitmaps.get(tagType) : bitmaps.get(normalize(tag.getTagContent()));
+            bitmap.set(slot);
+        });
+    }
+
+    /**
+     * Removes the tags indexed for the resident with {@code studentId}, if any.
+     */
+    public void remove(StudentId studentId) {
+        requireNonNull(studentId);
+        Integer slot = slots.remove(studentId);
+        if (slot == null) {
+            return;
+        }
+        occupiedSlots.clear(slot);
+        residentsBySlot.set(slot, null);
+        valueBitmaps.values().forEach(bitmaps -> bitmaps.values().forEach(bitmap -> bitmap.clear(slot)));
+        missingBitmaps.values().forEach(bitmap -> bitmap.clear(slot));
+    }
+
+    /**
+     * Removes all indexed residents.
+     */
+    public void clear() {
+        slots.clear();
+        residentsBySlot.clear();
+        occupiedSlots.clear();
+        valueBitmaps.values().forEach(bitmaps -> bitmaps.values().forEach(BitSet::clear));
+        missingBitmaps.values().forEach(BitSet::clear);
+    }
+
+    /**
+     * Returns the number of indexed residents.
+     */
+    public int size() {
+        return slots.size();
+    }
+
+    /**
+     * Returns a bitmap of the residents with a {@code tagType} tag equal to any of {@code keywords}, ignoring case.
+     * Keywords that are not allowed values of {@code tagType} match nobody.
+     */
+    public BitSet findMatching(TagType tagType, Set<String> keywords) {
+        requireAllNonNull(tagType, keywords);
+        Map<String, BitSet> bitmaps = getBitmaps(tagType);
+        BitSet matching = new BitSet();
+        for (String keyword : keywords) {
+            BitSet bitmap = bitmaps.get(normalize(keyword));
+            if (bitmap != null) {
+                matching.or(bitmap);
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * Returns the student IDs of the residents in {@code bitmap}.
+     */
+    public Set<StudentId> toStudentIds(BitSet bitmap) {
+        requireNonNull(bitmap);
+        Set<StudentId> studentIds = new HashSet<>();
+        for (int slot = bitmap.nextSetBit(0); slot >= 0; slot = bitmap.nextSetBit(slot + 1)) {
+            studentIds.add(residentsBySlot.get(slot));
+        }
+        return studentIds;
+    }
+
+    /**
+     * Counts the residents among {@code persons} by their {@code tagType} tag.
+     * Every person in {@code persons} must be indexed.
+     */
+    public TagValueCounts countValues(TagType tagType, Collection<Person> persons) {
+        requireAllNonNull(tagType, persons);
+        Map<String, BitSet> bitmaps = getBitmaps(tagType);
+        Optional<BitSet> within = persons.size() == slots.size() ? Optional.empty() : Optional.of(toBitmap(persons));
+
+        Map<String, Integer> valueCounts = new LinkedHashMap<>();
+        bitmaps.forEach((value, bitmap) -> valueCounts.put(value, countWithin(bitmap, within)));
+        return new TagValueCounts(valueCounts, countWithin(missingBitmaps.get(tagType), within));
+    }
+
+    private BitSet toBitmap(Collection<Person> persons) {
+        BitSet bitmap = new BitSet();
+        for (Person person : persons) {
+            bitmap.set(slots.get(person.getStudentId()));
+        }
+        return bitmap;
+    }
+
+    private static int countWithin(BitSet bitmap, Optional<BitSet> within) {
+        if (within.isEmpty()) {
+            return bitmap.cardinality();
+        }
+        BitSet intersection = (BitSet) bitmap.clone();
+        intersection.and(within.get());
+        return intersection.cardinality();
+    }
+
+    private Map<String, BitSet> getBitmaps(TagType tagType) {
+        Map<String, BitSet> bitmaps = valueBitmaps.get(tagType);
+        if (bitmaps == null) {
+            throw new IllegalArgumentException(tagType + " tags are not indexed.");
+        }
+        return bitmaps;
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase().trim();
+    }
+}
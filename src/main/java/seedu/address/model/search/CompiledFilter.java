@@ -0,0 +1,238 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyFilterDetails;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable matcher compiled from a {@link ReadOnlyFilterDetails}.
+ *
+ * <p>Keywords are trimmed and lower-cased once at compile time, fields without keywords are dropped, exact
+ * fields are matched through hash sets and point ranges are parsed up front. Residents are matched through their
+ * cached {@link SearchKeys}, so matching a resident neither re-normalizes keywords or values nor visits fields that
+ * do not constrain the result.
+ *
+ * <p>Two filters are equal if they constrain the same fields with the same normalized keywords, regardless of
+ * the order in which they check those fields.
+ */
+public final class CompiledFilter {
+
+    private static final CompiledFilter MATCH_ALL = new CompiledFilter(new FieldMatcher[0]);
+
+    private final FieldMatcher[] fieldMatchers;
+
+    private CompiledFilter(FieldMatcher[] fieldMatchers) {
+        this.fieldMatchers = fieldMatchers;
+    }
+
+    /**
+     * Compiles {@code filterDetails} into a matcher. Later changes to {@code filterDetails} do not affect it.
+     */
+    public static CompiledFilter compile(ReadOnlyFilterDetails filterDetails) {
+        requireNonNull(filterDetails);
+        List<FieldMatcher> fieldMatchers = new ArrayList<>();
+        for (SearchField field : SearchField.values()) {
+            Set<String> keywords = field.getKeywords(filterDetails);
+            if (keywords.isEmpty()) {
+                continue;
+            }
+            fieldMatchers.add(switch (field.getMatchType()) {
+            case FUZZY -> new FuzzyFieldMatcher(field, normalize(keywords));
+            case RANGE -> new RangeFieldMatcher(field, normalize(keywords));
+            case EXACT -> new ExactFieldMatcher(field, normalize(keywords));
+            });
+        }
+        return fieldMatchers.isEmpty() ? MATCH_ALL : new CompiledFilter(fieldMatchers.toArray(FieldMatcher[]::new));
+    }
+
+    /**
+     * Returns true if this filter places no constraint on residents.
+     */
+    public boolean matchesAll() {
+        return fieldMatchers.length == 0;
+    }
+
+    /**
+     * Returns the fields constrained by this filter, in the order they are checked.
+     */
+    public List<SearchField> getConstrainedFields() {
+        List<SearchField> fields = new ArrayList<>();
+        for (FieldMatcher fieldMatcher : fieldMatchers) {
+            fields.add(fieldMatcher.field);
+        }
+        return fields;
+    }
+
+    /**
+     * Returns an equivalent filter that checks its fields in the order given by {@code fieldOrder}.
+     * Constrained fields missing from {@code fieldOrder} are checked last, in their current order.
+     */
+    public CompiledFilter orderedBy(List<SearchField> fieldOrder) {
+        requireNonNull(fieldOrder);
+        FieldMatcher[] ordered = fieldMatchers.clone();
+        Arrays.sort(ordered, Comparator.comparingInt(fieldMatcher -> {
+            int position = fieldOrder.indexOf(fieldMatcher.field);
+            return position < 0 ? fieldOrder.size() : position;
+        }));
+        return ordered.length == 0 ? MATCH_ALL : new CompiledFilter(ordered);
+    }
+
+    /**
+     * Returns true if every resident matching this filter also matches {@code other}, judging by keywords alone.
+     * This holds when each field constrained by {@code other} is also constrained by this filter, with keywords
+     * that are a subset of the alternatives {@code other} accepts.
+     */
+    public boolean implies(CompiledFilter other) {
+        requireNonNull(other);
+        for (FieldMatcher otherMatcher : other.fieldMatchers) {
+            FieldMatcher matcher = findMatcher(otherMatcher.field);
+            if (matcher == null || !otherMatcher.keywordSet.containsAll(matcher.keywordSet)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code person} matches every constrained field of this filter.
+     * A resident with an empty value for a constrained field never matches it.
+     */
+    public boolean matches(Person person) {
+        for (FieldMatcher fieldMatcher : fieldMatchers) {
+            String value = person.getSearchKey(fieldMatcher.field);
+            if (value.isEmpty() || !fieldMatcher.matches(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of fields this filter checks.
+     */
+    int getStepCount() {
+        return fieldMatchers.length;
+    }
+
+    /**
+     * Returns true if {@code person} matches the field checked at position {@code step}.
+     */
+    boolean matchesStep(int step, Person person) {
+        FieldMatcher fieldMatcher = fieldMatchers[step];
+        String value = person.getSearchKey(fieldMatcher.field);
+        return !value.isEmpty() && fieldMatcher.matches(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof CompiledFilter otherFilter)) {
+            return false;
+        }
+        return fieldMatchers.length == otherFilter.fieldMatchers.length
+                && implies(otherFilter) && otherFilter.implies(this);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (FieldMatcher fieldMatcher : fieldMatchers) {
+            // Summed so that the hash does not depend on the order in which fields are checked
+            hash += fieldMatcher.field.hashCode() ^ fieldMatcher.keywordSet.hashCode();
+        }
+        return hash;
+    }
+
+    private FieldMatcher findMatcher(SearchField field) {
+        for (FieldMatcher fieldMatcher : fieldMatchers) {
+            if (fieldMatcher.field == field) {
+                return fieldMatcher;
+            }
+        }
+        return null;
+    }
+
+    private static Set<String> normalize(Set<String> keywords) {
+        Set<String> normalizedKeywords = new HashSet<>();
+        for (String keyword : keywords) {
+            normalizedKeywords.add(keyword.toLowerCase().trim());
+        }
+        return normalizedKeywords;
+    }
+
+    /**
+     * Matches the normalized value of one field against that field's keywords.
+     */
+    private abstract static class FieldMatcher {
+        private final SearchField field;
+        private final Set<String> keywordSet;
+
+        FieldMatcher(SearchField field, Set<String> keywords) {
+            this.field = field;
+            this.keywordSet = Set.copyOf(keywords);
+        }
+
+        abstract boolean matches(String normalizedValue);
+    }
+
+    private static class FuzzyFieldMatcher extends FieldMatcher {
+        private final String[] keywords;
+
+        FuzzyFieldMatcher(SearchField field, Set<String> keywords) {
+            super(field, keywords);
+            this.keywords = keywords.toArray(String[]::new);
+        }
+
+        @Override
+        boolean matches(String normalizedValue) {
+            for (String keyword : keywords) {
+                if (StringUtil.fuzzyMatchesNormalized(keyword, normalizedValue)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static class RangeFieldMatcher extends FieldMatcher {
+        private final PointRange[] ranges;
+
+        RangeFieldMatcher(SearchField field, Set<String> keywords) {
+            super(field, keywords);
+            this.ranges = keywords.stream().map(PointRange::parse).toArray(PointRange[]::new);
+        }
+
+        @Override
+        boolean matches(String normalizedValue) {
+            int points = Integer.parseInt(normalizedValue);
+            for (PointRange range : ranges) {
+                if (range.contains(points)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static class ExactFieldMatcher extends FieldMatcher {
+        ExactFieldMatcher(SearchField field, Set<String> keywords) {
+            super(field, keywords);
+        }
+
+        @Override
+        boolean matches(String normalizedValue) {
+            return super.keywordSet.contains(normalizedValue);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Orders residents by their total demerit points.
+ *
+ * <p>Residents with equal points share a bucket, ordered by student ID. Finding the residents within a range of
+ * points costs a logarithmic search plus the number of buckets visited, and listing the {@code k} residents with
+ * the most points costs a logarithmic search plus {@code k}.
+ */
+public class DemeritPointsIndex {
+
+    private static final Comparator<StudentId> STUDENT_ID_ORDER = Comparator.comparing(studentId -> studentId.value);
+
+    private final NavigableMap<Integer, NavigableSet<StudentId>> residentsByPoints = new TreeMap<>();
+    private final Map<StudentId, Integer> pointsByResident = new HashMap<>();
+
+    /**
+     * Indexes the total demerit points of {@code person}, replacing anything indexed for them before.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        remove(person.getStudentId());
+        int points = person.getTotalDemeritPoints();
+        pointsByResident.put(person.getStudentId(), points);
+        residentsByPoints.computeIfAbsent(points, unused -> new TreeSet<>(STUDENT_ID_ORDER))
+                .add(person.getStudentId());
+    }
+
+    /**
+     * Removes the resident with {@code studentId} from the index, if present.
+     */
+    public void remove(StudentId studentId) {
+        requireNonNull(studentId);
+        Integer points = pointsByResident.remove(studentId);
+        if (points == null) {
+            return;
+        }
+        NavigableSet<StudentId> bucket = residentsByPoints.get(points);
+        bucket.remove(studentId);
+        if (bucket.isEmpty()) {
+            residentsByPoints.remove(points);
+        }
+    }
+
+    /**
+     * Removes all indexed residents.
+     */
+    public void clear() {
+        residentsByPoints.clear();
+        pointsByResident.clear();
+    }
+
+    /**
+     * Returns the student IDs of the residents whose total demerit points lie within {@code range}.
+     */
+    public Set<StudentId> findInRange(PointRange range) {
+        requireNonNull(range);
+        Set<StudentId> studentIds = new HashSet<>();
+        inRange(range).values().forEach(studentIds::addAll);
+        return studentIds;
+    }
+
+    /**
+     * Returns the number of residents whose total demerit points lie within {@code range}.
+     */
+    public int countInRange(PointRange range) {
+        requireNonNull(range);
+        int count = 0;
+        for (Set<StudentId> bucket : inRange(range).values()) {
+            count += bucket.size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the student IDs of at most {@code limit} residents with demerit points, most points first.
+     * Residents with equal points are ordered by student ID.
+     */
+    public List<StudentId> findHighest(int limit) {
+        checkArgument(limit > 0);
+        List<StudentId> highest = new ArrayList<>(Math.min(limit, pointsByResident.size()));
+        for (Map.Entry<Integer, NavigableSet<StudentId>> entry : residentsByPoints.descendingMap().entrySet()) {
+            if (entry.getKey() <= 0) {
+                break;
+            }
+            for (StudentId studentId : entry.getValue()) {
+                if (highest.size() == limit) {
+                    return highest;
+                }
+                highest.add(studentId);
+            }
+        }
+        return highest;
+    }
+
+    private NavigableMap<Integer, NavigableSet<StudentId>> inRange(PointRange range) {
+        return residentsByPoints.subMap(range.min(), true, range.max(), true);
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.StringUtil.MAX_TYPO_DISTANCE;
+import static seedu.address.commons.util.StringUtil.MIN_TYPO_QUERY_LENGTH;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.person.StudentId;
+
+/**
+ * Indexes the values of one fuzzy-searchable field.
+ *
+ * <p>Values and queries are compared case-insensitively after trimming, as in
+ * {@link seedu.address.commons.util.StringUtil#fuzzyMatchesIgnoresCase(String, String)}. A {@link TrigramIndex}
+ * narrows substring matches and a {@link BkTree} finds typo matches, so a query only needs to be verified against
+ * the residents that can possibly match it.
+ */
+public class FuzzyFieldIndex {
+
+    private final Map<StudentId, String> values = new HashMap<>();
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+    private final BkTree bkTree = new BkTree();
+
+    /**
+     * Indexes {@code value} for the resident with {@code studentId}, replacing any value indexed for them before.
+     * Empty values are not indexed, since they never match a fuzzy query.
+     */
+    public void add(StudentId studentId, String value) {
+        requireNonNull(studentId);
+        requireNonNull(value);
+        remove(studentId);
+
+        String normalizedValue = normalize(value);
+        if (normalizedValue.isEmpty()) {
+            return;
+        }
+        values.put(studentId, normalizedValue);
+        trigramIndex.add(studentId, normalizedValue);
+        bkTree.add(normalizedValue, studentId);
+    }
+
+    /**
+     * Removes the value indexed for the resident with {@code studentId}, if any.
+     */
+    public void remove(StudentId studentId) {
+        requireNonNull(studentId);
+        String normalizedValue = values.remove(studentId);
+        if (normalizedValue == null) {
+            return;
+        }
+        trigramIndex.remove(studentId, normalizedValue);
+        bkTree.remove(normalizedValue, studentId);
+    }
+
+    /**
+     * Removes all indexed values.
+     */
+    public void clear() {
+        values.clear();
+        trigramIndex.clear();
+        bkTree.clear();
+    }
+
+    /**
+     * Returns the residents whose value may fuzzy-match {@code query}, or an empty {@code Optional} if the query
+     * is too short for the index to rule anyone out.
+     */
+    public Optional<Set<StudentId>> findCandidates(String query) {
+        requireNonNull(query);
+        String normalizedQuery = normalize(query);
+        Optional<Set<StudentId>> candidates = trigramIndex.findSubstringCandidates(normalizedQuery);
+        if (candidates.isPresent() && normalizedQuery.length() >= MIN_TYPO_QUERY_LENGTH) {
+            candidates.get().addAll(bkTree.findWithin(normalizedQuery, MAX_TYPO_DISTANCE));
+        }
+        return candidates;
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase().trim();
+    }
+}
@@ -0,0 +1,292 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import seedu.address.model.ReadOnlyFilterDetails;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.TagType;
+
+/**
+ * Indexes the fuzzy-searchable fields, closed-set tags and demerit points of every resident so that a filter only
+ * needs to be verified against the residents that can possibly match it.
+ *
+ * <p>The index must be kept in step with the resident list it describes, and reads the version of that list, which
+ * must change whenever the index is updated. Predicates narrowed with {@link #narrow(QueryPlan)} compare it with the
+ * version they were built at to detect that their candidates are stale.
+ */
+public class PersonSearchIndex {
+
+    private static final Map<SearchField, TagType> CLOSED_TAG_FIELDS =
+            Map.of(SearchField.YEAR, TagType.YEAR, SearchField.GENDER, TagType.GENDER);
+
+    private final Map<SearchField, FuzzyFieldIndex> fieldIndexes = new EnumMap<>(SearchField.class);
+    private final ClosedTagIndex closedTagIndex = new ClosedTagIndex();
+    private final DemeritPointsIndex demeritPointsIndex = new DemeritPointsIndex();
+    private final LongSupplier listVersion;
+
+    /**
+     * Creates an empty index of a resident list whose version is read from {@code listVersion}.
+     */
+    public PersonSearchIndex(LongSupplier listVersion) {
+        requireNonNull(listVersion);
+        this.listVersion = listVersion;
+        for (SearchField field : SearchField.values()) {
+            if (field.isFuzzy()) {
+                fieldIndexes.put(field, new FuzzyFieldIndex());
+            }
+        }
+    }
+
+    /**
+     * Indexes the fields of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        fieldIndexes.forEach((field, index) -> index.add(person.getStudentId(), person.getSearchKey(field)));
+        closedTagIndex.add(person);
+        demeritPointsIndex.add(person);
+    }
+
+    /**
+     * Removes the fields of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        fieldIndexes.values().forEach(index -> index.remove(person.getStudentId()));
+        closedTagIndex.remove(person.getStudentId());
+        demeritPointsIndex.remove(person.getStudentId());
+    }
+
+    /**
+     * Replaces the index contents with the fields of {@code persons}.
+     */
+    public void reset(List<Person> persons) {
+        fieldIndexes.values().forEach(FuzzyFieldIndex::clear);
+        closedTagIndex.clear();
+        demeritPointsIndex.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the student IDs of the residents that may match {@code filterDetails}, or an empty {@code Optional}
+     * if the index cannot rule out any resident.
+     *
+     * @see #planQuery(ReadOnlyFilterDetails)
+     */
+    public Optional<Set<StudentId>> findCandidates(ReadOnlyFilterDetails filterDetails) {
+        requireNonNull(filterDetails);
+        return planQuery(filterDetails).getCandidates();
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code plan} that rejects residents outside the candidates found while
+     * planning it without testing them. A plan made before the index last changed is returned as is, and once the
+     * index changes, the returned predicate falls back to testing every resident with {@code plan}.
+     */
+    public Predicate<Person> narrow(QueryPlan plan) {
+        requireNonNull(plan);
+        if (plan.getIndexVersion() != listVersion.getAsLong()) {
+            return plan;
+        }
+        return plan.getCandidates()
+                .map(candidates -> restrictTo(plan, candidates))
+                .orElse(plan);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate}, which must reject every resident outside
+     * {@code candidates}, that rejects those residents without testing them.
+     * Once the index changes, the returned predicate falls back to testing every resident with {@code predicate}.
+     */
+    public Predicate<Person> restrictTo(Predicate<Person> predicate, Set<StudentId> candidates) {
+        requireAllNonNull(predicate, candidates);
+        return new NarrowedPredicate(predicate, candidates, listVersion.getAsLong());
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate}, which must accept every resident in {@code matches},
+     * that accepts those residents without testing them.
+     * Once the index changes, the returned predicate falls back to testing every resident with {@code predicate}.
+     */
+    public Predicate<Person> extendWith(Predicate<Person> predicate, Set<StudentId> matches) {
+        requireAllNonNull(predicate, matches);
+        return new ExtendedPredicate(predicate, matches, listVersion.getAsLong());
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate}, which must accept exactly the residents in
+     * {@code matches}, that answers from {@code matches} without testing anyone.
+     * Once the index changes, the returned predicate falls back to testing every resident with {@code predicate}.
+     */
+    public Predicate<Person> memoize(Predicate<Person> predicate, Set<StudentId> matches) {
+        requireAllNonNull(predicate, matches);
+        return extendWith(restrictTo(predicate, matches), matches);
+    }
+
+    /**
+     * Returns a plan for matching residents against {@code filterDetails} that checks the field with the fewest
+     * estimated matches first. Among fields with equal estimates, exact fields are checked before fuzzy ones.
+     *
+     * <p>The residents each field can match are looked up once, both to estimate the field and to find the
+     * candidates the plan carries. Keywords of one field are alternatives, so their candidates are united; different
+     * fields must all match, so the candidates of each field are intersected. Closed-set tag fields are intersected
+     * as bitmaps first.
+     */
+    public QueryPlan planQuery(ReadOnlyFilterDetails filterDetails) {
+        requireNonNull(filterDetails);
+        CompiledFilter filter = CompiledFilter.compile(filterDetails);
+        int residentCount = closedTagIndex.size();
+        List<QueryPlan.Step> steps = new ArrayList<>();
+        BitSet closedTagMatches = null;
+        Set<StudentId> candidates = null;
+        for (SearchField field : filter.getConstrainedFields()) {
+            Set<String> keywords = field.getKeywords(filterDetails);
+            int estimatedMatches;
+            if (field == SearchField.STUDENT_ID) {
+                // Student IDs are unique, so each keyword matches at most one resident
+                estimatedMatches = Math.min(keywords.size(), residentCount);
+            } else if (CLOSED_TAG_FIELDS.containsKey(field)) {
+                BitSet fieldMatches = closedTagIndex.findMatching(CLOSED_TAG_FIELDS.get(field), keywords);
+                estimatedMatches = fieldMatches.cardinality();
+                if (closedTagMatches == null) {
+                    closedTagMatches = fieldMatches;
+                } else {
+                    closedTagMatches.and(fieldMatches);
+                }
+            } else if (field == SearchField.DEMERIT_POINTS) {
+                Set<StudentId> pointMatches = findDemeritPointMatches(keywords);
+                estimatedMatches = pointMatches.size();
+                candidates = intersect(candidates, pointMatches);
+            } else {
+                Optional<Set<StudentId>> fieldCandidates = findFieldCandidates(fieldIndexes.get(field), keywords);
+                estimatedMatches = fieldCandidates.map(Set::size).orElse(residentCount);
+                if (fieldCandidates.isPresent()) {
+                    candidates = intersect(candidates, fieldCandidates.get());
+                }
+            }
+            steps.add(new QueryPlan.Step(field, estimatedMatches));
+        }
+        if (closedTagMatches != null) {
+            candidates = intersect(closedTagIndex.toStudentIds(closedTagMatches), candidates);
+        }
+        steps.sort(Comparator.comparingInt(QueryPlan.Step::estimatedMatches)
+                .thenComparing(step -> step.field().isFuzzy()));
+        return new QueryPlan(filter, steps, candidates, listVersion.getAsLong());
+    }
+
+    /**
+     * Counts the residents among {@code persons}, which must all be indexed, by their {@code tagType} tag.
+     *
+     * @throws IllegalArgumentException if {@code tagType} is not a closed-set tag type.
+     */
+    public TagValueCounts countTagValues(TagType tagType, Collection<Person> persons) {
+        return closedTagIndex.countValues(tagType, persons);
+    }
+
+    /**
+     * Returns the student IDs of at most {@code limit} residents with demerit points, most points first.
+     *
+     * @see DemeritPointsIndex#findHighest(int)
+     */
+    public List<StudentId> findHighestDemeritPoints(int limit) {
+        return demeritPointsIndex.findHighest(limit);
+    }
+
+    private Set<StudentId> findDemeritPointMatches(Set<String> pointRanges) {
+        Set<StudentId> matches = new HashSet<>();
+        for (String range : pointRanges) {
+            matches.addAll(demeritPointsIndex.findInRange(PointRange.parse(range)));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns {@code candidates} restricted to {@code fieldCandidates}, where a {@code null} {@code candidates}
+     * stands for every resident. {@code candidates} may be modified, but {@code fieldCandidates} is not.
+     */
+    private static Set<StudentId> intersect(Set<StudentId> candidates, Set<StudentId> fieldCandidates) {
+        if (candidates == null) {
+            return fieldCandidates;
+        }
+        if (fieldCandidates != null) {
+            candidates.retainAll(fieldCandidates);
+        }
+        return candidates;
+    }
+
+    private static Optional<Set<StudentId>> findFieldCandidates(FuzzyFieldIndex index, Set<String> keywords) {
+        if (keywords.isEmpty()) {
+            return Optional.empty();
+        }
+        Set<StudentId> candidates = new HashSet<>();
+        for (String keyword : keywords) {
+            Optional<Set<StudentId>> keywordCandidates = index.findCandidates(keyword);
+            if (keywordCandidates.isEmpty()) {
+                return Optional.empty();
+            }
+            candidates.addAll(keywordCandidates.get());
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * A predicate that only tests residents among a set of candidates, as long as the index is unchanged.
+     */
+    private class NarrowedPredicate implements Predicate<Person> {
+        private final Predicate<Person> predicate;
+        private final Set<StudentId> candidates;
+        private final long builtAtVersion;
+
+        NarrowedPredicate(Predicate<Person> predicate, Set<StudentId> candidates, long builtAtVersion) {
+            this.predicate = predicate;
+            this.candidates = candidates;
+            this.builtAtVersion = builtAtVersion;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (listVersion.getAsLong() != builtAtVersion) {
+                return predicate.test(person);
+            }
+            return candidates.contains(person.getStudentId()) && predicate.test(person);
+        }
+    }
+
+    /**
+     * A predicate that accepts a set of known matches without testing them, as long as the index is unchanged.
+     */
+    private class ExtendedPredicate implements Predicate<Person> {
+        private final Predicate<Person> predicate;
+        private final Set<StudentId> matches;
+        private final long builtAtVersion;
+
+        ExtendedPredicate(Predicate<Person> predicate, Set<StudentId> matches, long builtAtVersion) {
+            this.predicate = predicate;
+            this.matches = matches;
+            this.builtAtVersion = builtAtVersion;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (listVersion.getAsLong() != builtAtVersion) {
+                return predicate.test(person);
+            }
+            return matches.contains(person.getStudentId()) || predicate.test(person);
+        }
+    }
+}
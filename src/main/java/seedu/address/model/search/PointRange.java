@@ -0,0 +1,85 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An inclusive range of demerit points, written as {@code 10} (exactly 10), {@code 10-20}, {@code 25-} (at least
+ * 25) or {@code -5} (at most 5).
+ * Guarantees: immutable; {@code 0 <= min <= max}.
+ */
+public record PointRange(int min, int max) {
+
+    public static final String MESSAGE_CONSTRAINTS = "Demerit points should be a number of points such as 10, "
+            + "or a range such as 10-20, 25- (at least 25) or -5 (at most 5).";
+
+    private static final Pattern RANGE_FORMAT =
+            Pattern.compile("(?<exact>\\d{1,6})|(?<min>\\d{0,6})\\s*-\\s*(?<max>\\d{0,6})");
+
+    /**
+     * Creates a range from {@code min} to {@code max}, both inclusive.
+     */
+    public PointRange {
+        checkArgument(0 <= min && min <= max, MESSAGE_CONSTRAINTS);
+    }
+
+    /**
+     * Returns true if {@code test} is a valid range.
+     */
+    public static boolean isValidRange(String test) {
+        requireNonNull(test);
+        Matcher matcher = RANGE_FORMAT.matcher(test.trim());
+        if (!matcher.matches()) {
+            return false;
+        }
+        if (matcher.group("exact") != null) {
+            return true;
+        }
+        String min = matcher.group("min");
+        String max = matcher.group("max");
+        if (min.isEmpty() && max.isEmpty()) {
+            return false;
+        }
+        return min.isEmpty() || max.isEmpty() || Integer.parseInt(min) <= Integer.parseInt(max);
+    }
+
+    /**
+     * Parses a range written in any of the forms accepted by {@link #isValidRange(String)}.
+     *
+     * @throws IllegalArgumentException if {@code range} is not a valid range.
+     */
+    public static PointRange parse(String range) {
+        checkArgument(isValidRange(range), MESSAGE_CONSTRAINTS);
+        Matcher matcher = RANGE_FORMAT.matcher(range.trim());
+        matcher.matches();
+        if (matcher.group("exact") != null) {
+            int points = Integer.parseInt(matcher.group("exact"));
+            return new PointRange(points, points);
+        }
+        String min = matcher.group("min");
+        String max = matcher.group("max");
+        return new PointRange(min.isEmpty() ? 0 : Integer.parseInt(min),
+                max.isEmpty() ? Integer.MAX_VALUE : Integer.parseInt(max));
+    }
+
+    /**
+     * Returns true if {@code points} lies within this range.
+     */
+    public boolean contains(int points) {
+        return min <= points && points <= max;
+    }
+
+    /**
+     * Returns this range in the shortest form accepted by {@link #parse(String)}.
+     */
+    @Override
+    public String toString() {
+        if (min == max) {
+            return String.valueOf(min);
+        }
+        return max == Integer.MAX_VALUE ? min + "-" : min + "-" + max;
+    }
+}
@@ -0,0 +1,170 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * A {@link CompiledFilter} whose fields are checked in ascending order of their estimated number of matches,
+ * so that most residents are rejected by the first, most selective check.
+ *
+ * <p>Plans are created by {@link PersonSearchIndex#planQuery(seedu.address.model.ReadOnlyFilterDetails)}, which
+ * also records the candidates its indexes found, so that the residents they rule out are never tested.
+ */
+public final class QueryPlan implements Predicate<Person> {
+
+    public static final String MESSAGE_MATCH_ALL_PLAN = "No constraints: every one of %1$d residents matches.";
+    public static final String MESSAGE_PLAN_HEADER = "Query plan over %1$d residents, %2$d matched in %3$.3f ms:";
+    public static final String MESSAGE_PLAN_CANDIDATES =
+            "0. search indexes: %1$d of %2$d residents are candidates, %3$.3f ms";
+    public static final String MESSAGE_PLAN_STEP =
+            "%1$d. %2$s (%3$s, est. %4$d matches): tested %5$d, kept %6$d, %7$.3f ms";
+
+    private final CompiledFilter filter;
+    private final List<Step> steps;
+    /** The residents that may match, or {@code null} if the indexes could not rule out anyone. */
+    private final Set<StudentId> candidates;
+    private final long indexVersion;
+
+    /**
+     * One field check of a plan, with the number of residents the indexes estimate it accepts at most.
+     */
+    public record Step(SearchField field, int estimatedMatches) {}
+
+    /**
+     * One field check of an explained plan, with the number of residents it tested and kept, and the time it took.
+     */
+    public record StepRun(Step step, int tested, int kept, long elapsedNanos) {}
+
+    /**
+     * The outcome of running a plan one step at a time over {@code residentCount} residents.
+     * {@code candidateCount} is the number of residents left after dropping those the indexes ruled out, taking
+     * {@code candidateNanos}, or empty if the indexes ruled out nobody.
+     */
+    public record Explanation(int residentCount, OptionalInt candidateCount, long candidateNanos,
+            List<StepRun> stepRuns) {
+
+        /**
+         * Returns the number of residents kept by the last step.
+         */
+        public int matchedCount() {
+            return stepRuns.isEmpty() ? residentCount : stepRuns.get(stepRuns.size() - 1).kept();
+        }
+
+        /**
+         * Returns the time taken by every step, including dropping the residents the indexes ruled out.
+         */
+        public long totalNanos() {
+            return candidateNanos + stepRuns.stream().mapToLong(StepRun::elapsedNanos).sum();
+        }
+
+        /**
+         * Returns a description of this explanation for the user, one line per step.
+         */
+        public String format() {
+            if (stepRuns.isEmpty()) {
+                return String.format(MESSAGE_MATCH_ALL_PLAN, residentCount);
+            }
+
+            List<String> lines = new ArrayList<>();
+            lines.add(String.format(MESSAGE_PLAN_HEADER, residentCount, matchedCount(), toMillis(totalNanos())));
+            candidateCount.ifPresent(count -> lines.add(
+                    String.format(MESSAGE_PLAN_CANDIDATES, count, residentCount, toMillis(candidateNanos))));
+            for (int i = 0; i < stepRuns.size(); i++) {
+                StepRun run = stepRuns.get(i);
+                lines.add(String.format(MESSAGE_PLAN_STEP, i + 1, run.step().field(),
+                        run.step().field().getMatchType().name().toLowerCase(), run.step().estimatedMatches(),
+                        run.tested(), run.kept(), toMillis(run.elapsedNanos())));
+            }
+            return String.join("\n", lines);
+        }
+    }
+
+    /**
+     * Creates a plan that checks the fields of {@code filter} in the order of {@code steps}.
+     * {@code steps} must cover exactly the fields constrained by {@code filter}, and {@code candidates}, if not
+     * {@code null}, must include every resident that matches {@code filter} at index version {@code indexVersion}.
+     */
+    QueryPlan(CompiledFilter filter, List<Step> steps, Set<StudentId> candidates, long indexVersion) {
+        this.steps = List.copyOf(steps);
+        this.filter = filter.orderedBy(this.steps.stream().map(Step::field).toList());
+        this.candidates = candidates;
+        this.indexVersion = indexVersion;
+    }
+
+    /**
+     * Returns the field checks of this plan, in the order they are made.
+     */
+    public List<Step> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Returns the student IDs of the residents that may match, as found by the indexes while planning,
+     * or an empty {@code Optional} if the indexes could not rule out any resident.
+     */
+    Optional<Set<StudentId>> getCandidates() {
+        return Optional.ofNullable(candidates);
+    }
+
+    /**
+     * Returns the version of the index this plan was made with.
+     */
+    long getIndexVersion() {
+        return indexVersion;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return filter.matches(person);
+    }
+
+    /**
+     * Runs this plan over {@code residents}, which must be the residents it was planned over, and records the number
+     * of residents each step tested and kept, and the time it took. Residents outside the candidates found by the
+     * indexes are dropped before the first step, as they are when the plan filters the resident list.
+     */
+    public Explanation explain(List<Person> residents) {
+        requireNonNull(residents);
+        List<Person> survivors = residents;
+        OptionalInt candidateCount = OptionalInt.empty();
+        long candidateNanos = 0;
+        if (candidates != null) {
+            long start = System.nanoTime();
+            survivors = new ArrayList<>();
+            for (Person person : residents) {
+                if (candidates.contains(person.getStudentId())) {
+                    survivors.add(person);
+                }
+            }
+            candidateNanos = System.nanoTime() - start;
+            candidateCount = OptionalInt.of(survivors.size());
+        }
+
+        List<StepRun> stepRuns = new ArrayList<>();
+        for (int i = 0; i < steps.size(); i++) {
+            long start = System.nanoTime();
+            List<Person> kept = new ArrayList<>();
+            for (Person person : survivors) {
+                if (filter.matchesStep(i, person)) {
+                    kept.add(person);
+                }
+            }
+            stepRuns.add(new StepRun(steps.get(i), survivors.size(), kept.size(), System.nanoTime() - start));
+            survivors = kept;
+        }
+        return new Explanation(residents.size(), candidateCount, candidateNanos, List.copyOf(stepRuns));
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.model.search;
+
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.ReadOnlyFilterDetails;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Represents a resident field that can be searched through {@code find} or the filter panel.
+ *
+ * <p>Fuzzy fields match keywords by substring or small typos, exact fields only match whole values, and range
+ * fields match numeric values within any of the {@link PointRange}s given as keywords.
+ */
+public enum SearchField {
+    NAME(MatchType.FUZZY, person -> person.getName().fullName, ReadOnlyFilterDetails::getNameKeywords),
+    EMAIL(MatchType.FUZZY, person -> person.getEmail().value, ReadOnlyFilterDetails::getEmailKeywords),
+    PHONE(MatchType.FUZZY, person -> person.getPhone().value, ReadOnlyFilterDetails::getPhoneNumberKeywords),
+    ROOM_NUMBER(MatchType.FUZZY, person -> person.getRoomNumber().value,
+            ReadOnlyFilterDetails::getRoomNumberKeywords),
+    STUDENT_ID(MatchType.EXACT, person -> person.getStudentId().value, ReadOnlyFilterDetails::getStudentIdKeywords),
+    EMERGENCY_CONTACT(MatchType.FUZZY, person -> person.getEmergencyContact().value,
+            ReadOnlyFilterDetails::getEmergencyContactKeywords),
+    YEAR(MatchType.EXACT, person -> person.getYear().map(Tag::getTagContent).orElse(""),
+            ReadOnlyFilterDetails::getTagYearKeywords),
+    MAJOR(MatchType.FUZZY, person -> person.getMajor().map(Tag::getTagContent).orElse(""),
+            ReadOnlyFilterDetails::getTagMajorKeywords),
+    GENDER(MatchType.EXACT, person -> person.getGender().map(Tag::getTagContent).orElse(""),
+            ReadOnlyFilterDetails::getTagGenderKeywords),
+    DEMERIT_POINTS(MatchType.RANGE, person -> String.valueOf(person.getTotalDemeritPoints()),
+            ReadOnlyFilterDetails::getDemeritPointsKeywords);
+
+    /**
+     * How the keywords of a field are compared with its values.
+     */
+    public enum MatchType {
+        EXACT, FUZZY, RANGE
+    }
+
+    private final MatchType matchType;
+    private final Function<Person, String> valueExtractor;
+    private final Function<ReadOnlyFilterDetails, Set<String>> keywordExtractor;
+
+    SearchField(MatchType matchType, Function<Person, String> valueExtractor,
+                Function<ReadOnlyFilterDetails, Set<String>> keywordExtractor) {
+        this.matchType = matchType;
+        this.valueExtractor = valueExtractor;
+        this.keywordExtractor = keywordExtractor;
+    }
+
+    public MatchType getMatchType() {
+        return matchType;
+    }
+
+    /**
+     * Returns true if keywords for this field are matched fuzzily rather than exactly.
+     */
+    public boolean isFuzzy() {
+        return matchType == MatchType.FUZZY;
+    }
+
+    /**
+     * Returns the raw value of this field for {@code person}, or an empty string if the person has none.
+     */
+    public String getValue(Person person) {
+        return valueExtractor.apply(person);
+    }
+
+    /**
+     * Returns the keywords given for this field in {@code filterDetails}.
+     */
+    public Set<String> getKeywords(ReadOnlyFilterDetails filterDetails) {
+        return keywordExtractor.apply(filterDetails);
+    }
+}
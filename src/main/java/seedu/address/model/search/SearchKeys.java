@@ -0,0 +1,62 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The trimmed, lower-cased value of every {@link SearchField} of one resident.
+ *
+ * <p>Keys are computed when the resident is created and carried over when it is edited, so filters and search
+ * indexes can compare against them without normalizing the resident's fields again on every evaluation.
+ */
+public final class SearchKeys {
+
+    private final String[] keys;
+
+    private SearchKeys(String[] keys) {
+        this.keys = keys;
+    }
+
+    /**
+     * Returns the search keys of {@code person}.
+     */
+    public static SearchKeys of(Person person) {
+        requireNonNull(person);
+        SearchField[] fields = SearchField.values();
+        String[] keys = new String[fields.length];
+        for (SearchField field : fields) {
+            keys[field.ordinal()] = normalize(field.getValue(person));
+        }
+        return new SearchKeys(keys);
+    }
+
+    /**
+     * Returns the search keys of {@code person}, an edited copy of the resident these keys belong to that only
+     * differs in {@code changedFields}. Only the keys of {@code changedFields} are recomputed.
+     */
+    public SearchKeys update(Person person, SearchField... changedFields) {
+        requireNonNull(person);
+        if (changedFields.length == 0) {
+            return this;
+        }
+        String[] updatedKeys = Arrays.copyOf(keys, keys.length);
+        for (SearchField field : changedFields) {
+            updatedKeys[field.ordinal()] = normalize(field.getValue(person));
+        }
+        return new SearchKeys(updatedKeys);
+    }
+
+    /**
+     * Returns the key of {@code field}, or an empty string if the resident has no value for it.
+     */
+    public String get(SearchField field) {
+        return keys[field.ordinal()];
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase().trim();
+    }
+}
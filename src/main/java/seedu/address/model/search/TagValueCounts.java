@@ -0,0 +1,23 @@
+package seedu.address.model.search;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The number of residents holding each allowed value of a closed-set tag type, in the order the values are
+ * allowed, and the number of residents without a tag of that type.
+ */
+public record TagValueCounts(Map<String, Integer> valueCounts, int missingCount) {
+
+    public TagValueCounts {
+        valueCounts = Collections.unmodifiableMap(new LinkedHashMap<>(valueCounts));
+    }
+
+    /**
+     * Returns the number of residents holding {@code value}, ignoring case.
+     */
+    public int getCount(String value) {
+        return valueCounts.getOrDefault(value.toLowerCase(), 0);
+    }
+}
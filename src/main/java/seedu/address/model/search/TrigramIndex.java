@@ -0,0 +1,91 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.person.StudentId;
+
+/**
+ * An inverted index from the trigrams of normalized field values to the residents holding those values.
+ * Used to find the residents whose value may contain a query as a substring.
+ */
+public class TrigramIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<StudentId>> postings = new HashMap<>();
+
+    /**
+     * Indexes {@code normalizedValue} for the resident with {@code studentId}.
+     */
+    public void add(StudentId studentId, String normalizedValue) {
+        requireNonNull(studentId);
+        for (String gram : grams(normalizedValue)) {
+            postings.computeIfAbsent(gram, unused -> new HashSet<>()).add(studentId);
+        }
+    }
+
+    /**
+     * Removes {@code normalizedValue}, previously indexed for the resident with {@code studentId}.
+     */
+    public void remove(StudentId studentId, String normalizedValue) {
+        requireNonNull(studentId);
+        for (String gram : grams(normalizedValue)) {
+            Set<StudentId> ids = postings.get(gram);
+            ids.remove(studentId);
+            if (ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Removes all indexed values.
+     */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the residents whose value contains every trigram of {@code normalizedQuery}, or an empty
+     * {@code Optional} if the query is shorter than a trigram and so cannot be narrowed.
+     */
+    public Optional<Set<StudentId>> findSubstringCandidates(String normalizedQuery) {
+        requireNonNull(normalizedQuery);
+        if (normalizedQuery.length() < GRAM_LENGTH) {
+            return Optional.empty();
+        }
+
+        List<Set<StudentId>> postingLists = new ArrayList<>();
+        for (String gram : grams(normalizedQuery)) {
+            Set<StudentId> postingList = postings.get(gram);
+            if (postingList == null) {
+                return Optional.of(new HashSet<>());
+            }
+            postingLists.add(postingList);
+        }
+
+        postingLists.sort((first, second) -> Integer.compare(first.size(), second.size()));
+        Set<StudentId> candidates = new HashSet<>(postingLists.get(0));
+        for (int i = 1; i < postingLists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postingLists.get(i));
+        }
+        return Optional.of(candidates);
+    }
+
+    private static Set<String> grams(String normalizedValue) {
+        requireNonNull(normalizedValue);
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= normalizedValue.length(); i++) {
+            grams.add(normalizedValue.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
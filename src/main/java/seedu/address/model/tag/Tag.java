@@ -5,6 +5,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Objects;
 
+import seedu.address.commons.util.InternPool;
+
 /**
  * Represents a Tag in the hall ledger.
  *
@@ -14,6 +16,8 @@ import java.util.Objects;
  *
  * <p>Gender tags are case-insensitive and are normalised to lowercase upon construction.
  *
+ * <p>Tags obtained through {@link #of(TagType, String)} are canonical: equal tags share one instance.
+ *
  * <p>Guarantees: immutable; tag content is validated against its {@link TagType} upon construction.
  */
 public class Tag {
@@ -23,6 +27,8 @@ public class Tag {
             + "\nMajor tags should be less than 100 characters long and may contain"
             + " alphabetic characters, ampersands (&) and commas (,).";
 
+    private static final InternPool<Tag> POOL = new InternPool<>();
+
     private final String tagContent;
     private final TagType tagType;
 
@@ -42,6 +48,16 @@ public class Tag {
         this.tagType = tagType;
     }
 
+    /**
+     * Returns the canonical {@code Tag} with the given type and content.
+     *
+     * @param tagType The type of the tag.
+     * @param tagContent valid tag content.
+     */
+    public static Tag of(TagType tagType, String tagContent) {
+        return POOL.intern(new Tag(tagType, tagContent));
+    }
+
     /**
      * Checks if the given string is valid content for the specified {@link TagType}.
      *
@@ -1,5 +1,6 @@
 package seedu.address.model.util;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -13,7 +14,8 @@ import seedu.address.model.demerit.DemeritRuleCatalogue;
 public class DemeritIncidentUtil {
     /**
      * Returns a demerit incident list containing the given tuples:
-     * (ruleIndex, offenceNumber, remark).
+     * (ruleIndex, offenceNumber, remark, recordedAt), applied under the built-in demerit rules.
+     * The remark and the time the incident was recorded, in ISO format, are optional.
      */
     public static List<DemeritIncident> getDemeritIncidentList(Object[]... incidents) {
         List<DemeritIncident> demeritIncidents = new ArrayList<>();
@@ -22,10 +24,15 @@ public class DemeritIncidentUtil {
             int offenceNumber = Integer.parseInt(tuple[1].toString());
             String remark = tuple.length > 2 ? tuple[2].toString() : "";
 
-            DemeritRule rule = DemeritRuleCatalogue.findByIndex(ruleIndex)
+            DemeritRule rule = DemeritRuleCatalogue.getBuiltInRules().findByIndex(ruleIndex)
                     .orElseThrow(() -> new IllegalArgumentException("Unknown demerit rule index: " + ruleIndex));
             int pointsApplied = rule.getPointsForOccurrence(offenceNumber);
-            demeritIncidents.add(new DemeritIncident(ruleIndex, rule.getTitle(), offenceNumber, pointsApplied, remark));
+            DemeritIncident incident = new DemeritIncident(rule, DemeritRuleCatalogue.BUILT_IN_VERSION, offenceNumber,
+                    pointsApplied, remark);
+            if (tuple.length > 3) {
+                incident = incident.withRecordedAt(LocalDateTime.parse(tuple[3].toString()));
+            }
+            demeritIncidents.add(incident);
         }
         return demeritIncidents;
     }
@@ -20,7 +20,7 @@ public class TagUtil {
         for (Object[] pair : tags) {
             TagType type = TagType.valueOf(pair[0].toString());
             String tagName = pair[1].toString();
-            tagMap.put(type, new Tag(type, tagName));
+            tagMap.put(type, Tag.of(type, tagName));
         }
         return tagMap;
     }
@@ -2,10 +2,12 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.PersonChange;
 
 /**
  * Represents a storage for {@link seedu.address.model.AddressBook}.
@@ -42,4 +44,18 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyAddressBook}, which is the address book last saved to or read from the storage
+     * with {@code changes} made to it in order. A storage that can record just the changes may do so; by default the
+     * whole address book is saved.
+     *
+     * @param addressBook cannot be null.
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<PersonChange> changes)
+            throws IOException {
+        saveAddressBook(addressBook);
+    }
+
 }
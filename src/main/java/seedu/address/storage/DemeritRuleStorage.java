@@ -0,0 +1,42 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.demerit.DemeritRuleSet;
+
+/**
+ * Represents a storage for the {@link DemeritRuleSet} in force.
+ */
+public interface DemeritRuleStorage {
+
+    /**
+     * Returns the file path of the rule file.
+     */
+    Path getDemeritRuleFilePath();
+
+    /**
+     * Returns the rules in the rule file.
+     * Returns {@code Optional.empty()} if the rule file is not found.
+     *
+     * @throws DataLoadingException if loading the rules from storage failed.
+     */
+    Optional<DemeritRuleSet> readDemeritRules() throws DataLoadingException;
+
+    /**
+     * Returns the rules in the rule file if the file has changed since it was last read.
+     * Returns {@code Optional.empty()} if the rule file is unchanged or not found.
+     *
+     * @throws DataLoadingException if the rule file changed but loading the rules from it failed.
+     */
+    Optional<DemeritRuleSet> readDemeritRulesIfChanged() throws DataLoadingException;
+
+    /**
+     * Saves the given {@link DemeritRuleSet} to the rule file.
+     * @param ruleSet cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveDemeritRules(DemeritRuleSet ruleSet) throws IOException;
+}
@@ -0,0 +1,356 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChange;
+import seedu.address.model.person.StudentId;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file and a journal of later changes.
+ *
+ * <p>Saving the changes made since the previous save to the data file appends them to the journal, one
+ * {@link JsonAdaptedJournalRecord} per line, and forces them to disk. The changes are reported by the model as
+ * {@link PersonChange}s, so a save costs as much as the changes rather than the ledger. Once the journal passes
+ * the compaction threshold, a background thread writes a fresh snapshot and empties the journal. Reading the data
+ * file reads the snapshot and replays the journal over it. A journal that ends in an incomplete record, such as one
+ * left by a crash during an append, is read up to that record.
+ *
+ * <p>Saving a whole address book to the data file writes a fresh snapshot. Saving to or reading from any other file
+ * uses a plain json file, as {@link JsonAddressBookStorage} does.
+ */
+public class JournalAddressBookStorage extends JsonAddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 1 << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path journalFilePath;
+    private final long compactionThresholdBytes;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "hall-ledger-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The residents as of the last save or read of the data file, or null if the data file is not known. */
+    private List<Person> savedPersons;
+    private Future<?> pendingCompaction;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD_BYTES);
+    }
+
+    /**
+     * Creates a storage whose journal is compacted once it is larger than {@code compactionThresholdBytes}.
+     */
+    public JournalAddressBookStorage(Path filePath, long compactionThresholdBytes) {
+        super(filePath);
+        checkArgument(compactionThresholdBytes > 0);
+        this.journalFilePath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+        this.compactionThresholdBytes = compactionThresholdBytes;
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return super.readAddressBook(filePath);
+        }
+
+        Optional<List<Person>> snapshotPersons = readPersons(filePath);
+        List<Person> persons;
+        if (!Files.exists(journalFilePath)) {
+            if (!snapshotPersons.isPresent()) {
+                return Optional.empty();
+            }
+            persons = snapshotPersons.get();
+        } else {
+            try {
+                persons = replayJournal(snapshotPersons.orElse(List.of()));
+            } catch (IOException | IllegalValueException e) {
+                logger.info("Journal " + journalFilePath + " could not be replayed: " + e.getMessage());
+                throw new DataLoadingException(e);
+            }
+        }
+
+        AddressBook addressBook = toAddressBook(persons, filePath);
+        savedPersons = List.copyOf(addressBook.getPersonList());
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code filePath}. Saving to the data file writes a fresh snapshot and empties the
+     * journal, as the changes since the last save are not known.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            super.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        writeSnapshot(persons);
+        savedPersons = persons;
+    }
+
+    /**
+     * Saves {@code addressBook} to the data file by appending one record per change to the journal.
+     * If the data file has not been saved or read, a fresh snapshot is written instead.
+     */
+    @Override
+    public synchronized void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<PersonChange> changes)
+            throws IOException {
+        requireAllNonNull(addressBook, changes);
+        if (savedPersons == null) {
+            // Nothing is known about the data file, so the journal cannot describe changes to it
+            saveAddressBook(addressBook);
+            return;
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>(changes.size());
+        for (PersonChange change : changes) {
+            records.add(JsonAdaptedJournalRecord.of(change));
+        }
+        long journalSize = append(records);
+        savedPersons = List.copyOf(addressBook.getPersonList());
+        logger.fine("Appended " + records.size() + " record(s) to journal " + journalFilePath);
+
+        if (journalSize > compactionThresholdBytes && (pendingCompaction == null || pendingCompaction.isDone())) {
+            pendingCompaction = compactor.submit(this::compactInBackground);
+        }
+    }
+
+    /**
+     * Writes the residents as of the last save to a fresh snapshot and empties the journal.
+     * Does nothing if the data file has not been saved or read.
+     *
+     * @throws IOException if there was any problem writing the snapshot or emptying the journal.
+     */
+    public synchronized void compact() throws IOException {
+        if (savedPersons == null) {
+            return;
+        }
+        writeSnapshot(savedPersons);
+        logger.info("Compacted journal " + journalFilePath + " into " + getAddressBookFilePath());
+    }
+
+    /**
+     * Waits until any compaction started by a save has finished.
+     */
+    void awaitCompaction() throws InterruptedException, ExecutionException {
+        Future<?> compaction;
+        synchronized (this) {
+            compaction = pendingCompaction;
+        }
+        if (compaction != null) {
+            compaction.get();
+        }
+    }
+
+    private void compactInBackground() {
+        try {
+            compact();
+        } catch (IOException e) {
+            // The journal still holds every change, so the next compaction can try again
+            logger.warning("Could not compact journal " + journalFilePath + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Folds the journal left next to the data file at {@code filePath}, if any, into a fresh snapshot and deletes
+     * it, so that the data file can be read and saved as a plain json file without losing the journalled changes.
+     *
+     * @return true if a journal was found and folded.
+     * @throws DataLoadingException if the data file and its journal could not be read.
+     * @throws IOException if there was any problem writing the snapshot or deleting the journal.
+     */
+    public static boolean compactLeftoverJournal(Path filePath) throws DataLoadingException, IOException {
+        requireNonNull(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        if (!Files.exists(storage.getJournalFilePath())) {
+            return false;
+        }
+        storage.readAddressBook();
+        storage.compact();
+        return true;
+    }
+
+    /**
+     * Replaces the snapshot with one of {@code persons}, then deletes the journal.
+     * The new snapshot is forced to disk before it atomically replaces the old one, and the rename is forced to
+     * disk before the journal is deleted. Replaying the old journal over the new snapshot leaves it unchanged, so the
+     * data file stays readable and complete if this is interrupted at any point.
+     */
+    private void writeSnapshot(List<Person> persons) throws IOException {
+        Path filePath = getAddressBookFilePath();
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        ReadOnlyAddressBook snapshot = () -> FXCollections.observableArrayList(persons);
+        ByteBuffer bytes = ByteBuffer.wrap(JsonUtil.toJsonString(new JsonSerializableAddressBook(snapshot))
+                .getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(temporaryFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(true);
+        }
+        Files.move(temporaryFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        forceDirectory(filePath.toAbsolutePath().getParent());
+        Files.deleteIfExists(journalFilePath);
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as a file just renamed into it, to disk.
+     * Platforms that cannot open a directory, such as Windows, commit renames without this, so it is skipped there.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            logger.fine("Could not force directory " + directory + " to disk: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Appends {@code records} to the journal and forces them to disk. If appending fails, the journal is cut back
+     * to its previous length so that it does not end in an incomplete record.
+     *
+     * @return the length of the journal in bytes after appending.
+     */
+    private long append(List<JsonAdaptedJournalRecord> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+
+        try (FileChannel channel = FileChannel.open(journalFilePath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            long previousSize = channel.size();
+            try {
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                channel.truncate(previousSize);
+                throw e;
+            }
+            return channel.size();
+        }
+    }
+
+    /**
+     * Returns the residents that result from applying the journal to {@code snapshotPersons}.
+     */
+    private List<Person> replayJournal(List<Person> snapshotPersons) throws IOException, IllegalValueException {
+        Map<StudentId, Person> persons = new LinkedHashMap<>();
+        for (Person person : snapshotPersons) {
+            persons.put(person.getStudentId(), person);
+        }
+
+        int recordCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                if (!line.isBlank()) {
+                    JsonAdaptedJournalRecord record;
+                    try {
+                        record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+                    } catch (IOException e) {
+                        if (nextLine != null) {
+                            throw e;
+                        }
+                        logger.warning("Ignoring incomplete last record of journal " + journalFilePath);
+                        break;
+                    }
+                    persons = apply(record, persons);
+                    recordCount++;
+                }
+                line = nextLine;
+            }
+        }
+        logger.info("Replayed " + recordCount + " record(s) from journal " + journalFilePath);
+        return new ArrayList<>(persons.values());
+    }
+
+    /**
+     * Applies {@code record} to {@code persons}, keyed by student ID in order, and returns the result.
+     */
+    private static Map<StudentId, Person> apply(JsonAdaptedJournalRecord record, Map<StudentId, Person> persons)
+            throws IllegalValueException {
+        String operation = String.valueOf(record.getOperation());
+        switch (operation) {
+        case JsonAdaptedJournalRecord.OPERATION_PUT:
+            Person person = record.getResident();
+            persons.put(person.getStudentId(), person);
+            return persons;
+        case JsonAdaptedJournalRecord.OPERATION_REMOVE:
+            persons.remove(record.getTargetStudentId());
+            return persons;
+        case JsonAdaptedJournalRecord.OPERATION_REPLACE:
+            StudentId target = record.getTargetStudentId();
+            Person replacement = record.getResident();
+            if (!persons.containsKey(target)) {
+                // Already applied, e.g. to a snapshot written just before the journal could be deleted
+                persons.put(replacement.getStudentId(), replacement);
+                return persons;
+            }
+            Map<StudentId, Person> replaced = new LinkedHashMap<>();
+            persons.forEach((studentId, existing) -> {
+                if (studentId.equals(target)) {
+                    replaced.put(replacement.getStudentId(), replacement);
+                } else {
+                    replaced.put(studentId, existing);
+                }
+            });
+            return replaced;
+        default:
+            throw new IllegalValueException(String.format(JsonAdaptedJournalRecord.INVALID_RECORD_MESSAGE, record));
+        }
+    }
+}
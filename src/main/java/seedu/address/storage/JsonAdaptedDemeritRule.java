@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.demerit.DemeritRule;
+
+/**
+ * Jackson-friendly version of {@link DemeritRule}.
+ */
+class JsonAdaptedDemeritRule {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Demerit rule's %s field is missing!";
+    public static final String MESSAGE_NEGATIVE_POINTS = "Demerit rule [%1$d] has negative points.";
+
+    private final Integer index;
+    private final String title;
+    private final Integer firstOffencePoints;
+    private final Integer secondOffencePoints;
+    private final Integer thirdAndSubsequentPoints;
+
+    /**
+     * Constructs a {@code JsonAdaptedDemeritRule} with the given rule details.
+     */
+    @JsonCreator
+    public JsonAdaptedDemeritRule(@JsonProperty("index") Integer index, @JsonProperty("title") String title,
+                                  @JsonProperty("firstOffencePoints") Integer firstOffencePoints,
+                                  @JsonProperty("secondOffencePoints") Integer secondOffencePoints,
+                                  @JsonProperty("thirdAndSubsequentPoints") Integer thirdAndSubsequentPoints) {
+        this.index = index;
+        this.title = title;
+        this.firstOffencePoints = firstOffencePoints;
+        this.secondOffencePoints = secondOffencePoints;
+        this.thirdAndSubsequentPoints = thirdAndSubsequentPoints;
+    }
+
+    /**
+     * Converts a given {@code DemeritRule} into this class for Jackson use.
+     */
+    public JsonAdaptedDemeritRule(DemeritRule source) {
+        index = source.getIndex();
+        title = source.getTitle();
+        firstOffencePoints = source.getFirstOffencePoints();
+        secondOffencePoints = source.getSecondOffencePoints();
+        thirdAndSubsequentPoints = source.getThirdAndSubsequentPoints();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted rule object into the model's {@code DemeritRule} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted rule.
+     */
+    public DemeritRule toModelType() throws IllegalValueException {
+        requirePresent(index, "index");
+        requirePresent(title, "title");
+        requirePresent(firstOffencePoints, "firstOffencePoints");
+        requirePresent(secondOffencePoints, "secondOffencePoints");
+        requirePresent(thirdAndSubsequentPoints, "thirdAndSubsequentPoints");
+        if (title.isBlank()) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "title"));
+        }
+        if (firstOffencePoints < 0 || secondOffencePoints < 0 || thirdAndSubsequentPoints < 0) {
+            throw new IllegalValueException(String.format(MESSAGE_NEGATIVE_POINTS, index));
+        }
+        return new DemeritRule(index, title, firstOffencePoints, secondOffencePoints, thirdAndSubsequentPoints);
+    }
+
+    private static void requirePresent(Object value, String fieldName) throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+    }
+}
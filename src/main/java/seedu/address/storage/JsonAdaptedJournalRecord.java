@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChange;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Jackson-friendly version of one change to the residents of a hall ledger, as recorded in its journal.
+ *
+ * <p>A {@code put} record adds a resident, or replaces the resident with the same student ID in place. A
+ * {@code replace} record replaces the resident with student ID {@code studentId} in place by a resident with
+ * another student ID. A {@code remove} record removes the resident with student ID {@code studentId}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String OPERATION_PUT = "put";
+    public static final String OPERATION_REPLACE = "replace";
+    public static final String OPERATION_REMOVE = "remove";
+    public static final String INVALID_RECORD_MESSAGE = "Journal record is not a valid put, replace or remove: %s";
+
+    private final String op;
+    private final String studentId;
+    private final JsonAdaptedPerson resident;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") String op, @JsonProperty("studentId") String studentId,
+                                    @JsonProperty("resident") JsonAdaptedPerson resident) {
+        this.op = op;
+        this.studentId = studentId;
+        this.resident = resident;
+    }
+
+    /**
+     * Returns the record that makes {@code change}. A resident whose student ID was edited is replaced in place, as
+     * the person list keeps an edited person at the same position.
+     */
+    public static JsonAdaptedJournalRecord of(PersonChange change) {
+        if (change.after() == null) {
+            return remove(change.before().getStudentId());
+        }
+        if (change.before() == null || change.before().isSamePerson(change.after())) {
+            return put(change.after());
+        }
+        return replace(change.before().getStudentId(), change.after());
+    }
+
+    /**
+     * Returns a record that adds {@code person}, or replaces the resident with the same student ID in place.
+     */
+    public static JsonAdaptedJournalRecord put(Person person) {
+        return new JsonAdaptedJournalRecord(OPERATION_PUT, null, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record that replaces the resident with student ID {@code target} in place by {@code person}.
+     */
+    public static JsonAdaptedJournalRecord replace(StudentId target, Person person) {
+        return new JsonAdaptedJournalRecord(OPERATION_REPLACE, target.value, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record that removes the resident with student ID {@code target}.
+     */
+    public static JsonAdaptedJournalRecord remove(StudentId target) {
+        return new JsonAdaptedJournalRecord(OPERATION_REMOVE, target.value, null);
+    }
+
+    public String getOperation() {
+        return op;
+    }
+
+    /**
+     * Returns the student ID of the resident this record replaces or removes.
+     *
+     * @throws IllegalValueException if the record has no valid student ID.
+     */
+    public StudentId getTargetStudentId() throws IllegalValueException {
+        if (studentId == null || !StudentId.isValidStudentId(studentId)) {
+            throw new IllegalValueException(String.format(INVALID_RECORD_MESSAGE, this));
+        }
+        return new StudentId(studentId);
+    }
+
+    /**
+     * Returns the resident this record adds.
+     *
+     * @throws IllegalValueException if the record has no resident, or the resident is invalid.
+     */
+    public Person getResident() throws IllegalValueException {
+        if (resident == null) {
+            throw new IllegalValueException(String.format(INVALID_RECORD_MESSAGE, this));
+        }
+        return resident.toModelType();
+    }
+
+    @Override
+    public String toString() {
+        return "{op=" + op + ", studentId=" + studentId + "}";
+    }
+}
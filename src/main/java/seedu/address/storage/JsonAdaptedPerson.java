@@ -1,15 +1,20 @@
 package seedu.address.storage;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.demerit.DemeritIncident;
+import seedu.address.model.demerit.DemeritRuleCatalogue;
+import seedu.address.model.demerit.DemeritRuleSet;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.EmergencyContact;
 import seedu.address.model.person.Name;
@@ -27,6 +32,8 @@ import seedu.address.model.tag.TagType;
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    public static final String INVALID_RECORDED_AT_MESSAGE_FORMAT =
+            "Demerit incident's recordedAt should be a date and time such as 2026-01-09T14:30:00, but was %s";
     public static final String DUPLICATE_TAG_TYPE_MESSAGE_FORMAT =
             "Duplicate tag type found in person data: %s";
 
@@ -39,9 +46,22 @@ class JsonAdaptedPerson {
     private final String remark;
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
     private final List<JsonAdaptedDemeritIncident> demeritIncidents = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String incidentKey;
+
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details, whose incidents are filed under
+     * their student ID.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String studentId, String roomNumber,
+                             String emergencyContact, String remark, List<JsonAdaptedTag> tags,
+                             List<JsonAdaptedDemeritIncident> demeritIncidents) {
+        this(name, phone, email, studentId, roomNumber, emergencyContact, remark, tags, demeritIncidents, null);
+    }
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * A null {@code incidentKey} files the incidents under the student ID.
      */
     @JsonCreator
     public JsonAdaptedPerson(@JsonProperty("name") String name,
@@ -53,7 +73,8 @@ class JsonAdaptedPerson {
                              @JsonProperty("remark") String remark,
                              @JsonProperty("tags") List<JsonAdaptedTag> tags,
                              @JsonProperty("demeritIncidents")
-                             List<JsonAdaptedDemeritIncident> demeritIncidents) {
+                             List<JsonAdaptedDemeritIncident> demeritIncidents,
+                             @JsonProperty("incidentKey") String incidentKey) {
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -67,6 +88,7 @@ class JsonAdaptedPerson {
         if (demeritIncidents != null) {
             this.demeritIncidents.addAll(demeritIncidents);
         }
+        this.incidentKey = incidentKey;
     }
 
     /**
@@ -86,6 +108,8 @@ class JsonAdaptedPerson {
         demeritIncidents.addAll(source.getDemeritIncidents().stream()
                 .map(JsonAdaptedDemeritIncident::new)
                 .collect(Collectors.toList()));
+        // Only written once the student ID has been edited, so most residents do not need it
+        incidentKey = source.getIncidentKey().equals(source.getStudentId()) ? null : source.getIncidentKey().value;
     }
 
     /**
@@ -162,44 +186,80 @@ class JsonAdaptedPerson {
             modelDemeritIncidents.add(jsonAdaptedDemeritIncident.toModelType());
         }
 
+        if (incidentKey != null && !StudentId.isValidStudentId(incidentKey)) {
+            throw new IllegalValueException(StudentId.MESSAGE_CONSTRAINTS);
+        }
+        final StudentId modelIncidentKey = incidentKey == null ? modelStudentId : new StudentId(incidentKey);
+
         return new Person(modelName, modelPhone, modelEmail, modelStudentId, modelRoomNumber,
-                modelEmergencyContact, modelRemark, modelTags, modelDemeritIncidents);
+                modelEmergencyContact, modelRemark, modelTags, modelDemeritIncidents, modelIncidentKey);
     }
 
     /**
      * Jackson-friendly version of {@link DemeritIncident}.
+     * Incidents are written in a compact layout that refers to the rule by index and catalogue version, and stores
+     * the rule title only when it cannot be resolved again from the built-in rules.
+     * The older verbose layout, which stores the full rule title on every incident and has no catalogue version, is
+     * still accepted, and read as applied under the built-in rules. So are incidents without a recorded time.
      */
     private static class JsonAdaptedDemeritIncident {
         private final int ruleIndex;
+        private final Integer catalogueVersion;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
         private final String ruleTitle;
         private final int offenceNumber;
         private final int pointsApplied;
         private final String remark;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private final String recordedAt;
 
         @JsonCreator
         public JsonAdaptedDemeritIncident(@JsonProperty("ruleIndex") int ruleIndex,
+                                          @JsonProperty("catalogueVersion") Integer catalogueVersion,
                                           @JsonProperty("ruleTitle") String ruleTitle,
                                           @JsonProperty("offenceNumber") int offenceNumber,
                                           @JsonProperty("pointsApplied") int pointsApplied,
-                                          @JsonProperty("remark") String remark) {
+                                          @JsonProperty("remark") String remark,
+                                          @JsonProperty("recordedAt") String recordedAt) {
             this.ruleIndex = ruleIndex;
+            this.catalogueVersion = catalogueVersion;
             this.ruleTitle = ruleTitle;
             this.offenceNumber = offenceNumber;
             this.pointsApplied = pointsApplied;
             this.remark = remark;
+            this.recordedAt = recordedAt;
         }
 
         JsonAdaptedDemeritIncident(DemeritIncident source) {
             this.ruleIndex = source.getRuleIndex();
-            this.ruleTitle = source.getRuleTitle();
+            this.catalogueVersion = source.getCatalogueVersion();
+            this.ruleTitle = source.getTitleForStorage().orElse(null);
             this.offenceNumber = source.getOffenceNumber();
             this.pointsApplied = source.getPointsApplied();
             this.remark = source.getRemark();
+            this.recordedAt = source.getRecordedAt().map(LocalDateTime::toString).orElse(null);
         }
 
-        DemeritIncident toModelType() {
-            return new DemeritIncident(ruleIndex, ruleTitle, offenceNumber, pointsApplied,
-                    remark == null ? "" : remark);
+        DemeritIncident toModelType() throws IllegalValueException {
+            if (ruleIndex < 1 || ruleIndex > DemeritRuleSet.MAX_RULE_INDEX) {
+                throw new IllegalValueException(DemeritRuleSet.MESSAGE_INVALID_INDEX);
+            }
+            String modelRemark = remark == null ? "" : remark;
+            int modelCatalogueVersion = catalogueVersion == null
+                    ? DemeritRuleCatalogue.BUILT_IN_VERSION
+                    : catalogueVersion;
+            DemeritIncident incident = ruleTitle == null
+                    ? new DemeritIncident(ruleIndex, modelCatalogueVersion, offenceNumber, pointsApplied, modelRemark)
+                    : new DemeritIncident(ruleIndex, modelCatalogueVersion, ruleTitle, offenceNumber, pointsApplied,
+                            modelRemark);
+            if (recordedAt == null) {
+                return incident;
+            }
+            try {
+                return incident.withRecordedAt(LocalDateTime.parse(recordedAt));
+            } catch (DateTimeParseException e) {
+                throw new IllegalValueException(String.format(INVALID_RECORDED_AT_MESSAGE_FORMAT, recordedAt));
+            }
         }
     }
 }
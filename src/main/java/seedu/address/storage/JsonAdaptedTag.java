@@ -68,7 +68,7 @@ class JsonAdaptedTag {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
 
-        return new Tag(modelTagType, tagContent);
+        return Tag.of(modelTagType, tagContent);
     }
 
 }
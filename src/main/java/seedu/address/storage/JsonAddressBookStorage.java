@@ -3,16 +3,25 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -20,6 +29,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+    private static final String PERSONS_FIELD = "persons";
 
     private Path filePath;
 
@@ -38,6 +48,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The file is streamed, and each resident is converted into a {@code Person} as soon as it is read.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,20 +56,83 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        Optional<List<Person>> persons = readPersons(filePath);
+        if (!persons.isPresent()) {
             return Optional.empty();
         }
+        return Optional.of(toAddressBook(persons.get(), filePath));
+    }
+
+    /**
+     * Returns the persons in the json file at {@code filePath}, in order, without building an address book of them.
+     * Returns {@code Optional.empty()} if the file is not found.
+     * The file is streamed, and each resident is converted into a {@code Person} as soon as it is read.
+     *
+     * @throws DataLoadingException if loading the persons failed.
+     */
+    protected Optional<List<Person>> readPersons(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(parsePersons(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
 
+    /**
+     * Returns an address book of {@code persons}, which were read from {@code filePath}.
+     *
+     * @throws DataLoadingException if the persons cannot form an address book together.
+     */
+    protected AddressBook toAddressBook(List<Person> persons, Path filePath) throws DataLoadingException {
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return JsonSerializableAddressBook.toAddressBook(persons);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Reads the persons of the address book object {@code parser} is positioned before, in the format written by
+     * {@link JsonSerializableAddressBook}. Other fields of the object are skipped.
+     */
+    private static List<Person> parsePersons(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a JSON object of persons");
+        }
+
+        List<Person> persons = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!PERSONS_FIELD.equals(fieldName)) {
+                parser.skipChildren();
+                continue;
+            }
+            if (valueToken != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array of persons");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                persons.add(parser.readValueAs(JsonAdaptedPerson.class).toModelType());
+            }
+            if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+                throw new JsonParseException(parser, "Expected each person to be a JSON object");
+            }
+        }
+        return persons;
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.demerit.DemeritRuleSet;
+
+/**
+ * A class to access the demerit rules stored as a json file on the hard disk.
+ *
+ * <p>The file's last modified time and size are remembered whenever it is read or written, so that
+ * {@link #readDemeritRulesIfChanged()} only parses the file again after it has been edited.
+ */
+public class JsonDemeritRuleStorage implements DemeritRuleStorage {
+
+    /** Name of the rule file, which is kept in the same folder as the data file. */
+    public static final String DEFAULT_FILE_NAME = "demeritrules.json";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonDemeritRuleStorage.class);
+
+    private final Path filePath;
+    /** Modification stamp of the rule file when it was last read or written, or null if it has not been. */
+    private FileStamp lastSeenStamp;
+
+    /**
+     * A snapshot of the attributes used to tell whether the rule file has changed.
+     */
+    private record FileStamp(FileTime lastModifiedTime, long size) {}
+
+    public JsonDemeritRuleStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getDemeritRuleFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<DemeritRuleSet> readDemeritRules() throws DataLoadingException {
+        // Stamped before reading, so an edit made while the file is read is picked up by the next check
+        lastSeenStamp = readStamp();
+        Optional<JsonSerializableDemeritRules> jsonRules = JsonUtil.readJsonFile(
+                filePath, JsonSerializableDemeritRules.class);
+        if (jsonRules.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(jsonRules.get().toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public Optional<DemeritRuleSet> readDemeritRulesIfChanged() throws DataLoadingException {
+        FileStamp stamp = readStamp();
+        if (stamp == null || Objects.equals(stamp, lastSeenStamp)) {
+            return Optional.empty();
+        }
+        return readDemeritRules();
+    }
+
+    @Override
+    public void saveDemeritRules(DemeritRuleSet ruleSet) throws IOException {
+        requireNonNull(ruleSet);
+
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableDemeritRules(ruleSet), filePath);
+        lastSeenStamp = readStamp();
+    }
+
+    /**
+     * Returns the current modification stamp of the rule file, or null if it does not exist.
+     */
+    private FileStamp readStamp() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            return new FileStamp(attributes.lastModifiedTime(), attributes.size());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -12,6 +13,9 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.RoomNumber;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.UniquePersonList;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -19,7 +23,12 @@ import seedu.address.model.person.Person;
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
-    public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_PERSON =
+            "Persons list contains duplicate person(s) with student ID(s): %1$s";
+    public static final String MESSAGE_SHARED_ROOM = "Persons list contains room(s) occupied by more than one "
+            + "resident: %1$s";
+    public static final String MESSAGE_SHARED_INCIDENT_KEY = "Persons list files the demerit incidents of more than "
+            + "one resident under student ID(s): %1$s";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -43,17 +52,55 @@ class JsonSerializableAddressBook {
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated. Every duplicate student ID,
+     *     shared room and shared incident key is listed in the message.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        return toAddressBook(toModelPersons());
+    }
+
+    /**
+     * Converts the persons of this address book into the model's {@code Person} objects, in order, without checking
+     * that they can form an address book together.
+     *
+     * @throws IllegalValueException if any person violates the data constraints.
+     */
+    public List<Person> toModelPersons() throws IllegalValueException {
+        List<Person> modelPersons = new ArrayList<>(persons.size());
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            modelPersons.add(jsonAdaptedPerson.toModelType());
         }
+        return modelPersons;
+    }
+
+    /**
+     * Returns an address book of {@code modelPersons}.
+     * Student ID, room and incident key uniqueness are checked in a single pass before the address book is populated
+     * in one batch.
+     *
+     * @throws IllegalValueException if there were any data constraints violated. Every duplicate student ID,
+     *     shared room and shared incident key is listed in the message.
+     */
+    static AddressBook toAddressBook(List<Person> modelPersons) throws IllegalValueException {
+        List<String> violations = new ArrayList<>();
+        Set<StudentId> duplicateStudentIds = UniquePersonList.findDuplicateStudentIds(modelPersons);
+        if (!duplicateStudentIds.isEmpty()) {
+            violations.add(String.format(MESSAGE_DUPLICATE_PERSON, duplicateStudentIds));
+        }
+        Set<RoomNumber> sharedRooms = UniquePersonList.findSharedRooms(modelPersons);
+        if (!sharedRooms.isEmpty()) {
+            violations.add(String.format(MESSAGE_SHARED_ROOM, sharedRooms));
+        }
+        Set<StudentId> sharedIncidentKeys = UniquePersonList.findSharedIncidentKeys(modelPersons);
+        if (!sharedIncidentKeys.isEmpty()) {
+            violations.add(String.format(MESSAGE_SHARED_INCIDENT_KEY, sharedIncidentKeys));
+        }
+        if (!violations.isEmpty()) {
+            throw new IllegalValueException(String.join("\n", violations));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(modelPersons);
         return addressBook;
     }
 
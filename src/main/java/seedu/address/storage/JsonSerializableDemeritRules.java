@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.demerit.DemeritRule;
+import seedu.address.model.demerit.DemeritRuleSet;
+
+/**
+ * An immutable {@link DemeritRuleSet} that is serializable to JSON format.
+ */
+@JsonRootName(value = "demeritrules")
+class JsonSerializableDemeritRules {
+
+    public static final String MESSAGE_MISSING_VERSION = "Demerit rule file's version field is missing!";
+
+    private final Integer version;
+    private final List<JsonAdaptedDemeritRule> rules = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableDemeritRules} with the given version and rules.
+     */
+    @JsonCreator
+    public JsonSerializableDemeritRules(@JsonProperty("version") Integer version,
+                                        @JsonProperty("rules") List<JsonAdaptedDemeritRule> rules) {
+        this.version = version;
+        if (rules != null) {
+            this.rules.addAll(rules);
+        }
+    }
+
+    /**
+     * Converts a given {@code DemeritRuleSet} into this class for Jackson use.
+     */
+    public JsonSerializableDemeritRules(DemeritRuleSet source) {
+        version = source.getVersion();
+        source.getRules().forEach(rule -> rules.add(new JsonAdaptedDemeritRule(rule)));
+    }
+
+    /**
+     * Converts these rules into the model's {@code DemeritRuleSet} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public DemeritRuleSet toModelType() throws IllegalValueException {
+        if (version == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_VERSION);
+        }
+        List<DemeritRule> modelRules = new ArrayList<>(rules.size());
+        for (JsonAdaptedDemeritRule rule : rules) {
+            modelRules.add(rule.toModelType());
+        }
+        try {
+            return new DemeritRuleSet(version, modelRules);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+}
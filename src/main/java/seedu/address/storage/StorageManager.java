@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -10,6 +11,8 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.demerit.DemeritRuleSet;
+import seedu.address.model.person.PersonChange;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -19,13 +22,26 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private DemeritRuleStorage demeritRuleStorage;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Demerit rules are kept in a {@link JsonDemeritRuleStorage#DEFAULT_FILE_NAME} file next to the data file.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, new JsonDemeritRuleStorage(addressBookStorage
+                .getAddressBookFilePath().resolveSibling(JsonDemeritRuleStorage.DEFAULT_FILE_NAME)));
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage}, {@code UserPrefStorage} and
+     * {@code DemeritRuleStorage}.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          DemeritRuleStorage demeritRuleStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.demeritRuleStorage = demeritRuleStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -75,4 +91,35 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<PersonChange> changes)
+            throws IOException {
+        logger.fine("Attempting to write " + changes.size() + " change(s) to data file: " + getAddressBookFilePath());
+        addressBookStorage.saveAddressBookChanges(addressBook, changes);
+    }
+
+    // ================ DemeritRule methods ==============================
+
+    @Override
+    public Path getDemeritRuleFilePath() {
+        return demeritRuleStorage.getDemeritRuleFilePath();
+    }
+
+    @Override
+    public Optional<DemeritRuleSet> readDemeritRules() throws DataLoadingException {
+        logger.fine("Attempting to read demerit rules from file: " + getDemeritRuleFilePath());
+        return demeritRuleStorage.readDemeritRules();
+    }
+
+    @Override
+    public Optional<DemeritRuleSet> readDemeritRulesIfChanged() throws DataLoadingException {
+        return demeritRuleStorage.readDemeritRulesIfChanged();
+    }
+
+    @Override
+    public void saveDemeritRules(DemeritRuleSet ruleSet) throws IOException {
+        logger.fine("Attempting to write demerit rules to file: " + getDemeritRuleFilePath());
+        demeritRuleStorage.saveDemeritRules(ruleSet);
+    }
+
 }
@@ -54,7 +54,7 @@ public class TabSection extends UiPart<Region> {
         DashboardTab dashboardTab = new DashboardTab(logic);
         dashboardTabPlaceholder.getChildren().add(dashboardTab.getRoot());
 
-        DemeritListTab demeritListTab = new DemeritListTab();
+        DemeritListTab demeritListTab = new DemeritListTab(logic.getDemeritRules());
         demeritListTabPlaceholder.getChildren().add(demeritListTab.getRoot());
     }
 }
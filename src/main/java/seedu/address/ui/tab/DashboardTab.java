@@ -1,11 +1,19 @@
 package seedu.address.ui.tab;
 
+import java.util.List;
+
 import javafx.collections.ListChangeListener;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
 import seedu.address.logic.Logic;
-import seedu.address.model.person.Person;
+import seedu.address.model.demerit.DemeritRuleSet;
+import seedu.address.model.demerit.DemeritSummary;
+import seedu.address.model.demerit.RuleStatistics;
+import seedu.address.model.search.TagValueCounts;
+import seedu.address.model.tag.TagType;
 import seedu.address.ui.UiPart;
 
 /**
@@ -16,6 +24,8 @@ public class DashboardTab extends UiPart<Region> {
     private static final String MALE_PRONOUN = "he/him";
     private static final String FEMALE_PRONOUN = "she/her";
     private static final String OTHER_PRONOUN = "they/them";
+    private static final int TOP_DEMERIT_RULE_COUNT = 5;
+    private static final String NO_DEMERIT_INCIDENTS = "No incidents recorded";
     private final Logic logic;
 
     @FXML private Label totalCountLabel;
@@ -33,6 +43,10 @@ public class DashboardTab extends UiPart<Region> {
     @FXML private Label y6CountLabel;
     @FXML private Label yMissingCountLabel;
 
+    @FXML private Label demeritIncidentCountLabel;
+    @FXML private Label demeritPointsIssuedLabel;
+    @FXML private VBox topDemeritRulesBox;
+
     private Label[] yearLabels = {y1CountLabel, y2CountLabel, y3CountLabel,
         y4CountLabel, y5CountLabel, y6CountLabel};
     /**
@@ -48,44 +62,51 @@ public class DashboardTab extends UiPart<Region> {
     }
 
     /**
-     * Refreshes the statistics displayed on the dashboard
+     * Refreshes the statistics displayed on the dashboard from the model's closed-set tag indexes.
      */
     private void refresh() {
-        var list = logic.getFilteredPersonList();
-        long totalCount = list.size();
+        long totalCount = logic.getFilteredPersonList().size();
 
         // ---Gender groups via tags---
-        long male = countByTag(list, MALE_PRONOUN);
-        long female = countByTag(list, FEMALE_PRONOUN);
-        long other = countByTag(list, OTHER_PRONOUN);
-        long unknown = totalCount - male - female - other;
-
+        TagValueCounts genderCounts = logic.countFilteredTagValues(TagType.GENDER);
         totalCountLabel.setText(String.valueOf(totalCount));
-        maleCountLabel.setText(String.valueOf(male));
-        femaleCountLabel.setText(String.valueOf(female));
-        otherCountLabel.setText(String.valueOf(other));
-        unknownCountLabel.setText(String.valueOf(unknown));
+        maleCountLabel.setText(String.valueOf(genderCounts.getCount(MALE_PRONOUN)));
+        femaleCountLabel.setText(String.valueOf(genderCounts.getCount(FEMALE_PRONOUN)));
+        otherCountLabel.setText(String.valueOf(genderCounts.getCount(OTHER_PRONOUN)));
+        unknownCountLabel.setText(String.valueOf(genderCounts.missingCount()));
 
         // --- Year groups via tags ---
-        long sum = 0;
+        TagValueCounts yearCounts = logic.countFilteredTagValues(TagType.YEAR);
         for (int i = 0; i < yearLabels.length; i++) {
-            long count = countByTag(list, String.valueOf(i + 1));
-            sum += count;
-            yearLabels[i].setText(String.valueOf(count));
+            yearLabels[i].setText(String.valueOf(yearCounts.getCount(String.valueOf(i + 1))));
         }
-        yMissingCountLabel.setText(String.valueOf(totalCount - sum));
+        yMissingCountLabel.setText(String.valueOf(yearCounts.missingCount()));
+
+        refreshDemeritRules();
     }
 
     /**
-     * Counts the number of students in the list that have a tag matching the given tag name (case-insensitive).
-     * @param list
-     * @param tagName
-     * @return
+     * Refreshes the hall-wide demerit totals from the model's per-rule analytics, which cover every resident
+     * regardless of the current filter.
      */
-    static long countByTag(javafx.collections.ObservableList<? extends Person> list, String tagName) {
-        return list.stream()
-                .filter(p -> p.getTags().values().stream()
-                        .anyMatch(t -> t.getTagContent().equalsIgnoreCase(tagName)))
-                .count();
+    private void refreshDemeritRules() {
+        DemeritSummary summary = logic.getDemeritSummary();
+        demeritIncidentCountLabel.setText(String.valueOf(summary.totalIncidents()));
+        demeritPointsIssuedLabel.setText(String.valueOf(summary.totalPointsIssued()));
+
+        DemeritRuleSet ruleSet = logic.getDemeritRules();
+        List<RuleStatistics> rules = summary.getRulesByMostIncidents();
+        topDemeritRulesBox.getChildren().clear();
+        if (rules.isEmpty()) {
+            topDemeritRulesBox.getChildren().add(new Label(NO_DEMERIT_INCIDENTS));
+            return;
+        }
+        for (RuleStatistics rule : rules.subList(0, Math.min(TOP_DEMERIT_RULE_COUNT, rules.size()))) {
+            Label ruleLabel = new Label(DemeritSummary.formatEntry(rule, ruleSet));
+            ruleLabel.setWrapText(true);
+            HBox row = new HBox(8, ruleLabel);
+            row.getStyleClass().add("label-year");
+            topDemeritRulesBox.getChildren().add(row);
+        }
     }
 }
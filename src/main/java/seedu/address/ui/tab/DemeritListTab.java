@@ -10,7 +10,7 @@ import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.layout.Region;
 import javafx.scene.text.Text;
-import seedu.address.model.demerit.DemeritRuleCatalogue;
+import seedu.address.model.demerit.DemeritRuleSet;
 import seedu.address.ui.UiPart;
 
 /**
@@ -39,12 +39,12 @@ public class DemeritListTab extends UiPart<Region> {
     private TableColumn<DemeritRecordRow, String> thirdColumn;
 
     /**
-     * Creates a {@code DemeritRecords} component bound to the selected person.
+     * Creates a {@code DemeritRecords} component listing {@code rules}.
      */
-    public DemeritListTab() {
+    public DemeritListTab(DemeritRuleSet rules) {
         super(FXML);
         initialiseColumns();
-        populateTable();
+        populateTable(rules);
     }
 
     /**
@@ -128,8 +128,8 @@ public class DemeritListTab extends UiPart<Region> {
         };
     }
 
-    private void populateTable() {
-        List<DemeritRecordRow> rows = DemeritRuleCatalogue.getAllRules().stream()
+    private void populateTable(DemeritRuleSet rules) {
+        List<DemeritRecordRow> rows = rules.getRules().stream()
                 .map(rule -> new DemeritRecordRow(
                         String.valueOf(rule.getIndex()),
                         rule.getTitle(),
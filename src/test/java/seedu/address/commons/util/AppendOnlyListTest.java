@@ -0,0 +1,78 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class AppendOnlyListTest {
+
+    @Test
+    public void copyOf_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> AppendOnlyList.copyOf(null));
+    }
+
+    @Test
+    public void copyOf_appendOnlyList_returnsSameInstance() {
+        AppendOnlyList<String> list = AppendOnlyList.copyOf(List.of("a", "b"));
+        assertSame(list, AppendOnlyList.copyOf(list));
+        assertTrue(AppendOnlyList.copyOf(List.of()).isEmpty());
+    }
+
+    @Test
+    public void append_leavesOriginalUnchanged() {
+        AppendOnlyList<String> original = AppendOnlyList.copyOf(List.of("a", "b"));
+        AppendOnlyList<String> appended = original.append("c");
+
+        assertEquals(List.of("a", "b"), original);
+        assertEquals(List.of("a", "b", "c"), appended);
+    }
+
+    @Test
+    public void append_branchingVersions_doNotInterfere() {
+        AppendOnlyList<String> base = AppendOnlyList.<String>empty().append("a");
+        AppendOnlyList<String> left = base.append("left");
+        AppendOnlyList<String> right = base.append("right");
+
+        assertEquals(List.of("a"), base);
+        assertEquals(List.of("a", "left"), left);
+        assertEquals(List.of("a", "right"), right);
+        assertEquals(List.of("a", "left", "more"), left.append("more"));
+        assertEquals(List.of("a", "right", "more"), right.append("more"));
+    }
+
+    @Test
+    public void append_manyElements_matchesArrayList() {
+        AppendOnlyList<Integer> list = AppendOnlyList.empty();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list = list.append(i);
+            expected.add(i);
+        }
+        assertEquals(expected, list);
+        assertEquals(expected.hashCode(), list.hashCode());
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        AppendOnlyList<String> list = AppendOnlyList.copyOf(List.of("a"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+    }
+
+    @Test
+    public void extendsByAppending() {
+        AppendOnlyList<String> before = AppendOnlyList.copyOf(List.of("a", "b"));
+        assertTrue(AppendOnlyList.extendsByAppending(before.append("c"), before));
+        assertTrue(AppendOnlyList.extendsByAppending(before, AppendOnlyList.empty()));
+        assertFalse(AppendOnlyList.extendsByAppending(List.of("a"), before));
+        assertFalse(AppendOnlyList.extendsByAppending(List.of("a", new String("b"), "c"), before));
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternPoolTest {
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new InternPool<String>().intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        InternPool<String> pool = new InternPool<>();
+        String first = new String("quiet hours");
+        String second = new String("quiet hours");
+
+        assertSame(first, pool.intern(first));
+        assertSame(first, pool.intern(second));
+        assertEquals(1, pool.size());
+
+        pool.intern("noise");
+        assertEquals(2, pool.size());
+    }
+}
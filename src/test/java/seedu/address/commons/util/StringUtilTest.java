@@ -97,6 +97,16 @@ public class StringUtilTest {
         Assertions.assertThrows(IllegalArgumentException.class, () -> StringUtil.fuzzyMatchesIgnoresCase("abc", ""));
     }
 
+    @Test
+    public void fuzzyMatchesNormalized() {
+        assertTrue(StringUtil.fuzzyMatchesNormalized("bcd", "abcde"));
+        assertTrue(StringUtil.fuzzyMatchesNormalized("kitten", "sitten"));
+        assertFalse(StringUtil.fuzzyMatchesNormalized("abc", "acd"));
+
+        // inputs are not normalized again
+        assertFalse(StringUtil.fuzzyMatchesNormalized("ABC", "abc"));
+    }
+
     @Test
     public void fuzzyMatchesIgnoresCase_exactMatches_returnsTrue() {
         // Exact match
@@ -0,0 +1,242 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.SaveDurability;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChange;
+import seedu.address.model.util.PersonBuilder;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class AddressBookSaverTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
+
+    private final RecordingStorage storage = new RecordingStorage();
+
+    @Test
+    public void submit_synchronous_writtenBeforeReturning() throws Exception {
+        AddressBookSaver saver = new AddressBookSaver(storage, SaveDurability.SYNCHRONOUS, 0);
+
+        saver.submit(addressBookOf(ALICE), 1);
+
+        assertEquals(List.of(List.of(ALICE)), storage.getSavedPersonLists());
+    }
+
+    @Test
+    public void submit_synchronousWriteFails_throwsIoException() {
+        storage.failWith(DUMMY_IO_EXCEPTION);
+        AddressBookSaver saver = new AddressBookSaver(storage, SaveDurability.SYNCHRONOUS, 0);
+
+        assertThrows(IOException.class, () -> saver.submit(addressBookOf(ALICE), 1));
+    }
+
+    @Test
+    public void submit_burstWithinGroupCommitWindow_writtenOnce() throws Exception {
+        AddressBookSaver saver = new AddressBookSaver(storage, SaveDurability.GROUP_COMMIT, 60_000);
+        AddressBook addressBook = addressBookOf(ALICE);
+
+        saver.submit(addressBook, addressBook.getVersion());
+        addressBook.addPerson(BENSON);
+        saver.submit(addressBook, addressBook.getVersion());
+        saver.flush();
+
+        assertEquals(List.of(List.of(ALICE, BENSON)), storage.getSavedPersonLists());
+    }
+
+    @Test
+    public void submit_laterChanges_notInSnapshot() throws Exception {
+        AddressBookSaver saver = new AddressBookSaver(storage, SaveDurability.ON_IDLE, 60_000);
+        AddressBook addressBook = addressBookOf(ALICE);
+
+        saver.submit(addressBook, addressBook.getVersion());
+        addressBook.addPerson(BENSON);
+        saver.close();
+
+        assertEquals(List.of(List.of(ALICE)), storage.getSavedPersonLists());
+    }
+
+    @Test
+    public void submit_backgroundWriteFails_errorHandledAndRetriedOnFlush() throws Exception {
+        storage.failWith(DUMMY_IO_EXCEPTION);
+        AddressBookSaver saver = new AddressBookSaver(storage, SaveDurability.GROUP_COMMIT, 0);
+        CompletableFuture<IOException> handledException = new CompletableFuture<>();
+        saver.setErrorHandler(handledException::complete);
+
+        saver.submit(addressBookOf(ALICE), 1);
+
+        assertSame(DUMMY_IO_EXCEPTION, handledException.get(5, TimeUnit.SECONDS));
+        storage.failWith(null);
+        saver.flush();
+        assertEquals(List.of(List.of(ALICE)), storage.getSavedPersonLists());
+    }
+
+    @Test
+    public void submit_trackedChanges_savedWithSnapshot() throws Exception {
+        AddressBookSaver saver = new AddressBookSaver(storage, SaveDurability.GROUP_COMMIT, 60_000);
+        AddressBook addressBook = addressBookOf(ALICE);
+        saver.trackChanges(addressBook.getPersonList());
+        Person editedAlice = new PersonBuilder(ALICE).withRemark("Moved in early").build();
+
+        addressBook.addPerson(BENSON);
+        saver.submit(addressBook, addressBook.getVersion());
+        addressBook.setPerson(ALICE, editedAlice);
+        saver.submit(addressBook, addressBook.getVersion());
+        saver.flush();
+
+        assertEquals(List.of(List.of(PersonChange.added(BENSON), new PersonChange(ALICE, editedAlice))),
+                storage.getSavedChangeLists());
+        assertEquals(List.of(List.of(editedAlice, BENSON)), storage.getSavedPersonLists());
+    }
+
+    @Test
+    public void submit_synchronousWriteFails_changesSavedWithNextSnapshot() throws Exception {
+        storage.failWith(DUMMY_IO_EXCEPTION);
+        AddressBookSaver saver = new AddressBookSaver(storage, SaveDurability.SYNCHRONOUS, 0);
+        AddressBook addressBook = addressBookOf(ALICE);
+        saver.trackChanges(addressBook.getPersonList());
+
+        addressBook.addPerson(BENSON);
+        assertThrows(IOException.class, () -> saver.submit(addressBook, addressBook.getVersion()));
+        storage.failWith(null);
+        addressBook.addPerson(CARL);
+        saver.submit(addressBook, addressBook.getVersion());
+
+        assertEquals(List.of(List.of(PersonChange.added(BENSON), PersonChange.added(CARL))),
+                storage.getSavedChangeLists());
+    }
+
+    @Test
+    public void submit_personsReplacedAtOnce_savedWithoutChanges() throws Exception {
+        AddressBookSaver saver = new AddressBookSaver(storage, SaveDurability.SYNCHRONOUS, 0);
+        AddressBook addressBook = addressBookOf(ALICE, BENSON);
+        saver.trackChanges(addressBook.getPersonList());
+
+        addressBook.setPersons(List.of(CARL));
+        saver.submit(addressBook, addressBook.getVersion());
+
+        assertEquals(List.of(), storage.getSavedChangeLists());
+        assertEquals(List.of(List.of(CARL)), storage.getSavedPersonLists());
+    }
+
+    @Test
+    public void submit_versionAlreadySaved_skipped() throws Exception {
+        AddressBookSaver saver = new AddressBookSaver(storage, SaveDurability.SYNCHRONOUS, 0);
+        AddressBook addressBook = addressBookOf(ALICE);
+
+        saver.submit(addressBook, addressBook.getVersion());
+        saver.submit(addressBook, addressBook.getVersion());
+        addressBook.addPerson(BENSON);
+        saver.submit(addressBook, addressBook.getVersion());
+
+        assertEquals(List.of(List.of(ALICE), List.of(ALICE, BENSON)), storage.getSavedPersonLists());
+    }
+
+    @Test
+    public void submit_versionMarkedSaved_skipped() throws Exception {
+        AddressBookSaver saver = new AddressBookSaver(storage, SaveDurability.SYNCHRONOUS, 0);
+        AddressBook addressBook = addressBookOf(ALICE);
+        saver.markSaved(addressBook.getVersion());
+
+        saver.submit(addressBook, addressBook.getVersion());
+        addressBook.addPerson(BENSON);
+        saver.submit(addressBook, addressBook.getVersion());
+
+        assertEquals(List.of(List.of(ALICE, BENSON)), storage.getSavedPersonLists());
+    }
+
+    @Test
+    public void submit_sameVersionAfterFailedWrite_retried() throws Exception {
+        storage.failWith(DUMMY_IO_EXCEPTION);
+        AddressBookSaver saver = new AddressBookSaver(storage, SaveDurability.SYNCHRONOUS, 0);
+        AddressBook addressBook = addressBookOf(ALICE);
+        assertThrows(IOException.class, () -> saver.submit(addressBook, addressBook.getVersion()));
+
+        storage.failWith(null);
+        saver.submit(addressBook, addressBook.getVersion());
+
+        assertEquals(List.of(List.of(ALICE)), storage.getSavedPersonLists());
+    }
+
+    @Test
+    public void submit_sameVersionAfterFailedBackgroundWrite_retried() throws Exception {
+        storage.failWith(DUMMY_IO_EXCEPTION);
+        AddressBookSaver saver = new AddressBookSaver(storage, SaveDurability.GROUP_COMMIT, 0);
+        CompletableFuture<IOException> handledException = new CompletableFuture<>();
+        saver.setErrorHandler(handledException::complete);
+        AddressBook addressBook = addressBookOf(ALICE);
+        saver.submit(addressBook, addressBook.getVersion());
+        handledException.get(5, TimeUnit.SECONDS);
+
+        storage.failWith(null);
+        saver.submit(addressBook, addressBook.getVersion());
+        saver.flush();
+
+        assertEquals(List.of(List.of(ALICE)), storage.getSavedPersonLists());
+    }
+
+    private static AddressBook addressBookOf(Person... persons) {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : persons) {
+            addressBook.addPerson(person);
+        }
+        return addressBook;
+    }
+
+    /**
+     * A storage that records the persons of each address book written to it instead of writing a file.
+     */
+    private static class RecordingStorage extends JsonAddressBookStorage {
+        private final List<List<Person>> savedPersonLists = new ArrayList<>();
+        private final List<List<PersonChange>> savedChangeLists = new ArrayList<>();
+        private IOException failure;
+
+        RecordingStorage() {
+            super(Path.of("unused.json"));
+        }
+
+        synchronized void failWith(IOException failure) {
+            this.failure = failure;
+        }
+
+        synchronized List<List<Person>> getSavedPersonLists() {
+            return new ArrayList<>(savedPersonLists);
+        }
+
+        synchronized List<List<PersonChange>> getSavedChangeLists() {
+            return new ArrayList<>(savedChangeLists);
+        }
+
+        @Override
+        public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            savedPersonLists.add(List.copyOf(addressBook.getPersonList()));
+        }
+
+        @Override
+        public synchronized void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<PersonChange> changes)
+                throws IOException {
+            saveAddressBook(addressBook);
+            savedChangeLists.add(List.copyOf(changes));
+        }
+    }
+}
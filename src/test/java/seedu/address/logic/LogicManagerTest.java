@@ -18,16 +18,23 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.SaveDurability;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DemeritListCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -36,9 +43,13 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.demerit.DemeritRule;
+import seedu.address.model.demerit.DemeritRuleCatalogue;
+import seedu.address.model.demerit.DemeritRuleSet;
 import seedu.address.model.person.Person;
 import seedu.address.model.util.PersonBuilder;
 import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonDemeritRuleStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
 
@@ -63,6 +74,12 @@ public class LogicManagerTest {
         logic = new LogicManager(model, storage);
     }
 
+    @AfterEach
+    public void tearDown() throws Exception {
+        // Finishes background saves before the temporary folder is deleted
+        logic.close();
+    }
+
     @Test
     public void execute_invalidCommandFormat_throwsParseException() {
         String invalidCommand = "uicfhmowqewca";
@@ -81,6 +98,17 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_ruleFileEdited_editedRulesInForce() throws Exception {
+        DemeritRuleSet revisedRules = new DemeritRuleSet(DemeritRuleCatalogue.BUILT_IN_VERSION + 1,
+                List.of(new DemeritRule(1, "Noise during quiet hours", 3, 6, 9)));
+        new JsonDemeritRuleStorage(temporaryFolder.resolve(JsonDemeritRuleStorage.DEFAULT_FILE_NAME))
+                .saveDemeritRules(revisedRules);
+
+        assertCommandSuccess(DemeritListCommand.COMMAND_WORD, revisedRules.format(), model);
+        assertEquals(revisedRules, model.getDemeritRuleCatalogue().getRules());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -93,6 +121,92 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_backgroundSaveFails_errorReportedToHandler() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("x.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        UserPrefs groupCommitPrefs = new UserPrefs();
+        groupCommitPrefs.setSaveDurability(SaveDurability.GROUP_COMMIT);
+        groupCommitPrefs.setSaveDelayMillis(0);
+        model.setUserPrefs(groupCommitPrefs);
+        logic = new LogicManager(model, storage);
+        CompletableFuture<String> reportedMessage = new CompletableFuture<>();
+        logic.setSaveErrorHandler(reportedMessage::complete);
+        model.addPerson(ALICE);
+
+        assertEquals(ListCommand.MESSAGE_SUCCESS, logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+
+        assertEquals(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()),
+                reportedMessage.get(5, TimeUnit.SECONDS));
+        assertThrows(CommandException.class, () -> logic.close());
+    }
+
+    @Test
+    public void close_pendingChanges_saved() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("hall-ledger.json");
+        UserPrefs onIdlePrefs = new UserPrefs();
+        onIdlePrefs.setSaveDurability(SaveDurability.ON_IDLE);
+        onIdlePrefs.setSaveDelayMillis(60_000);
+        model.setUserPrefs(onIdlePrefs);
+        logic = new LogicManager(model, new StorageManager(new JsonAddressBookStorage(addressBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        model.addPerson(ALICE);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.close();
+
+        assertEquals(List.of(ALICE), new JsonAddressBookStorage(addressBookPath).readAddressBook()
+                .orElseThrow().getPersonList());
+    }
+
+    @Test
+    public void execute_readOnlyCommandAfterSave_storageNotTouched() throws Exception {
+        List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("x.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                savedAddressBooks.add(addressBook);
+            }
+        };
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(DemeritListCommand.COMMAND_WORD);
+        assertEquals(1, savedAddressBooks.size());
+
+        model.addPerson(ALICE);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, savedAddressBooks.size());
+    }
+
+    @Test
+    public void execute_readOnlyCommandAfterLoad_storageNotTouched() throws Exception {
+        List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("x.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                savedAddressBooks.add(addressBook);
+            }
+        };
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), true);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, savedAddressBooks.size());
+
+        model.addPerson(ALICE);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, savedAddressBooks.size());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -8,11 +8,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.Messages;
+import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
 import seedu.address.model.util.PersonBuilder;
+import seedu.address.testutil.EditPersonDescriptorBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code AddCommand}.
@@ -45,4 +47,15 @@ public class AddCommandIntegrationTest {
                 AddCommand.MESSAGE_DUPLICATE_PERSON);
     }
 
+    @Test
+    public void execute_studentIdStillFilingEditedResidentsIncidents_throwsCommandException() throws Exception {
+        Person personInList = model.getAddressBook().getPersonList().get(0);
+        new DemeritCommand(personInList.getStudentId(), 18, "").execute(model);
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withStudentId("A7654321B").build();
+        new EditCommand(personInList.getStudentId(), descriptor).execute(model);
+
+        Person newcomer = new PersonBuilder().withStudentId(personInList.getStudentId().value).build();
+        assertCommandFailure(new AddCommand(newcomer), model, AddCommand.MESSAGE_INCIDENT_KEY_IN_USE);
+    }
+
 }
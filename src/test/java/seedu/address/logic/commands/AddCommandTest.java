@@ -20,14 +20,22 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.FilterCacheStatistics;
 import seedu.address.model.FilterDetails;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyFilterDetails;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.demerit.DemeritRuleCatalogue;
+import seedu.address.model.demerit.DemeritSummary;
+import seedu.address.model.demerit.IncidentQuery;
+import seedu.address.model.demerit.IncidentRecord;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.RoomNumber;
 import seedu.address.model.person.StudentId;
+import seedu.address.model.search.QueryPlan;
+import seedu.address.model.search.TagValueCounts;
+import seedu.address.model.tag.TagType;
 import seedu.address.model.util.PersonBuilder;
 
 public class AddCommandTest {
@@ -142,6 +150,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -182,11 +195,56 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Person> getPersonByIncidentKey(StudentId incidentKey) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Optional<Person> getPersonByRoomNumber(RoomNumber roomNumber) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<RoomNumber> getFreeRooms(int floor) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TagValueCounts countFilteredTagValues(TagType tagType) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getDemeritLeaderboard(int size) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public DemeritSummary getDemeritSummary() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public DemeritRuleCatalogue getDemeritRuleCatalogue() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<IncidentRecord> findIncidents(IncidentQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryPlan planQuery(ReadOnlyFilterDetails filterDetails) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FilterCacheStatistics getFilterCacheStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyFilterDetails getFilterDetails() {
             throw new AssertionError("This method should not be called.");
@@ -235,6 +293,12 @@ public class AddCommandTest {
             requireNonNull(person);
             return this.person.hasSameRoom(person);
         }
+
+        @Override
+        public Optional<Person> getPersonByIncidentKey(StudentId incidentKey) {
+            requireNonNull(incidentKey);
+            return Optional.of(person).filter(p -> p.getIncidentKey().equals(incidentKey));
+        }
     }
 
     /**
@@ -249,6 +313,12 @@ public class AddCommandTest {
             return personsAdded.stream().anyMatch(person::isSamePerson);
         }
 
+        @Override
+        public Optional<Person> getPersonByIncidentKey(StudentId incidentKey) {
+            requireNonNull(incidentKey);
+            return personsAdded.stream().filter(person -> person.getIncidentKey().equals(incidentKey)).findFirst();
+        }
+
         @Override
         public void addPerson(Person person) {
             requireNonNull(person);
@@ -2,18 +2,25 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.format;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.demerit.DemeritIncident;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.StudentId;
+import seedu.address.model.util.PersonBuilder;
 
 public class DemeritCommandTest {
 
@@ -59,6 +66,27 @@ public class DemeritCommandTest {
         assertEquals(9, updatedPerson.getDemeritIncidents().get(2).getPointsApplied());
     }
 
+    @Test
+    public void execute_tierWindow_onlyRecentOffencesEscalate() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        Person aliceWithOldOffence = new PersonBuilder(ALICE)
+                .withDemeritIncidents(new Object[]{18, 1, "", now.minusDays(100).toString()}).build();
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.setPerson(ALICE, aliceWithOldOffence);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setDemeritTierWindowDays(90);
+        Model model = new ModelManager(addressBook, userPrefs);
+
+        new DemeritCommand(ALICE.getStudentId(), 18, "").execute(model);
+        new DemeritCommand(ALICE.getStudentId(), 18, "").execute(model);
+
+        List<DemeritIncident> incidents = findPersonByStudentId(model, ALICE.getStudentId()).getDemeritIncidents();
+        assertEquals(1, incidents.get(1).getOffenceNumber());
+        assertEquals(6, incidents.get(1).getPointsApplied());
+        assertEquals(2, incidents.get(2).getOffenceNumber());
+        assertTrue(incidents.get(2).getRecordedAt().orElseThrow().isAfter(now.minusMinutes(1)));
+    }
+
     @Test
     public void execute_invalidStudentId_throwsCommandException() {
         Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
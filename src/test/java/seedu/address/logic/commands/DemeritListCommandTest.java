@@ -6,7 +6,6 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
-import seedu.address.model.demerit.DemeritRuleCatalogue;
 
 /**
  * Contains unit tests for {@code DemeritListCommand}.
@@ -21,6 +20,6 @@ public class DemeritListCommandTest {
 
         CommandResult commandResult = demeritListCommand.execute(model);
 
-        assertEquals(DemeritRuleCatalogue.formatAllRules(), commandResult.getFeedbackToUser());
+        assertEquals(model.getDemeritRuleCatalogue().formatAllRules(), commandResult.getFeedbackToUser());
     }
 }
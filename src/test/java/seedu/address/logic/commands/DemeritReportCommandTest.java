@@ -0,0 +1,56 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.demerit.DemeritRuleSet;
+import seedu.address.model.demerit.DemeritSummary;
+import seedu.address.model.demerit.RuleStatistics;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code DemeritReportCommand}.
+ */
+public class DemeritReportCommandTest {
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noIncidents_emptyReport() {
+        assertEquals(DemeritReportCommand.MESSAGE_NO_INCIDENTS,
+                new DemeritReportCommand().execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_demeritsApplied_mostIncidentsFirst() throws Exception {
+        new DemeritCommand(ALICE.getStudentId(), 1, "").execute(model);
+        new DemeritCommand(ALICE.getStudentId(), 18, "").execute(model);
+        new DemeritCommand(ALICE.getStudentId(), 18, "").execute(model);
+        new DemeritCommand(BENSON.getStudentId(), 18, "").execute(model);
+
+        String[] lines = new DemeritReportCommand().execute(model).getFeedbackToUser().split("\n");
+
+        DemeritRuleSet rules = model.getDemeritRuleCatalogue().getRules();
+        RuleStatistics ruleEighteen = new RuleStatistics(18, 3, 6 + 9 + 6, 2, 1, 0);
+        RuleStatistics ruleOne = model.getDemeritSummary().triggeredRules().get(0);
+        long totalPoints = ruleEighteen.pointsIssued() + ruleOne.pointsIssued();
+        assertEquals(3, lines.length);
+        assertEquals(String.format(DemeritReportCommand.MESSAGE_SUCCESS, 4, 2, totalPoints), lines[0]);
+        assertEquals(DemeritSummary.formatEntry(ruleEighteen, rules), lines[1]);
+        assertEquals(DemeritSummary.formatEntry(ruleOne, rules), lines[2]);
+    }
+
+    @Test
+    public void execute_residentDeleted_incidentsLeaveReport() throws Exception {
+        new DemeritCommand(ALICE.getStudentId(), 18, "").execute(model);
+        model.deletePerson(model.getPersonByStudentId(ALICE.getStudentId()).orElseThrow());
+
+        assertEquals(DemeritReportCommand.MESSAGE_NO_INCIDENTS,
+                new DemeritReportCommand().execute(model).getFeedbackToUser());
+    }
+}
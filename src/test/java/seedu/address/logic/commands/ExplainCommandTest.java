@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.FilterCacheStatistics;
+import seedu.address.model.FilterDetails;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.search.QueryPlan;
+import seedu.address.model.search.SearchField;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ExplainCommand}.
+ */
+public class ExplainCommandTest {
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FilterDetails firstFilterDetails = new FilterDetails();
+        firstFilterDetails.setNameKeywords(Set.of("first"));
+        FilterDetails secondFilterDetails = new FilterDetails();
+        secondFilterDetails.setNameKeywords(Set.of("second"));
+        ExplainCommand explainFirstCommand = new ExplainCommand(firstFilterDetails);
+
+        assertEquals(explainFirstCommand, explainFirstCommand);
+        assertEquals(explainFirstCommand, new ExplainCommand(firstFilterDetails));
+        assertNotEquals(1, explainFirstCommand);
+        assertNotEquals(null, explainFirstCommand);
+        assertNotEquals(explainFirstCommand, new ExplainCommand(secondFilterDetails));
+    }
+
+    @Test
+    public void execute_studentIdAndName_studentIdCheckedFirstAndListUnchanged() {
+        FilterDetails filterDetails = new FilterDetails();
+        filterDetails.setNameKeywords(Set.of("a"));
+        filterDetails.setStudentIdKeywords(Set.of(ALICE.getStudentId().value));
+        QueryPlan plan = model.planQuery(filterDetails);
+
+        String feedback = new ExplainCommand(filterDetails).execute(model).getFeedbackToUser();
+
+        assertEquals(List.of(new QueryPlan.Step(SearchField.STUDENT_ID, 1), new QueryPlan.Step(SearchField.NAME, 7)),
+                plan.getSteps());
+        QueryPlan.Explanation explanation = plan.explain(model.getAddressBook().getPersonList());
+        assertEquals(List.of(7, 1), explanation.stepRuns().stream().map(QueryPlan.StepRun::tested).toList());
+        assertEquals(1, explanation.matchedCount());
+        assertEquals(new FilterCacheStatistics(0, 0, 0), model.getFilterCacheStatistics());
+        // A header, one line per step and the cache statistics
+        assertEquals(plan.getSteps().size() + 2, feedback.lines().count());
+        assertEquals(7, model.getFilteredPersonList().size());
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FreeRoomsCommand}.
+ */
+public class FreeRoomsCommandTest {
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FreeRoomsCommand floorTwelve = new FreeRoomsCommand(12);
+
+        assertEquals(floorTwelve, floorTwelve);
+        assertEquals(floorTwelve, new FreeRoomsCommand(12));
+        assertNotEquals(null, floorTwelve);
+        assertNotEquals(floorTwelve, new FreeRoomsCommand(13));
+    }
+
+    @Test
+    public void execute_partlyOccupiedFloor_occupiedRoomsOmitted() {
+        // Alice is in 13E
+        String expectedRooms = "13A, 13B, 13C, 13D, 13F, 13G, 13H, 13I, 13J, 13K, 13L, 13M, 13N, 13O, 13P, 13Q, "
+                + "13R, 13S, 13T, 13U, 13V, 13W, 13X, 13Y, 13Z";
+        assertEquals(String.format(FreeRoomsCommand.MESSAGE_SUCCESS, 25, 13, expectedRooms),
+                new FreeRoomsCommand(13).execute(model).getFeedbackToUser());
+        assertEquals(7, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_fullFloor_noFreeRooms() {
+        for (char unit = 'A'; unit <= 'Z'; unit++) {
+            model.addPerson(new PersonBuilder().withStudentId("A00000" + (unit - 'A' + 10) + "X")
+                    .withRoomNumber("3" + unit).build());
+        }
+        assertEquals(String.format(FreeRoomsCommand.MESSAGE_NO_FREE_ROOMS, 3),
+                new FreeRoomsCommand(3).execute(model).getFeedbackToUser());
+    }
+}
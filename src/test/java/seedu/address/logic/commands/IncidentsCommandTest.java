@@ -0,0 +1,83 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.demerit.IncidentQuery;
+import seedu.address.model.demerit.IncidentRecord;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code IncidentsCommand}.
+ */
+public class IncidentsCommandTest {
+    private static final IncidentQuery ALL = new IncidentQuery(null, null, null, null, null);
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noIncidents_noneFound() {
+        assertEquals(IncidentsCommand.MESSAGE_NO_INCIDENTS,
+                new IncidentsCommand(ALL).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_demeritsApplied_listsMatchesAcrossResidents() throws Exception {
+        new DemeritCommand(ALICE.getStudentId(), 18, "Blocked the fire exit").execute(model);
+        new DemeritCommand(BENSON.getStudentId(), 1, "").execute(model);
+        new DemeritCommand(BENSON.getStudentId(), 18, "Fire exit propped open").execute(model);
+
+        IncidentQuery fireExits = new IncidentQuery(18, null, null, null, "fire exit");
+        String[] lines = new IncidentsCommand(fireExits).execute(model).getFeedbackToUser().split("\n");
+
+        List<IncidentRecord> records = model.findIncidents(fireExits);
+        assertEquals(2, records.size());
+        assertEquals(3, lines.length);
+        assertEquals(String.format(IncidentsCommand.MESSAGE_SUCCESS, 2), lines[0]);
+        assertEquals(IncidentsCommand.formatEntry(model, records.get(0)), lines[1]);
+        assertTrue(lines[2].startsWith(BENSON.getStudentId() + "-2 " + BENSON.getName()));
+    }
+
+    @Test
+    public void execute_manyIncidents_listingCapped() throws Exception {
+        for (int i = 0; i < IncidentsCommand.MAX_LISTED + 3; i++) {
+            new DemeritCommand(ALICE.getStudentId(), 18, "").execute(model);
+        }
+
+        String[] lines = new IncidentsCommand(ALL).execute(model).getFeedbackToUser().split("\n");
+
+        assertEquals(IncidentsCommand.MAX_LISTED + 2, lines.length);
+        assertEquals(String.format(IncidentsCommand.MESSAGE_MORE, 3), lines[lines.length - 1]);
+    }
+
+    @Test
+    public void execute_timeRangeExcludesIncidents_noneFound() throws Exception {
+        new DemeritCommand(ALICE.getStudentId(), 18, "").execute(model);
+        LocalDateTime tomorrow = LocalDateTime.now().plusDays(1);
+
+        assertEquals(IncidentsCommand.MESSAGE_NO_INCIDENTS,
+                new IncidentsCommand(new IncidentQuery(null, null, tomorrow, null, null))
+                        .execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        IncidentsCommand ruleCommand = new IncidentsCommand(new IncidentQuery(18, null, null, null, null));
+
+        assertTrue(ruleCommand.equals(ruleCommand));
+        assertTrue(ruleCommand.equals(new IncidentsCommand(new IncidentQuery(18, null, null, null, null))));
+        assertFalse(ruleCommand.equals(new IncidentsCommand(ALL)));
+        assertFalse(ruleCommand.equals(null));
+    }
+}
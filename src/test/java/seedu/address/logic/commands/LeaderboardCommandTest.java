@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code LeaderboardCommand}.
+ */
+public class LeaderboardCommandTest {
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        LeaderboardCommand topThree = new LeaderboardCommand(3);
+
+        assertEquals(topThree, topThree);
+        assertEquals(topThree, new LeaderboardCommand(3));
+        assertNotEquals(null, topThree);
+        assertNotEquals(topThree, new LeaderboardCommand(4));
+    }
+
+    @Test
+    public void execute_noDemeritPoints_noResidentsListed() {
+        assertEquals(LeaderboardCommand.MESSAGE_NO_DEMERIT_POINTS,
+                new LeaderboardCommand(3).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_demeritsApplied_mostPointsFirstAndListUnchanged() throws Exception {
+        new DemeritCommand(ALICE.getStudentId(), 18, "").execute(model);
+        new DemeritCommand(CARL.getStudentId(), 18, "").execute(model);
+        new DemeritCommand(CARL.getStudentId(), 18, "").execute(model);
+        new DemeritCommand(BENSON.getStudentId(), 18, "").execute(model);
+
+        String feedback = new LeaderboardCommand(2).execute(model).getFeedbackToUser();
+
+        Person carl = model.getPersonByStudentId(CARL.getStudentId()).orElseThrow();
+        Person alice = model.getPersonByStudentId(ALICE.getStudentId()).orElseThrow();
+        Person benson = model.getPersonByStudentId(BENSON.getStudentId()).orElseThrow();
+        Person secondPlace = alice.getStudentId().value.compareTo(benson.getStudentId().value) < 0 ? alice : benson;
+        String[] lines = feedback.split("\n");
+        assertEquals(String.format(LeaderboardCommand.MESSAGE_SUCCESS, 2), lines[0]);
+        assertEquals(formatEntry(1, carl), lines[1]);
+        assertEquals(formatEntry(2, secondPlace), lines[2]);
+        assertEquals(7, model.getFilteredPersonList().size());
+    }
+
+    private static String formatEntry(int rank, Person person) {
+        return String.format(LeaderboardCommand.MESSAGE_ENTRY, rank, person.getName(), person.getStudentId(),
+                person.getRoomNumber(), person.getTotalDemeritPoints());
+    }
+}
@@ -14,12 +14,18 @@ import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DemeritListCommand;
+import seedu.address.logic.commands.DemeritReportCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExplainCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FreeRoomsCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.IncidentsCommand;
+import seedu.address.logic.commands.LeaderboardCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.FilterDetails;
+import seedu.address.model.demerit.IncidentQuery;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.StudentId;
 import seedu.address.model.util.PersonBuilder;
@@ -76,6 +82,27 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(filterDetails), command);
     }
 
+    @Test
+    public void parseCommand_leaderboard() throws Exception {
+        assertEquals(new LeaderboardCommand(LeaderboardCommand.DEFAULT_SIZE),
+                parser.parseCommand(LeaderboardCommand.COMMAND_WORD));
+        assertEquals(new LeaderboardCommand(20), parser.parseCommand(LeaderboardCommand.COMMAND_WORD + " 20"));
+    }
+
+    @Test
+    public void parseCommand_explain() throws Exception {
+        FilterDetails filterDetails = new FilterDetails();
+        filterDetails.setNameKeywords(Set.of("foo"));
+        filterDetails.setTagYearKeywords(Set.of("1"));
+        ExplainCommand command = (ExplainCommand) parser.parseCommand(ExplainCommand.COMMAND_WORD + " n=foo y=1");
+        assertEquals(new ExplainCommand(filterDetails), command);
+    }
+
+    @Test
+    public void parseCommand_freeRooms() throws Exception {
+        assertEquals(new FreeRoomsCommand(12), parser.parseCommand(FreeRoomsCommand.COMMAND_WORD + " 12"));
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -104,5 +131,16 @@ public class AddressBookParserTest {
         assertEquals(new DemeritListCommand(),
                 parser.parseCommand(DemeritListCommand.COMMAND_WORD));
     }
-}
 
+    @Test
+    public void parseCommand_demeritReport() throws Exception {
+        assertEquals(new DemeritReportCommand(),
+                parser.parseCommand(DemeritReportCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_incidents() throws Exception {
+        assertEquals(new IncidentsCommand(new IncidentQuery(18, null, null, null, null)),
+                parser.parseCommand(IncidentsCommand.COMMAND_WORD + " di=18"));
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.DemeritReportCommand;
+
+/**
+ * Contains integration tests for {@code DemeritReportCommandParser}.
+ */
+public class DemeritReportCommandParserTest {
+
+    private final DemeritReportCommandParser parser = new DemeritReportCommandParser();
+
+    @Test
+    public void parse_noArguments_success() {
+        assertParseSuccess(parser, "", new DemeritReportCommand());
+        assertParseSuccess(parser, "   ", new DemeritReportCommand());
+    }
+
+    @Test
+    public void parse_withTrailingArguments_throwsParseException() {
+        assertParseFailure(parser, " x",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DemeritReportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " nonsense",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DemeritReportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " rm=abc",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DemeritReportCommand.MESSAGE_USAGE));
+    }
+}
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.FilterDetails;
+import seedu.address.model.search.PointRange;
 
 public class FindCommandParserTest {
 
@@ -49,6 +50,20 @@ public class FindCommandParserTest {
                 expectedFindCommand);
     }
 
+    @Test
+    public void parse_demeritPointRanges_storedInCanonicalForm() {
+        FilterDetails filterDetails = new FilterDetails();
+        filterDetails.setDemeritPointsKeywords(Set.of("25-", "0-5", "10"));
+
+        assertParseSuccess(parser, " dp=25- dp= 25 - dp=-5 dp=10-10", new FindCommand(filterDetails));
+    }
+
+    @Test
+    public void parse_invalidDemeritPointRange_throwsParseException() {
+        assertParseFailure(parser, " dp=20-10", PointRange.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " n=Alice dp=many", PointRange.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_preamble_throwsParseException() {
         assertParseFailure(parser, "Alice Bob",
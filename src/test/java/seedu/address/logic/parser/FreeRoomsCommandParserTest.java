@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FreeRoomsCommand;
+
+public class FreeRoomsCommandParserTest {
+
+    private final FreeRoomsCommandParser parser = new FreeRoomsCommandParser();
+
+    @Test
+    public void parse_validFloor_success() {
+        assertParseSuccess(parser, " 12 ", new FreeRoomsCommand(12));
+        assertParseSuccess(parser, "0", new FreeRoomsCommand(0));
+        assertParseSuccess(parser, "07", new FreeRoomsCommand(7));
+    }
+
+    @Test
+    public void parse_invalidFloor_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeRoomsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "   ", expectedMessage);
+        assertParseFailure(parser, " 100", expectedMessage);
+        assertParseFailure(parser, " -1", expectedMessage);
+        assertParseFailure(parser, " 12A", expectedMessage);
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.IncidentsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.demerit.IncidentQuery;
+import seedu.address.model.person.StudentId;
+
+public class IncidentsCommandParserTest {
+
+    private final IncidentsCommandParser parser = new IncidentsCommandParser();
+
+    @Test
+    public void parse_noArguments_matchesEverything() throws Exception {
+        assertEquals(new IncidentsCommand(new IncidentQuery(null, null, null, null, null)), parser.parse(""));
+    }
+
+    @Test
+    public void parse_allFieldsPresent_toDateInclusive() throws Exception {
+        IncidentQuery expectedQuery = new IncidentQuery(21, new StudentId("A1234567X"),
+                LocalDateTime.of(2024, 10, 1, 0, 0), LocalDateTime.of(2024, 11, 1, 0, 0), "fire exit");
+
+        assertEquals(new IncidentsCommand(expectedQuery),
+                parser.parse(" di=21 i=A1234567X from=2024-10-01 to=2024-10-31 rm=Fire Exit"));
+    }
+
+    @Test
+    public void parse_invalidDate_throwsParseException() {
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DATE, () -> parser.parse(" from=2024-13-01"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DATE, () -> parser.parse(" to=yesterday"));
+    }
+
+    @Test
+    public void parse_fromAfterTo_throwsParseException() {
+        assertThrows(ParseException.class, IncidentsCommandParser.MESSAGE_INVALID_DATE_RANGE, () ->
+                parser.parse(" from=2024-11-01 to=2024-10-01"));
+    }
+
+    @Test
+    public void parse_blankRemark_throwsParseException() {
+        assertThrows(ParseException.class, IncidentsCommandParser.MESSAGE_EMPTY_REMARK, () -> parser.parse(" rm= "));
+    }
+
+    @Test
+    public void parse_preambleOrUnknownPrefix_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse("fire di=18"));
+        assertThrows(ParseException.class, () -> parser.parse(" n=Alice"));
+    }
+
+    @Test
+    public void parse_duplicatePrefix_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse(" di=18 di=21"));
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.LeaderboardCommand;
+
+public class LeaderboardCommandParserTest {
+
+    private final LeaderboardCommandParser parser = new LeaderboardCommandParser();
+
+    @Test
+    public void parse_noArguments_defaultSize() {
+        assertParseSuccess(parser, "   ", new LeaderboardCommand(LeaderboardCommand.DEFAULT_SIZE));
+    }
+
+    @Test
+    public void parse_positiveInteger_success() {
+        assertParseSuccess(parser, " 3 ", new LeaderboardCommand(3));
+    }
+
+    @Test
+    public void parse_invalidSize_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, LeaderboardCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " 0", expectedMessage);
+        assertParseFailure(parser, " -2", expectedMessage);
+        assertParseFailure(parser, " top", expectedMessage);
+    }
+}
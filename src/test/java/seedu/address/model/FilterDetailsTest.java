@@ -39,6 +39,7 @@ class FilterDetailsTest {
                 + ", tagYearKeywords=[yearA]"
                 + ", tagMajorKeywords=[majorA]"
                 + ", tagGenderKeywords=[genderA]"
+                + ", demeritPointsKeywords=[pointsA]"
                 + '}';
 
         assertEquals(expected, filterDetails.toString());
@@ -55,6 +56,7 @@ class FilterDetailsTest {
         filterDetails.setTagYearKeywords(Set.of("year" + suffix));
         filterDetails.setTagMajorKeywords(Set.of("major" + suffix));
         filterDetails.setTagGenderKeywords(Set.of("gender" + suffix));
+        filterDetails.setDemeritPointsKeywords(Set.of("points" + suffix));
         return filterDetails;
     }
 }
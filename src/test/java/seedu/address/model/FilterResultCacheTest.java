@@ -0,0 +1,75 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.StudentId;
+import seedu.address.model.search.CompiledFilter;
+import seedu.address.model.util.PersonBuilder;
+
+public class FilterResultCacheTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final FilterResultCache cache = new FilterResultCache(2);
+
+    @Test
+    public void lookup_unchangedAddressBook_hit() {
+        CompiledFilter filter = compileNameFilter("alice");
+        assertEquals(Optional.empty(), cache.lookup(filter, addressBook));
+
+        cache.store(filter, Set.of(ALICE.getStudentId()), addressBook.getVersion());
+        assertEquals(Optional.of(Set.of(ALICE.getStudentId())), cache.lookup(compileNameFilter("ALICE"), addressBook));
+        assertEquals(new FilterCacheStatistics(1, 0, 1), cache.getStatistics());
+    }
+
+    @Test
+    public void lookup_personsEdited_resultPatched() {
+        CompiledFilter filter = compileNameFilter("alice");
+        cache.store(filter, Set.of(ALICE.getStudentId()), addressBook.getVersion());
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alicia Pauline").build());
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withName("Alice Meier").build());
+        Set<StudentId> expected = Set.of(BENSON.getStudentId());
+        assertEquals(Optional.of(expected), cache.lookup(filter, addressBook));
+        assertEquals(Optional.of(expected), cache.lookup(filter, addressBook));
+        assertEquals(new FilterCacheStatistics(1, 1, 0), cache.getStatistics());
+    }
+
+    @Test
+    public void lookup_addressBookReset_miss() {
+        CompiledFilter filter = compileNameFilter("alice");
+        cache.store(filter, Set.of(ALICE.getStudentId()), addressBook.getVersion());
+
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(Optional.empty(), cache.lookup(filter, addressBook));
+        assertEquals(new FilterCacheStatistics(0, 0, 1), cache.getStatistics());
+    }
+
+    @Test
+    public void store_overCapacity_leastRecentlyUsedEvicted() {
+        CompiledFilter alice = compileNameFilter("alice");
+        CompiledFilter benson = compileNameFilter("benson");
+        CompiledFilter carl = compileNameFilter("carl");
+        cache.store(alice, Set.of(), addressBook.getVersion());
+        cache.store(benson, Set.of(), addressBook.getVersion());
+        cache.lookup(alice, addressBook);
+        cache.store(carl, Set.of(), addressBook.getVersion());
+
+        assertEquals(Optional.empty(), cache.lookup(benson, addressBook));
+        assertEquals(Optional.of(Set.of()), cache.lookup(alice, addressBook));
+        assertEquals(Optional.of(Set.of()), cache.lookup(carl, addressBook));
+    }
+
+    private static CompiledFilter compileNameFilter(String name) {
+        FilterDetails filterDetails = new FilterDetails();
+        filterDetails.setNameKeywords(Set.of(name));
+        return CompiledFilter.compile(filterDetails);
+    }
+}
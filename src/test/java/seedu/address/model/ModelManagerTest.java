@@ -9,17 +9,22 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ROOM_NUMBER_BOB
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonMatchesDetailsPredicate;
+import seedu.address.model.search.TagValueCounts;
+import seedu.address.model.tag.TagType;
 import seedu.address.model.util.PersonBuilder;
 import seedu.address.testutil.AddressBookBuilder;
 
@@ -112,6 +117,142 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_narrowedAndWidenedFilters_sameAsFullEvaluation() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        FilterDetails twoNames = new FilterDetails();
+        twoNames.setNameKeywords(Set.of("Meier", "Kurz"));
+        FilterDetails oneName = new FilterDetails();
+        oneName.setNameKeywords(Set.of("Meier"));
+        FilterDetails oneNameAndPhone = new FilterDetails(oneName);
+        oneNameAndPhone.setPhoneNumberKeywords(Set.of("8482424"));
+
+        for (FilterDetails filterDetails : Arrays.asList(twoNames, oneName, oneNameAndPhone, oneName, twoNames)) {
+            assertFilterMatchesFullEvaluation(filterDetails);
+        }
+    }
+
+    @Test
+    public void updateFilteredPersonList_aboveParallelThreshold_sameAsSequentialEvaluation() {
+        UserPrefs parallelPrefs = new UserPrefs();
+        parallelPrefs.setParallelFilterThreshold(1);
+        modelManager = new ModelManager(getTypicalAddressBook(), parallelPrefs);
+        FilterDetails filterDetails = new FilterDetails();
+        filterDetails.setNameKeywords(Set.of("Meier", "Kurz"));
+        assertFilterMatchesFullEvaluation(filterDetails);
+
+        // edits after the parallel pass are tested with the underlying predicate
+        Person aliceMeier = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, aliceMeier);
+        assertTrue(modelManager.getFilteredPersonList().contains(aliceMeier));
+    }
+
+    @Test
+    public void countFilteredTagValues_countsShownPersonsOnly() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertEquals(3, modelManager.countFilteredTagValues(TagType.GENDER).getCount("she/her"));
+
+        FilterDetails filterDetails = new FilterDetails();
+        filterDetails.setTagYearKeywords(Set.of("1"));
+        modelManager.updateFilteredPersonList(new PersonMatchesDetailsPredicate(filterDetails));
+        assertEquals(2, modelManager.countFilteredTagValues(TagType.GENDER).getCount("she/her"));
+        assertEquals(0, modelManager.countFilteredTagValues(TagType.GENDER).missingCount());
+    }
+
+    @Test
+    public void countFilteredTagValues_noPersons_returnsZero() {
+        TagValueCounts yearCounts = modelManager.countFilteredTagValues(TagType.YEAR);
+        assertEquals(0, yearCounts.getCount("1"));
+        assertEquals(0, yearCounts.missingCount());
+    }
+
+    @Test
+    public void countFilteredTagValues_yearAndGenderTags_countsEachValue() {
+        AddressBook addressBook = new AddressBookBuilder()
+                .withPerson(new PersonBuilder().withStudentId("A0000001X").withRoomNumber("1A")
+                        .withTags(new Object[]{TagType.YEAR, "1"}, new Object[]{TagType.GENDER, "he/him"}).build())
+                .withPerson(new PersonBuilder().withStudentId("A0000002X").withRoomNumber("1B")
+                        .withTags(new Object[]{TagType.YEAR, "1"}, new Object[]{TagType.GENDER, "he/him"}).build())
+                .withPerson(new PersonBuilder().withStudentId("A0000003X").withRoomNumber("1C")
+                        .withTags(new Object[]{TagType.YEAR, "4"}, new Object[]{TagType.GENDER, "she/her"}).build())
+                .withPerson(new PersonBuilder().withStudentId("A0000004X").withRoomNumber("1D")
+                        .withTags(new Object[]{TagType.GENDER, "she/her"}).build())
+                .build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+
+        TagValueCounts yearCounts = modelManager.countFilteredTagValues(TagType.YEAR);
+        assertEquals(2, yearCounts.getCount("1"));
+        assertEquals(0, yearCounts.getCount("2"));
+        assertEquals(1, yearCounts.getCount("4"));
+        assertEquals(1, yearCounts.missingCount());
+
+        TagValueCounts genderCounts = modelManager.countFilteredTagValues(TagType.GENDER);
+        assertEquals(2, genderCounts.getCount("HE/HIM"));
+        assertEquals(2, genderCounts.getCount("she/her"));
+        assertEquals(0, genderCounts.missingCount());
+    }
+
+    @Test
+    public void updateFilteredPersonList_personEditedAfterNarrowing_shown() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        FilterDetails twoNames = new FilterDetails();
+        twoNames.setNameKeywords(Set.of("Meier", "Kurz"));
+        FilterDetails oneName = new FilterDetails();
+        oneName.setNameKeywords(Set.of("Meier"));
+        modelManager.updateFilteredPersonList(new PersonMatchesDetailsPredicate(twoNames));
+        modelManager.updateFilteredPersonList(new PersonMatchesDetailsPredicate(oneName));
+
+        Person aliceMeier = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, aliceMeier);
+        assertTrue(modelManager.getFilteredPersonList().contains(aliceMeier));
+    }
+
+    @Test
+    public void updateFilteredPersonList_repeatedFilters_answeredFromCache() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        FilterDetails meier = new FilterDetails();
+        meier.setNameKeywords(Set.of("Meier"));
+        FilterDetails kurz = new FilterDetails();
+        kurz.setNameKeywords(Set.of("Kurz"));
+
+        assertFilterMatchesFullEvaluation(meier);
+        assertFilterMatchesFullEvaluation(kurz);
+        assertFilterMatchesFullEvaluation(meier);
+        assertEquals(new FilterCacheStatistics(1, 0, 2), modelManager.getFilterCacheStatistics());
+
+        // edited residents are re-tested against the cached result
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alice Kurz").build());
+        assertFilterMatchesFullEvaluation(kurz);
+        assertEquals(new FilterCacheStatistics(1, 1, 2), modelManager.getFilterCacheStatistics());
+
+        // replacing every resident invalidates cached results
+        modelManager.setAddressBook(getTypicalAddressBook());
+        assertFilterMatchesFullEvaluation(meier);
+        assertEquals(new FilterCacheStatistics(1, 1, 3), modelManager.getFilterCacheStatistics());
+    }
+
+    @Test
+    public void updateFilteredPersonList_demeritPointRange_followsDemerits() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        FilterDetails withPoints = new FilterDetails();
+        withPoints.setDemeritPointsKeywords(Set.of("1-"));
+        assertFilterMatchesFullEvaluation(withPoints);
+        assertEquals(0, modelManager.getFilteredPersonList().size());
+
+        Person demeritedBenson = new PersonBuilder(BENSON).withDemeritIncidents(new Object[]{18, 1}).build();
+        modelManager.setPerson(BENSON, demeritedBenson);
+        assertEquals(List.of(demeritedBenson), modelManager.getFilteredPersonList());
+        assertEquals(List.of(demeritedBenson), modelManager.getDemeritLeaderboard(3));
+        assertFilterMatchesFullEvaluation(withPoints);
+    }
+
+    private void assertFilterMatchesFullEvaluation(FilterDetails filterDetails) {
+        modelManager.updateFilteredPersonList(new PersonMatchesDetailsPredicate(filterDetails));
+        ModelManager freshModelManager = new ModelManager(modelManager.getAddressBook(), new UserPrefs());
+        freshModelManager.updateFilteredPersonList(new PersonMatchesDetailsPredicate(filterDetails));
+        assertEquals(freshModelManager.getFilteredPersonList(), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -18,4 +18,22 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setParallelFilterThreshold_nonPositive_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setParallelFilterThreshold(0));
+    }
+
+    @Test
+    public void setDemeritTierWindowDays_negative_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setDemeritTierWindowDays(-1));
+    }
+
+    @Test
+    public void setSaveDelayMillis_negative_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setSaveDelayMillis(-1));
+    }
+
 }
@@ -0,0 +1,107 @@
+package seedu.address.model.demerit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.util.PersonBuilder;
+
+public class DemeritAnalyticsTest {
+
+    private static final Person ALICE_TWO_OFFENCES = new PersonBuilder(ALICE)
+            .withDemeritIncidents(new Object[]{18, 1}, new Object[]{18, 2}).build();
+    private static final Person BENSON_MIXED_OFFENCES = new PersonBuilder(BENSON)
+            .withDemeritIncidents(new Object[]{1, 1}, new Object[]{18, 3}).build();
+
+    private final DemeritAnalytics analytics = new DemeritAnalytics();
+
+    @Test
+    public void add_personsWithIncidents_countsPerRuleAndTier() {
+        analytics.add(ALICE_TWO_OFFENCES);
+        analytics.add(BENSON_MIXED_OFFENCES);
+
+        assertEquals(new RuleStatistics(18, 3, 6 + 9 + 9, 1, 1, 1), analytics.getRuleStatistics(18));
+        RuleStatistics ruleOne = analytics.getRuleStatistics(1);
+        assertEquals(1, ruleOne.incidentCount());
+        assertEquals(1, ruleOne.firstOffences());
+        assertEquals(4, analytics.getTotalIncidents());
+        assertEquals(ALICE_TWO_OFFENCES.getTotalDemeritPoints() + BENSON_MIXED_OFFENCES.getTotalDemeritPoints(),
+                analytics.getTotalPointsIssued());
+        assertEquals(List.of(1, 18), analytics.getTriggeredRules().stream().map(RuleStatistics::ruleIndex).toList());
+    }
+
+    @Test
+    public void remove_person_subtractsOnlyTheirIncidents() {
+        analytics.add(ALICE_TWO_OFFENCES);
+        analytics.add(BENSON_MIXED_OFFENCES);
+
+        analytics.remove(BENSON_MIXED_OFFENCES);
+
+        assertEquals(new RuleStatistics(18, 2, 15, 1, 1, 0), analytics.getRuleStatistics(18));
+        assertEquals(new RuleStatistics(1, 0, 0, 0, 0, 0), analytics.getRuleStatistics(1));
+        assertEquals(2, analytics.getTotalIncidents());
+        assertEquals(List.of(18), analytics.getTriggeredRules().stream().map(RuleStatistics::ruleIndex).toList());
+    }
+
+    @Test
+    public void update_appendedIncident_matchesRecomputedTotals() {
+        DemeritRule rule = DemeritRuleCatalogue.getBuiltInRules().findByIndex(18).orElseThrow();
+        Person withThirdOffence = ALICE_TWO_OFFENCES.withDemeritIncident(
+                new DemeritIncident(rule, DemeritRuleCatalogue.BUILT_IN_VERSION, 3, rule.getPointsForOccurrence(3),
+                        ""));
+        analytics.add(ALICE_TWO_OFFENCES);
+
+        analytics.update(ALICE_TWO_OFFENCES, withThirdOffence);
+
+        DemeritAnalytics recomputed = new DemeritAnalytics();
+        recomputed.add(withThirdOffence);
+        assertEquals(recomputed.summarize(), analytics.summarize());
+        assertEquals(1, analytics.getRuleStatistics(18).laterOffences());
+    }
+
+    @Test
+    public void update_replacedIncidents_matchesRecomputedTotals() {
+        analytics.add(ALICE_TWO_OFFENCES);
+
+        analytics.update(ALICE_TWO_OFFENCES, ALICE);
+
+        assertEquals(new DemeritAnalytics().summarize(), analytics.summarize());
+    }
+
+    @Test
+    public void reset_replacesTotals() {
+        analytics.add(ALICE_TWO_OFFENCES);
+
+        analytics.reset(List.of(BENSON_MIXED_OFFENCES));
+
+        assertEquals(2, analytics.getTotalIncidents());
+        assertEquals(1, analytics.getRuleStatistics(18).laterOffences());
+        assertEquals(0, analytics.getRuleStatistics(18).firstOffences());
+    }
+
+    @Test
+    public void getRuleStatistics_unknownRule_returnsZeroTotals() {
+        assertEquals(new RuleStatistics(-1, 0, 0, 0, 0, 0), analytics.getRuleStatistics(-1));
+        assertTrue(analytics.getTriggeredRules().isEmpty());
+    }
+
+    @Test
+    public void add_ruleIndexAboveMaximum_totalledWithoutArraySlot() {
+        int strayIndex = Integer.MAX_VALUE - 1;
+        Person person = ALICE.withDemeritIncident(new DemeritIncident(strayIndex, 1, 2, 5, ""));
+
+        analytics.add(person);
+
+        assertEquals(new RuleStatistics(strayIndex, 1, 5, 0, 1, 0), analytics.getRuleStatistics(strayIndex));
+        assertEquals(List.of(strayIndex), analytics.getTriggeredRules().stream().map(RuleStatistics::ruleIndex)
+                .toList());
+        analytics.remove(person);
+        assertTrue(analytics.getTriggeredRules().isEmpty());
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.model.demerit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class DemeritRuleSetTest {
+
+    private static final DemeritRule NOISE = new DemeritRule(1, "Noise during quiet hours", 3, 6, 9);
+    private static final DemeritRule COOKING = new DemeritRule(3, "Unauthorised cooking in rooms", 5, 10, 15);
+
+    @Test
+    public void constructor_invalidRules_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, DemeritRuleSet.MESSAGE_INVALID_VERSION, () ->
+                new DemeritRuleSet(0, List.of(NOISE)));
+        assertThrows(IllegalArgumentException.class, DemeritRuleSet.MESSAGE_NO_RULES, () ->
+                new DemeritRuleSet(1, List.of()));
+        assertThrows(IllegalArgumentException.class, DemeritRuleSet.MESSAGE_INVALID_INDEX, () ->
+                new DemeritRuleSet(1, List.of(new DemeritRule(0, "Zero", 1, 1, 1))));
+        assertThrows(IllegalArgumentException.class, DemeritRuleSet.MESSAGE_INVALID_INDEX, () ->
+                new DemeritRuleSet(1, List.of(new DemeritRule(DemeritRuleSet.MAX_RULE_INDEX + 1, "Big", 1, 1, 1))));
+        assertThrows(IllegalArgumentException.class, String.format(DemeritRuleSet.MESSAGE_DUPLICATE_INDEX, 1), () ->
+                new DemeritRuleSet(1, List.of(NOISE, new DemeritRule(1, "Other", 1, 1, 1))));
+    }
+
+    @Test
+    public void findByIndex() {
+        DemeritRuleSet ruleSet = new DemeritRuleSet(2, List.of(COOKING, NOISE));
+
+        assertEquals(NOISE, ruleSet.findByIndex(1).orElseThrow());
+        assertEquals(COOKING, ruleSet.findByIndex(3).orElseThrow());
+        assertFalse(ruleSet.findByIndex(2).isPresent());
+        assertFalse(ruleSet.findByIndex(4).isPresent());
+        assertFalse(ruleSet.findByIndex(-1).isPresent());
+        assertEquals(3, ruleSet.getMaxIndex());
+    }
+
+    @Test
+    public void getRules_sortedByIndex() {
+        DemeritRuleSet ruleSet = new DemeritRuleSet(2, List.of(COOKING, NOISE));
+
+        assertEquals(List.of(NOISE, COOKING), ruleSet.getRules());
+        assertEquals(NOISE + System.lineSeparator() + COOKING, ruleSet.format());
+    }
+
+    @Test
+    public void equals() {
+        DemeritRuleSet ruleSet = new DemeritRuleSet(2, List.of(NOISE, COOKING));
+
+        assertEquals(ruleSet, new DemeritRuleSet(2, List.of(COOKING, NOISE)));
+        assertNotEquals(ruleSet, new DemeritRuleSet(3, List.of(NOISE, COOKING)));
+        assertNotEquals(ruleSet, new DemeritRuleSet(2, List.of(NOISE)));
+        assertNotEquals(null, ruleSet);
+    }
+
+    @Test
+    public void install_swapsRulesInForce() {
+        DemeritRuleCatalogue catalogue = new DemeritRuleCatalogue();
+        DemeritRuleSet ruleSet = new DemeritRuleSet(2, List.of(NOISE, COOKING));
+        catalogue.install(ruleSet);
+
+        assertEquals(2, catalogue.getVersion());
+        assertEquals(COOKING, catalogue.findByIndex(3).orElseThrow());
+        assertFalse(catalogue.containsIndex(18));
+        assertTrue(new DemeritRuleCatalogue().containsIndex(18));
+    }
+
+    @Test
+    public void install_rewordedRule_pastIncidentsKeepTheirTitles() {
+        DemeritRuleCatalogue catalogue = new DemeritRuleCatalogue();
+        DemeritRule builtInNoise = catalogue.findByIndex(21).orElseThrow();
+        DemeritIncident pastIncident = new DemeritIncident(builtInNoise, catalogue.getVersion(), 1, 6, "");
+        DemeritRuleSet rewordedRules = new DemeritRuleSet(2, List.of(new DemeritRule(21, "Loud noise at night",
+                6, 9, 9)));
+        catalogue.install(rewordedRules);
+
+        assertEquals(builtInNoise.getTitle(), pastIncident.getRuleTitle());
+        assertEquals(Optional.empty(), pastIncident.getTitleForStorage());
+        DemeritIncident newIncident = new DemeritIncident(catalogue.findByIndex(21).orElseThrow(),
+                catalogue.getVersion(), 2, 9, "");
+        assertEquals("Loud noise at night", newIncident.getRuleTitle());
+        assertEquals(Optional.of("Loud noise at night"), newIncident.getTitleForStorage());
+    }
+
+    @Test
+    public void install_changedRulesWithoutNewVersion_throwsIllegalArgumentException() {
+        DemeritRuleCatalogue catalogue = new DemeritRuleCatalogue();
+        DemeritRuleSet changedBuiltInRules = new DemeritRuleSet(DemeritRuleCatalogue.BUILT_IN_VERSION,
+                List.of(NOISE));
+        assertThrows(IllegalArgumentException.class, () -> catalogue.install(changedBuiltInRules));
+        assertEquals(DemeritRuleCatalogue.getBuiltInRules(), catalogue.getRules());
+    }
+
+    @Test
+    public void install_previousVersion_putsItBackInForce() {
+        DemeritRuleCatalogue catalogue = new DemeritRuleCatalogue();
+        catalogue.install(new DemeritRuleSet(2, List.of(NOISE)));
+        catalogue.install(DemeritRuleCatalogue.getBuiltInRules());
+
+        assertEquals(DemeritRuleCatalogue.getBuiltInRules(), catalogue.getRules());
+        assertThrows(IllegalArgumentException.class, () -> catalogue.install(new DemeritRuleSet(2,
+                List.of(COOKING))));
+    }
+}
@@ -0,0 +1,179 @@
+package seedu.address.model.demerit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.util.PersonBuilder;
+
+public class IncidentStoreTest {
+
+    private static final LocalDateTime OCT_1 = LocalDateTime.of(2024, 10, 1, 22, 0);
+    private static final LocalDateTime OCT_15 = LocalDateTime.of(2024, 10, 15, 23, 30);
+    private static final LocalDateTime NOV_2 = LocalDateTime.of(2024, 11, 2, 1, 15);
+
+    private static final Person ALICE_WITH_INCIDENTS = new PersonBuilder(ALICE).withDemeritIncidents(
+            new Object[]{18, 1, "Blocked the fire exit", OCT_15.toString()},
+            new Object[]{1, 1},
+            new Object[]{18, 2, "Guest after hours", NOV_2.toString()}).build();
+    private static final Person BENSON_WITH_INCIDENTS = new PersonBuilder(BENSON).withDemeritIncidents(
+            new Object[]{18, 1, "Fire-exit door propped open", OCT_1.toString()}).build();
+
+    private final IncidentStore store = new IncidentStore();
+
+    @Test
+    public void add_persons_assignsStableIds() {
+        store.add(ALICE_WITH_INCIDENTS);
+        store.add(BENSON_WITH_INCIDENTS);
+
+        assertEquals(4, store.size());
+        List<String> ids = store.find(query(null, null, null, null)).stream().map(IncidentRecord::getId).toList();
+        // The untimed incident sorts first
+        assertEquals(List.of(ALICE.getStudentId() + "-2", BENSON.getStudentId() + "-1",
+                ALICE.getStudentId() + "-1", ALICE.getStudentId() + "-3"), ids);
+    }
+
+    @Test
+    public void find_ruleAndTimeRange_acrossResidents() {
+        store.add(ALICE_WITH_INCIDENTS);
+        store.add(BENSON_WITH_INCIDENTS);
+
+        List<IncidentRecord> october = store.find(
+                query(18, LocalDateTime.of(2024, 10, 1, 0, 0), LocalDateTime.of(2024, 11, 1, 0, 0), null));
+
+        assertEquals(List.of(BENSON_WITH_INCIDENTS.getDemeritIncidents().get(0),
+                ALICE_WITH_INCIDENTS.getDemeritIncidents().get(0)),
+                october.stream().map(IncidentRecord::incident).toList());
+    }
+
+    @Test
+    public void find_timeRange_skipsUntimedIncidents() {
+        store.add(ALICE_WITH_INCIDENTS);
+
+        List<IncidentRecord> since = store.find(query(null, OCT_1, null, null));
+
+        assertEquals(2, since.size());
+        assertTrue(since.stream().allMatch(record -> record.incident().getRecordedAt().isPresent()));
+    }
+
+    @Test
+    public void find_remarkWords_matchesWholeWordsInAnyCase() {
+        store.add(ALICE_WITH_INCIDENTS);
+        store.add(BENSON_WITH_INCIDENTS);
+
+        assertEquals(2, store.find(query(null, null, null, "FIRE exit")).size());
+        assertEquals(0, store.find(query(null, null, null, "fire guest")).size());
+        assertEquals(0, store.find(query(null, null, null, "exi")).size());
+    }
+
+    @Test
+    public void find_resident_onlyTheirIncidents() {
+        store.add(ALICE_WITH_INCIDENTS);
+        store.add(BENSON_WITH_INCIDENTS);
+
+        IncidentQuery bensonQuery = new IncidentQuery(null, BENSON.getStudentId(), null, null, null);
+
+        assertEquals(List.of(new IncidentRecord(BENSON.getStudentId(), BENSON.getStudentId(), 1,
+                BENSON_WITH_INCIDENTS.getDemeritIncidents().get(0))), store.find(bensonQuery));
+    }
+
+    @Test
+    public void getIncidents_viewOverResidentIncidents() {
+        DemeritRule rule = DemeritRuleCatalogue.getBuiltInRules().findByIndex(1).orElseThrow();
+        Person withNewIncident = ALICE_WITH_INCIDENTS.withDemeritIncident(
+                new DemeritIncident(rule, DemeritRuleCatalogue.BUILT_IN_VERSION, 2, rule.getPointsForOccurrence(2),
+                        ""));
+        store.add(ALICE_WITH_INCIDENTS);
+        store.update(ALICE_WITH_INCIDENTS, withNewIncident);
+
+        List<IncidentRecord> records = store.getIncidents(ALICE.getStudentId());
+
+        assertEquals(4, records.size());
+        for (int i = 0; i < records.size(); i++) {
+            assertSame(withNewIncident.getDemeritIncidents().get(i), records.get(i).incident());
+            assertEquals(i + 1, records.get(i).sequence());
+        }
+        assertTrue(store.getIncidents(BENSON.getStudentId()).isEmpty());
+    }
+
+    @Test
+    public void update_appendedIncident_matchesRebuiltStore() {
+        DemeritRule rule = DemeritRuleCatalogue.getBuiltInRules().findByIndex(18).orElseThrow();
+        Person withNewIncident = ALICE_WITH_INCIDENTS.withDemeritIncident(
+                new DemeritIncident(rule, DemeritRuleCatalogue.BUILT_IN_VERSION, 3, rule.getPointsForOccurrence(3),
+                        "fire exit again").withRecordedAt(NOV_2));
+        store.add(ALICE_WITH_INCIDENTS);
+
+        store.update(ALICE_WITH_INCIDENTS, withNewIncident);
+
+        IncidentStore rebuilt = new IncidentStore();
+        rebuilt.add(withNewIncident);
+        IncidentQuery everything = query(null, null, null, null);
+        assertEquals(rebuilt.find(everything), store.find(everything));
+        assertEquals(rebuilt.find(query(18, null, null, "exit")), store.find(query(18, null, null, "exit")));
+    }
+
+    @Test
+    public void update_studentIdChanged_reindexesUnderNewIdWithSameIds() {
+        Person renumbered = ALICE_WITH_INCIDENTS.withStudentId(new StudentId("A7654321B"));
+        store.add(ALICE_WITH_INCIDENTS);
+        List<String> ids = store.find(query(null, null, null, null)).stream().map(IncidentRecord::getId).toList();
+
+        store.update(ALICE_WITH_INCIDENTS, renumbered);
+
+        assertEquals(3, store.size());
+        assertTrue(store.find(new IncidentQuery(null, ALICE.getStudentId(), null, null, null)).isEmpty());
+        List<IncidentRecord> renumberedRecords =
+                store.find(new IncidentQuery(null, renumbered.getStudentId(), null, null, null));
+        assertEquals(ids, renumberedRecords.stream().map(IncidentRecord::getId).toList());
+    }
+
+    @Test
+    public void remove_person_removesFromEveryIndex() {
+        store.add(ALICE_WITH_INCIDENTS);
+        store.add(BENSON_WITH_INCIDENTS);
+
+        store.remove(BENSON_WITH_INCIDENTS);
+
+        assertEquals(3, store.size());
+        assertEquals(1, store.find(query(null, null, null, "fire")).size());
+        assertTrue(store.find(query(null, OCT_1, OCT_15, null)).isEmpty());
+        assertTrue(store.find(new IncidentQuery(null, BENSON.getStudentId(), null, null, null)).isEmpty());
+    }
+
+    @Test
+    public void remove_personSharingUntimedBucket_othersKept() {
+        Person carlWithIncidents = new PersonBuilder().withStudentId("A0000003C")
+                .withDemeritIncidents(new Object[]{1, 1}, new Object[]{1, 2}).build();
+        store.add(ALICE_WITH_INCIDENTS);
+        store.add(carlWithIncidents);
+
+        store.remove(ALICE_WITH_INCIDENTS);
+
+        List<IncidentRecord> untimed = store.find(query(1, null, null, null));
+        assertEquals(List.of("A0000003C-1", "A0000003C-2"), untimed.stream().map(IncidentRecord::getId).toList());
+    }
+
+    @Test
+    public void reset_replacesContents() {
+        store.add(ALICE_WITH_INCIDENTS);
+
+        store.reset(List.of(BENSON_WITH_INCIDENTS));
+
+        assertEquals(1, store.size());
+        assertEquals(BENSON.getStudentId(), store.find(query(18, null, null, null)).get(0).residentId());
+    }
+
+    private static IncidentQuery query(Integer ruleIndex, LocalDateTime from, LocalDateTime to, String remark) {
+        return new IncidentQuery(ruleIndex, null, from, to, remark);
+    }
+}
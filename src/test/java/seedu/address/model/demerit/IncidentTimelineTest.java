@@ -0,0 +1,68 @@
+package seedu.address.model.demerit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class IncidentTimelineTest {
+
+    private static final LocalDateTime JAN_10 = LocalDateTime.of(2026, 1, 10, 9, 0);
+    private static final LocalDateTime FEB_10 = LocalDateTime.of(2026, 2, 10, 9, 0);
+    private static final LocalDateTime MAR_10 = LocalDateTime.of(2026, 3, 10, 9, 0);
+
+    private static DemeritIncident incidentAt(int ruleIndex, LocalDateTime recordedAt) {
+        DemeritIncident incident = new DemeritIncident(ruleIndex, 1, 1, 3, "");
+        return recordedAt == null ? incident : incident.withRecordedAt(recordedAt);
+    }
+
+    @Test
+    public void of_unorderedIncidents_countsByWindow() {
+        IncidentTimeline timeline = IncidentTimeline.of(List.of(
+                incidentAt(21, MAR_10), incidentAt(21, JAN_10), incidentAt(3, FEB_10), incidentAt(21, FEB_10)));
+
+        assertEquals(3, timeline.countOccurrences(21));
+        assertEquals(2, timeline.countOccurrencesSince(21, FEB_10));
+        assertEquals(1, timeline.countOccurrencesBetween(21, FEB_10, MAR_10));
+        assertEquals(0, timeline.countOccurrencesBetween(21, MAR_10, FEB_10));
+        assertEquals(1, timeline.countOccurrences(3));
+        assertEquals(0, timeline.countOccurrences(4));
+        assertEquals(0, timeline.countOccurrences(99));
+        assertEquals(0, timeline.countOccurrences(-1));
+    }
+
+    @Test
+    public void of_untimedIncidents_onlyCountedAcrossAllTime() {
+        IncidentTimeline timeline = IncidentTimeline.of(List.of(incidentAt(21, null), incidentAt(21, FEB_10)));
+
+        assertEquals(2, timeline.countOccurrences(21));
+        assertEquals(1, timeline.countOccurrencesSince(21, JAN_10));
+    }
+
+    @Test
+    public void with_incident_addsToCopyOnly() {
+        IncidentTimeline original = IncidentTimeline.of(List.of(incidentAt(21, FEB_10)));
+
+        IncidentTimeline updated = original.with(incidentAt(21, JAN_10)).with(incidentAt(30, MAR_10));
+
+        assertEquals(1, original.countOccurrences(21));
+        assertEquals(0, original.countOccurrences(30));
+        assertEquals(2, updated.countOccurrences(21));
+        assertEquals(1, updated.countOccurrencesBetween(21, JAN_10, FEB_10));
+        assertEquals(1, updated.countOccurrencesSince(30, MAR_10));
+        assertEquals(updated.countOccurrences(-1), original.with(incidentAt(-1, JAN_10)).countOccurrences(-1));
+    }
+
+    @Test
+    public void of_ruleIndexAboveMaximum_countedWithoutArraySlot() {
+        int strayIndex = Integer.MAX_VALUE - 1;
+        IncidentTimeline timeline = IncidentTimeline.of(List.of(incidentAt(strayIndex, JAN_10), incidentAt(21, FEB_10)))
+                .with(incidentAt(strayIndex, MAR_10));
+
+        assertEquals(2, timeline.countOccurrences(strayIndex));
+        assertEquals(1, timeline.countOccurrencesSince(strayIndex, FEB_10));
+        assertEquals(1, timeline.countOccurrences(21));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
@@ -9,12 +10,14 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_STUDENTID_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_MAJOR;
+import static seedu.address.model.demerit.DemeritRuleCatalogue.BUILT_IN_VERSION;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.demerit.DemeritIncident;
 import seedu.address.model.util.PersonBuilder;
 
 public class PersonTest {
@@ -25,6 +28,76 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void demeritAggregates_builtFromIncidents() {
+        Person person = new PersonBuilder().withDemeritIncidents(
+                new Object[]{"21", "1"}, new Object[]{"21", "2"}, new Object[]{"28", "1"}).build();
+        assertEquals(18, person.getTotalDemeritPoints());
+        assertEquals(2, person.getOccurrenceCountForRule(21));
+        assertEquals(1, person.getOccurrenceCountForRule(28));
+        assertEquals(0, person.getOccurrenceCountForRule(1));
+        assertEquals(0, person.getOccurrenceCountForRule(-1));
+        assertEquals(0, person.getOccurrenceCountForRule(1000));
+    }
+
+    @Test
+    public void withDemeritIncident_carriesAggregatesForward() {
+        Person person = new PersonBuilder().withDemeritIncidents(new Object[]{"21", "1"}).build();
+        DemeritIncident incident = new DemeritIncident(21, BUILT_IN_VERSION, "Excessive noise during quiet hours",
+                2, 9, "");
+        Person updatedPerson = person.withDemeritIncident(incident);
+
+        assertEquals(15, updatedPerson.getTotalDemeritPoints());
+        assertEquals(2, updatedPerson.getOccurrenceCountForRule(21));
+        assertEquals(2, updatedPerson.getDemeritIncidents().size());
+
+        // original is unchanged
+        assertEquals(6, person.getTotalDemeritPoints());
+        assertEquals(1, person.getOccurrenceCountForRule(21));
+
+        // equal to a person built from the same incidents
+        Person expectedPerson = new PersonBuilder().withDemeritIncidents(
+                new Object[]{"21", "1"}, new Object[]{"21", "2"}).build();
+        assertEquals(expectedPerson, updatedPerson);
+
+        // rule index outside the catalogue grows the occurrence table
+        Person unknownRule = person.withDemeritIncident(
+                new DemeritIncident(99, BUILT_IN_VERSION, "Retired rule", 1, 3, ""));
+        assertEquals(1, unknownRule.getOccurrenceCountForRule(99));
+        assertEquals(9, unknownRule.getTotalDemeritPoints());
+    }
+
+    @Test
+    public void withers_replaceOneFieldAndShareTheRest() {
+        Person person = new PersonBuilder(ALICE).withDemeritIncidents(new Object[]{"21", "1"}).build();
+
+        Person renamed = person.withName(new Name(VALID_NAME_BOB));
+        assertEquals(new PersonBuilder(person).withName(VALID_NAME_BOB).build(), renamed);
+        assertSame(person.getTags(), renamed.getTags());
+        assertSame(person.getDemeritIncidents(), renamed.getDemeritIncidents());
+        assertEquals(person.getTotalDemeritPoints(), renamed.getTotalDemeritPoints());
+
+        Person retagged = person.withTags(new PersonBuilder().withTags(VALID_TAG_MAJOR).build().getTags());
+        assertEquals(new PersonBuilder(person).withTags(VALID_TAG_MAJOR).build(), retagged);
+        assertSame(person.getDemeritIncidents(), retagged.getDemeritIncidents());
+
+        assertThrows(NullPointerException.class, () -> person.withRemark(null));
+    }
+
+    @Test
+    public void withStudentId_incidentKeptUnderFirstStudentId() {
+        Person person = new PersonBuilder(ALICE).withDemeritIncidents(new Object[]{"21", "1"}).build();
+        assertEquals(ALICE.getStudentId(), person.getIncidentKey());
+
+        Person renumbered = person.withStudentId(new StudentId(VALID_STUDENTID_BOB));
+        assertEquals(ALICE.getStudentId(), renumbered.getIncidentKey());
+        assertEquals(new PersonBuilder(person).withStudentId(VALID_STUDENTID_BOB).build(), renumbered);
+
+        // no incidents yet -> filed under the new student ID
+        Person withoutIncidents = ALICE.withStudentId(new StudentId(VALID_STUDENTID_BOB));
+        assertEquals(new StudentId(VALID_STUDENTID_BOB), withoutIncidents.getIncidentKey());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -43,6 +44,14 @@ public class RoomNumberTest {
         assertTrue(RoomNumber.isValidRoomNumber("99Z")); // period in local part
     }
 
+    @Test
+    public void getFloorAndUnit() {
+        RoomNumber roomNumber = new RoomNumber("07b");
+        assertEquals(7, roomNumber.getFloor());
+        assertEquals('B', roomNumber.getUnit());
+        assertEquals(12, new RoomNumber("12R").getFloor());
+    }
+
     @Test
     public void equals() {
         RoomNumber roomNumber = new RoomNumber("10B");
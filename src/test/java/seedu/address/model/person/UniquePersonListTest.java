@@ -3,18 +3,26 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_STUDENTID_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_MAJOR;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.exceptions.DuplicateIncidentKeyException;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.util.PersonBuilder;
@@ -47,6 +55,65 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void getPersonByStudentId_nullStudentId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.getPersonByStudentId(null));
+    }
+
+    @Test
+    public void getPersonByStudentId_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Optional.of(BOB), uniquePersonList.getPersonByStudentId(BOB.getStudentId()));
+    }
+
+    @Test
+    public void getPersonByStudentId_afterEditAndRemove_tracksChanges() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withStudentId(VALID_STUDENTID_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Optional.empty(), uniquePersonList.getPersonByStudentId(ALICE.getStudentId()));
+        assertEquals(Optional.of(editedAlice), uniquePersonList.getPersonByStudentId(editedAlice.getStudentId()));
+
+        uniquePersonList.remove(editedAlice);
+        assertEquals(Optional.empty(), uniquePersonList.getPersonByStudentId(editedAlice.getStudentId()));
+    }
+
+    @Test
+    public void getPersonByStudentId_afterSetPersons_reflectsReplacement() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertEquals(Optional.empty(), uniquePersonList.getPersonByStudentId(ALICE.getStudentId()));
+        assertEquals(Optional.of(BOB), uniquePersonList.getPersonByStudentId(BOB.getStudentId()));
+    }
+
+    @Test
+    public void isRoomOccupied_tracksAddEditAndRemove() {
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.isRoomOccupied(ALICE));
+
+        Person movedAlice = new PersonBuilder(ALICE).withRoomNumber("12B").build();
+        uniquePersonList.setPerson(ALICE, movedAlice);
+        assertFalse(uniquePersonList.isRoomOccupied(ALICE));
+        assertEquals(Optional.of(movedAlice), uniquePersonList.getPersonByRoomNumber(new RoomNumber("12B")));
+
+        uniquePersonList.remove(movedAlice);
+        assertFalse(uniquePersonList.isRoomOccupied(movedAlice));
+    }
+
+    @Test
+    public void getOccupiedAndFreeRooms_returnsRoomsOnFloorOnly() {
+        uniquePersonList.add(new PersonBuilder(ALICE).withRoomNumber("12C").build());
+        uniquePersonList.add(new PersonBuilder(BOB).withRoomNumber("12A").build());
+
+        assertEquals(List.of(new RoomNumber("12A"), new RoomNumber("12C")), uniquePersonList.getOccupiedRooms(12));
+        List<RoomNumber> freeRooms = uniquePersonList.getFreeRooms(12);
+        assertEquals(24, freeRooms.size());
+        assertEquals(new RoomNumber("12B"), freeRooms.get(0));
+        assertFalse(freeRooms.contains(new RoomNumber("12C")));
+        assertEquals(26, uniquePersonList.getFreeRooms(1).size());
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -119,6 +186,13 @@ public class UniquePersonListTest {
         assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(ALICE));
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName(VALID_NAME_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
     @Test
     public void remove_existingPerson_removesPerson() {
         uniquePersonList.add(ALICE);
@@ -127,6 +201,17 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_thenSetPerson_editsPersonAtShiftedPosition() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        Person editedCarl = new PersonBuilder(CARL).withName(VALID_NAME_BOB).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        assertEquals(List.of(BENSON, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +247,81 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void findSharedRooms_ignoresRepeatedStudentId() {
+        Person aliceInBobRoom = new PersonBuilder(ALICE).withRoomNumber(BOB.getRoomNumber().value).build();
+        assertTrue(UniquePersonList.findSharedRooms(Arrays.asList(ALICE, ALICE)).isEmpty());
+        assertEquals(Set.of(BOB.getRoomNumber()),
+                UniquePersonList.findSharedRooms(Arrays.asList(ALICE, BOB, aliceInBobRoom)));
+        assertEquals(Set.of(ALICE.getStudentId()),
+                UniquePersonList.findDuplicateStudentIds(Arrays.asList(ALICE, BOB, aliceInBobRoom)));
+    }
+
+    @Test
+    public void add_studentIdStillFilingEditedPersonsIncidents_throwsDuplicateIncidentKeyException() {
+        Person aliceWithIncident = new PersonBuilder(ALICE).withDemeritIncidents(new Object[] {18, 1}).build();
+        uniquePersonList.add(aliceWithIncident);
+        Person renumberedAlice = aliceWithIncident.withStudentId(CARL.getStudentId());
+        uniquePersonList.setPerson(aliceWithIncident, renumberedAlice);
+
+        Person newcomer = new PersonBuilder(BENSON).withStudentId(ALICE.getStudentId().value).build();
+        assertThrows(DuplicateIncidentKeyException.class, () -> uniquePersonList.add(newcomer));
+        assertEquals(Optional.of(renumberedAlice), uniquePersonList.getPersonByIncidentKey(ALICE.getStudentId()));
+    }
+
+    @Test
+    public void setPerson_studentIdStillFilingAnotherPersonsIncidents_throwsDuplicateIncidentKeyException() {
+        Person aliceWithIncident = new PersonBuilder(ALICE).withDemeritIncidents(new Object[] {18, 1}).build();
+        uniquePersonList.add(aliceWithIncident);
+        uniquePersonList.setPerson(aliceWithIncident, aliceWithIncident.withStudentId(CARL.getStudentId()));
+        uniquePersonList.add(BENSON);
+
+        assertThrows(DuplicateIncidentKeyException.class, () ->
+                uniquePersonList.setPerson(BENSON, BENSON.withStudentId(ALICE.getStudentId())));
+    }
+
+    @Test
+    public void findSharedIncidentKeys_keyIsAnotherPersonsStudentId_reportsKey() {
+        Person renumberedAlice = new PersonBuilder(ALICE).withDemeritIncidents(new Object[] {18, 1}).build()
+                .withStudentId(CARL.getStudentId());
+        Person newcomer = new PersonBuilder(BENSON).withStudentId(ALICE.getStudentId().value).build();
+        assertTrue(UniquePersonList.findSharedIncidentKeys(Arrays.asList(renumberedAlice, BENSON)).isEmpty());
+        assertEquals(Set.of(ALICE.getStudentId()),
+                UniquePersonList.findSharedIncidentKeys(Arrays.asList(renumberedAlice, newcomer)));
+        assertThrows(DuplicateIncidentKeyException.class, () ->
+                uniquePersonList.setPersons(Arrays.asList(renumberedAlice, newcomer)));
+    }
+
+    @Test
+    public void getChangedSince_recentChanges_listed() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        long version = uniquePersonList.getVersion();
+        assertEquals(Optional.of(Set.of()), uniquePersonList.getChangedSince(version));
+
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Tan").build());
+        assertEquals(version + 2, uniquePersonList.getVersion());
+        assertEquals(Optional.of(Set.of(ALICE.getStudentId(), BENSON.getStudentId())),
+                uniquePersonList.getChangedSince(version));
+        assertEquals(Optional.empty(), uniquePersonList.getChangedSince(version + 100));
+    }
+
+    @Test
+    public void getChangedSince_beforeResetOrTooManyChanges_unknown() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        long beforeReset = uniquePersonList.getVersion() - 1;
+        assertEquals(Optional.empty(), uniquePersonList.getChangedSince(beforeReset));
+
+        long version = uniquePersonList.getVersion();
+        for (int i = 0; i <= UniquePersonList.MAX_LOGGED_CHANGES; i++) {
+            uniquePersonList.remove(ELLE);
+            uniquePersonList.add(ELLE);
+        }
+        assertEquals(Optional.empty(), uniquePersonList.getChangedSince(version));
+        assertEquals(Optional.of(Set.of(ELLE.getStudentId())),
+                uniquePersonList.getChangedSince(uniquePersonList.getVersion() - 1));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
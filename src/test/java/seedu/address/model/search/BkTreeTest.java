@@ -0,0 +1,102 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.commons.text.similarity.LevenshteinDistance;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.StudentId;
+
+public class BkTreeTest {
+
+    private static final StudentId ALICE_ID = new StudentId("A1234567X");
+    private static final StudentId BENSON_ID = new StudentId("A8765432Y");
+    private static final StudentId CARL_ID = new StudentId("A1111111X");
+    private static final StudentId DANIEL_ID = new StudentId("A2222222X");
+
+    private final BkTree tree = new BkTree();
+
+    @Test
+    public void findWithin_emptyTree_returnsEmptySet() {
+        assertEquals(Set.of(), tree.findWithin("kitten", 2));
+    }
+
+    @Test
+    public void findWithin_returnsValuesWithinDistance() {
+        tree.add("kitten", ALICE_ID);
+        tree.add("sitting", BENSON_ID);
+        tree.add("mitten", CARL_ID);
+        tree.add("kitten", DANIEL_ID);
+
+        assertEquals(Set.of(ALICE_ID, CARL_ID, DANIEL_ID), tree.findWithin("kitten", 1));
+        assertEquals(Set.of(ALICE_ID, BENSON_ID, CARL_ID, DANIEL_ID), tree.findWithin("sitten", 2));
+        assertEquals(Set.of(), tree.findWithin("dog", 2));
+    }
+
+    @Test
+    public void remove_valueNoLongerFound() {
+        tree.add("kitten", ALICE_ID);
+        tree.add("mitten", CARL_ID);
+        tree.remove("kitten", ALICE_ID);
+        tree.remove("absent", BENSON_ID);
+
+        assertEquals(Set.of(CARL_ID), tree.findWithin("kitten", 1));
+
+        tree.clear();
+        assertEquals(Set.of(), tree.findWithin("mitten", 0));
+    }
+
+    @Test
+    public void remove_emptyLeaf_pruned() {
+        tree.add("kitten", ALICE_ID);
+        tree.add("mitten", CARL_ID);
+        tree.add("mitten", DANIEL_ID);
+
+        tree.remove("mitten", CARL_ID);
+        assertEquals(2, tree.getNodeCount());
+        tree.remove("mitten", DANIEL_ID);
+        assertEquals(1, tree.getNodeCount());
+        tree.remove("kitten", ALICE_ID);
+        assertEquals(0, tree.getNodeCount());
+        assertEquals(Set.of(), tree.findWithin("kitten", 2));
+    }
+
+    @Test
+    public void remove_mostlyEmptyInteriorNodes_treeRebuilt() {
+        String[] values = {"alice", "alicia", "alison", "benson", "bensen", "carl", "karl", "daniel"};
+        for (int i = 0; i < values.length; i++) {
+            tree.add(values[i], new StudentId(String.format("A%07dX", i)));
+        }
+        tree.add("danielle", ALICE_ID);
+
+        for (int i = 0; i < values.length; i++) {
+            tree.remove(values[i], new StudentId(String.format("A%07dX", i)));
+        }
+
+        assertEquals(1, tree.getNodeCount());
+        assertEquals(Set.of(ALICE_ID), tree.findWithin("daniela", 2));
+        tree.add("alice", BENSON_ID);
+        assertEquals(Set.of(BENSON_ID), tree.findWithin("alise", 1));
+    }
+
+    @Test
+    public void findWithin_matchesBruteForce() {
+        String[] values = {"alice", "alicia", "alison", "benson", "bensen", "carl", "karl", "daniel", "danielle",
+            "elle", "ella", "fiona", "george", "georgia"};
+        for (int i = 0; i < values.length; i++) {
+            tree.add(values[i], new StudentId(String.format("A%07dX", i)));
+        }
+        for (String query : new String[] {"alise", "bensn", "kar", "danelle", "georg"}) {
+            Set<StudentId> expected = new HashSet<>();
+            for (int i = 0; i < values.length; i++) {
+                if (new LevenshteinDistance().apply(query, values[i]) <= 2) {
+                    expected.add(new StudentId(String.format("A%07dX", i)));
+                }
+            }
+            assertEquals(expected, tree.findWithin(query, 2));
+        }
+    }
+}
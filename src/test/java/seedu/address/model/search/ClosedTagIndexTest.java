@@ -0,0 +1,81 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagType;
+import seedu.address.model.util.PersonBuilder;
+
+public class ClosedTagIndexTest {
+
+    private final ClosedTagIndex index = new ClosedTagIndex();
+
+    @Test
+    public void isIndexed() {
+        assertTrue(ClosedTagIndex.isIndexed(TagType.YEAR));
+        assertTrue(ClosedTagIndex.isIndexed(TagType.GENDER));
+        assertFalse(ClosedTagIndex.isIndexed(TagType.MAJOR));
+    }
+
+    @Test
+    public void findMatching_keywordsUnitedIgnoringCase() {
+        getTypicalPersons().forEach(index::add);
+        BitSet matching = index.findMatching(TagType.GENDER, Set.of("He/Him", "SHE/HER", "unknown"));
+        assertEquals(Set.of(ALICE.getStudentId(), BENSON.getStudentId(), ELLE.getStudentId(),
+                FIONA.getStudentId()), index.toStudentIds(matching));
+    }
+
+    @Test
+    public void findMatching_openSetTagType_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.findMatching(TagType.MAJOR, Set.of("cs")));
+    }
+
+    @Test
+    public void countValues_allResidents() {
+        getTypicalPersons().forEach(index::add);
+        TagValueCounts yearCounts = index.countValues(TagType.YEAR, getTypicalPersons());
+        assertEquals(2, yearCounts.getCount("1"));
+        assertEquals(1, yearCounts.getCount("4"));
+        assertEquals(0, yearCounts.getCount("6"));
+        assertEquals(2, yearCounts.missingCount());
+    }
+
+    @Test
+    public void countValues_subsetOfResidents() {
+        getTypicalPersons().forEach(index::add);
+        TagValueCounts genderCounts = index.countValues(TagType.GENDER, List.of(ALICE, BENSON, CARL));
+        assertEquals(1, genderCounts.getCount("she/her"));
+        assertEquals(1, genderCounts.getCount("he/him"));
+        assertEquals(1, genderCounts.missingCount());
+    }
+
+    @Test
+    public void addAndRemove_slotsReusedAndBitsUpdated() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.remove(ALICE.getStudentId());
+        Person retaggedAlice = new PersonBuilder(ALICE).withTags(new Object[]{TagType.YEAR, "2"}).build();
+        index.add(retaggedAlice);
+
+        assertEquals(Set.of(ALICE.getStudentId(), BENSON.getStudentId()),
+                index.toStudentIds(index.findMatching(TagType.YEAR, Set.of("2"))));
+        TagValueCounts genderCounts = index.countValues(TagType.GENDER, List.of(retaggedAlice, BENSON));
+        assertEquals(0, genderCounts.getCount("she/her"));
+        assertEquals(1, genderCounts.missingCount());
+    }
+}
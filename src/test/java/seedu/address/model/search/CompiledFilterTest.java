@@ -0,0 +1,108 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.FilterDetails;
+import seedu.address.model.util.PersonBuilder;
+
+public class CompiledFilterTest {
+
+    @Test
+    public void compile_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CompiledFilter.compile(null));
+    }
+
+    @Test
+    public void compile_emptyDetails_matchesAll() {
+        CompiledFilter filter = CompiledFilter.compile(new FilterDetails());
+        assertTrue(filter.matchesAll());
+        assertTrue(filter.matches(ALICE));
+    }
+
+    @Test
+    public void matches_keywordsNormalizedAtCompileTime() {
+        FilterDetails filterDetails = new FilterDetails();
+        filterDetails.setNameKeywords(Set.of("  ALICE "));
+        filterDetails.setStudentIdKeywords(Set.of(ALICE.getStudentId().value.toLowerCase()));
+        CompiledFilter filter = CompiledFilter.compile(filterDetails);
+
+        assertFalse(filter.matchesAll());
+        assertTrue(filter.matches(ALICE));
+        assertFalse(filter.matches(BENSON));
+    }
+
+    @Test
+    public void matches_emptyFieldValue_neverMatches() {
+        FilterDetails filterDetails = new FilterDetails();
+        filterDetails.setTagMajorKeywords(Set.of("cs"));
+        CompiledFilter filter = CompiledFilter.compile(filterDetails);
+
+        assertFalse(filter.matches(new PersonBuilder(ALICE).withTags().build()));
+    }
+
+    @Test
+    public void compile_laterChangesToDetails_ignored() {
+        FilterDetails filterDetails = new FilterDetails();
+        filterDetails.setNameKeywords(Set.of("alice"));
+        CompiledFilter filter = CompiledFilter.compile(filterDetails);
+
+        filterDetails.setNameKeywords(Set.of("benson"));
+        assertTrue(filter.matches(ALICE));
+        assertFalse(filter.matches(BENSON));
+    }
+
+    @Test
+    public void implies() {
+        FilterDetails nameOnly = new FilterDetails();
+        nameOnly.setNameKeywords(Set.of("alice", "benson"));
+        FilterDetails fewerNames = new FilterDetails();
+        fewerNames.setNameKeywords(Set.of("ALICE"));
+        FilterDetails nameAndYear = new FilterDetails(nameOnly);
+        nameAndYear.setTagYearKeywords(Set.of("1"));
+        CompiledFilter nameOnlyFilter = CompiledFilter.compile(nameOnly);
+
+        // removed alternative -> narrower
+        assertTrue(CompiledFilter.compile(fewerNames).implies(nameOnlyFilter));
+        assertFalse(nameOnlyFilter.implies(CompiledFilter.compile(fewerNames)));
+
+        // added constraint on an empty field -> narrower
+        assertTrue(CompiledFilter.compile(nameAndYear).implies(nameOnlyFilter));
+        assertFalse(nameOnlyFilter.implies(CompiledFilter.compile(nameAndYear)));
+
+        // everything implies the empty filter
+        assertTrue(nameOnlyFilter.implies(CompiledFilter.compile(new FilterDetails())));
+        assertTrue(nameOnlyFilter.implies(nameOnlyFilter));
+    }
+
+    @Test
+    public void equals() {
+        FilterDetails nameAndYear = new FilterDetails();
+        nameAndYear.setNameKeywords(Set.of("alice", "benson"));
+        nameAndYear.setTagYearKeywords(Set.of("1"));
+        FilterDetails sameAfterNormalizing = new FilterDetails();
+        sameAfterNormalizing.setNameKeywords(Set.of(" BENSON", "Alice "));
+        sameAfterNormalizing.setTagYearKeywords(Set.of("1"));
+        FilterDetails nameOnly = new FilterDetails();
+        nameOnly.setNameKeywords(Set.of("alice", "benson"));
+        CompiledFilter filter = CompiledFilter.compile(nameAndYear);
+
+        assertEquals(filter, filter);
+        assertEquals(filter, CompiledFilter.compile(sameAfterNormalizing));
+        assertEquals(filter.hashCode(), CompiledFilter.compile(sameAfterNormalizing).hashCode());
+        assertEquals(filter, filter.orderedBy(List.of(SearchField.YEAR, SearchField.NAME)));
+        assertNotEquals(filter, CompiledFilter.compile(nameOnly));
+        assertNotEquals(CompiledFilter.compile(nameOnly), filter);
+        assertNotEquals(null, filter);
+    }
+}
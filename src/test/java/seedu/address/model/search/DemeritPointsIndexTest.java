@@ -0,0 +1,57 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.util.PersonBuilder;
+
+public class DemeritPointsIndexTest {
+
+    private static final Person SIX_POINTS = new PersonBuilder().withName("Six").withStudentId("A0000006X")
+            .withDemeritIncidents(new Object[]{18, 1}).build();
+    private static final Person FIFTEEN_POINTS = new PersonBuilder().withName("Fifteen").withStudentId("A0000015X")
+            .withDemeritIncidents(new Object[]{18, 1}, new Object[]{18, 2}).build();
+    private static final Person OTHER_SIX_POINTS = new PersonBuilder().withName("Other").withStudentId("A0000001X")
+            .withDemeritIncidents(new Object[]{18, 1}).build();
+
+    private final DemeritPointsIndex index = new DemeritPointsIndex();
+
+    @Test
+    public void findInRange_boundsInclusive() {
+        getTypicalPersons().forEach(index::add);
+        List.of(SIX_POINTS, FIFTEEN_POINTS, OTHER_SIX_POINTS).forEach(index::add);
+
+        assertEquals(Set.of(SIX_POINTS.getStudentId(), OTHER_SIX_POINTS.getStudentId()),
+                index.findInRange(PointRange.parse("1-6")));
+        assertEquals(Set.of(FIFTEEN_POINTS.getStudentId()), index.findInRange(PointRange.parse("15-")));
+        assertEquals(getTypicalPersons().size(), index.countInRange(PointRange.parse("0")));
+    }
+
+    @Test
+    public void findHighest_mostPointsFirstTiesByStudentId() {
+        getTypicalPersons().forEach(index::add);
+        List.of(SIX_POINTS, FIFTEEN_POINTS, OTHER_SIX_POINTS).forEach(index::add);
+
+        assertEquals(List.of(FIFTEEN_POINTS.getStudentId(), OTHER_SIX_POINTS.getStudentId()), index.findHighest(2));
+        // residents without points are never listed
+        assertEquals(3, index.findHighest(100).size());
+    }
+
+    @Test
+    public void add_existingResident_pointsReplaced() {
+        index.add(SIX_POINTS);
+        index.add(SIX_POINTS.withDemeritIncident(FIFTEEN_POINTS.getDemeritIncidents().get(1)));
+
+        assertEquals(Set.of(), index.findInRange(PointRange.parse("6")));
+        assertEquals(1, index.countInRange(PointRange.parse("15")));
+
+        index.remove(SIX_POINTS.getStudentId());
+        assertEquals(List.of(), index.findHighest(1));
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.StudentId;
+
+public class FuzzyFieldIndexTest {
+
+    private static final StudentId ALICE_ID = new StudentId("A1234567X");
+    private static final StudentId BENSON_ID = new StudentId("A8765432Y");
+    private static final StudentId CARL_ID = new StudentId("A1111111X");
+
+    private final FuzzyFieldIndex index = new FuzzyFieldIndex();
+
+    @Test
+    public void findCandidates_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.findCandidates(null));
+    }
+
+    @Test
+    public void findCandidates_shortQuery_cannotNarrow() {
+        index.add(ALICE_ID, "Alice Pauline");
+        assertEquals(Optional.empty(), index.findCandidates("al"));
+    }
+
+    @Test
+    public void findCandidates_substringQuery_ignoresCaseAndWhitespace() {
+        index.add(ALICE_ID, "Alice Pauline");
+        index.add(BENSON_ID, "Benson Meier");
+
+        assertEquals(Optional.of(Set.of(ALICE_ID)), index.findCandidates("ALI"));
+        assertEquals(Optional.of(Set.of(BENSON_ID)), index.findCandidates(" meier "));
+    }
+
+    @Test
+    public void findCandidates_typoQuery_includesValuesWithinTypoDistance() {
+        index.add(ALICE_ID, "Alice Pauline");
+        index.add(CARL_ID, "Carl Kurz");
+
+        // "carl kurt" is not a substring of "carl kurz" but is within typo distance of it
+        assertEquals(Optional.of(Set.of(CARL_ID)), index.findCandidates("carl kurt"));
+        // typo matching does not apply to short queries
+        assertEquals(Optional.of(Set.of()), index.findCandidates("crl"));
+    }
+
+    @Test
+    public void addAndRemove_keepIndexCurrent() {
+        index.add(ALICE_ID, "Alice Pauline");
+        index.add(ALICE_ID, "Amy Bee");
+        assertEquals(Optional.of(Set.of()), index.findCandidates("alice pauline"));
+        assertTrue(index.findCandidates("amy").get().contains(ALICE_ID));
+
+        index.remove(ALICE_ID);
+        assertEquals(Optional.of(Set.of()), index.findCandidates("amy bee"));
+
+        index.add(BENSON_ID, "Benson");
+        index.add(CARL_ID, "");
+        index.clear();
+        assertEquals(Optional.of(Set.of()), index.findCandidates("benson"));
+    }
+}
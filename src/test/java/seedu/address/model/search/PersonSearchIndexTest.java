@@ -0,0 +1,109 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.FilterDetails;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesDetailsPredicate;
+import seedu.address.model.util.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    /** Stands in for the version of the resident list, which changes whenever the index is updated. */
+    private long listVersion;
+    private final PersonSearchIndex index = new PersonSearchIndex(() -> listVersion);
+
+    @Test
+    public void findCandidates_noIndexableKeywords_cannotNarrow() {
+        index.reset(getTypicalPersons());
+        FilterDetails filterDetails = new FilterDetails();
+        assertEquals(Optional.empty(), index.findCandidates(filterDetails));
+
+        filterDetails.setStudentIdKeywords(Set.of(ALICE.getStudentId().value));
+        assertEquals(Optional.empty(), index.findCandidates(filterDetails));
+    }
+
+    @Test
+    public void findCandidates_keywordsUnitedWithinFieldAndIntersectedAcrossFields() {
+        index.reset(getTypicalPersons());
+        FilterDetails filterDetails = new FilterDetails();
+        filterDetails.setNameKeywords(Set.of("alice", "benson"));
+        assertEquals(Optional.of(Set.of(ALICE.getStudentId(), BENSON.getStudentId())),
+                index.findCandidates(filterDetails));
+
+        filterDetails.setEmailKeywords(Set.of("johnd"));
+        assertEquals(Optional.of(Set.of(BENSON.getStudentId())), index.findCandidates(filterDetails));
+    }
+
+    @Test
+    public void findCandidates_closedSetTagsIntersectedWithOtherFields() {
+        index.reset(getTypicalPersons());
+        FilterDetails filterDetails = new FilterDetails();
+        filterDetails.setTagYearKeywords(Set.of("1", "2"));
+        filterDetails.setTagGenderKeywords(Set.of("she/her"));
+        assertEquals(Optional.of(Set.of(ALICE.getStudentId(), ELLE.getStudentId())),
+                index.findCandidates(filterDetails));
+
+        filterDetails.setNameKeywords(Set.of("alice"));
+        assertEquals(Optional.of(Set.of(ALICE.getStudentId())), index.findCandidates(filterDetails));
+    }
+
+    @Test
+    public void narrow_matchesFullScan() {
+        index.reset(getTypicalPersons());
+        FilterDetails filterDetails = new FilterDetails();
+        filterDetails.setNameKeywords(Set.of("meier", "kurz"));
+        PersonMatchesDetailsPredicate predicate = new PersonMatchesDetailsPredicate(filterDetails);
+        Predicate<Person> narrowed = index.narrow(index.planQuery(filterDetails));
+
+        for (Person person : getTypicalPersons()) {
+            assertEquals(predicate.test(person), narrowed.test(person));
+        }
+    }
+
+    @Test
+    public void narrow_indexChanged_fallsBackToPredicate() {
+        index.add(ALICE);
+        FilterDetails filterDetails = new FilterDetails();
+        filterDetails.setNameKeywords(Set.of("xavier"));
+        Predicate<Person> narrowed = index.narrow(index.planQuery(filterDetails));
+
+        Person xavier = new PersonBuilder().withName("Xavier").withStudentId("A0000001X").build();
+        assertFalse(narrowed.test(xavier));
+
+        index.add(xavier);
+        listVersion++;
+        assertTrue(narrowed.test(xavier));
+    }
+
+    @Test
+    public void narrow_cannotNarrow_returnsPlan() {
+        QueryPlan plan = index.planQuery(new FilterDetails());
+        assertSame(plan, index.narrow(plan));
+    }
+
+    @Test
+    public void narrow_planMadeBeforeIndexChanged_returnsPlan() {
+        index.add(ALICE);
+        FilterDetails filterDetails = new FilterDetails();
+        filterDetails.setNameKeywords(Set.of("xavier"));
+        QueryPlan plan = index.planQuery(filterDetails);
+
+        index.add(new PersonBuilder().withName("Xavier").withStudentId("A0000001X").build());
+        listVersion++;
+        assertSame(plan, index.narrow(plan));
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PointRangeTest {
+
+    @Test
+    public void isValidRange() {
+        assertTrue(PointRange.isValidRange("10"));
+        assertTrue(PointRange.isValidRange("10-20"));
+        assertTrue(PointRange.isValidRange(" 25 - "));
+        assertTrue(PointRange.isValidRange("-5"));
+
+        assertFalse(PointRange.isValidRange(""));
+        assertFalse(PointRange.isValidRange("-"));
+        assertFalse(PointRange.isValidRange("20-10"));
+        assertFalse(PointRange.isValidRange("1-2-3"));
+        assertFalse(PointRange.isValidRange("ten"));
+        assertFalse(PointRange.isValidRange("12345678"));
+    }
+
+    @Test
+    public void parse_validRanges_canonicalForm() {
+        assertEquals(new PointRange(10, 10), PointRange.parse("10"));
+        assertEquals(new PointRange(25, Integer.MAX_VALUE), PointRange.parse("25-"));
+        assertEquals(new PointRange(0, 5), PointRange.parse("-5"));
+        assertEquals("25-", PointRange.parse(" 25 - ").toString());
+        assertEquals("0-5", PointRange.parse("-5").toString());
+        assertEquals("7", PointRange.parse("7-7").toString());
+    }
+
+    @Test
+    public void parse_invalidRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, PointRange.MESSAGE_CONSTRAINTS, () -> PointRange.parse("9-1"));
+    }
+
+    @Test
+    public void contains_boundsInclusive() {
+        PointRange range = PointRange.parse("10-20");
+        assertTrue(range.contains(10));
+        assertTrue(range.contains(20));
+        assertFalse(range.contains(9));
+        assertFalse(range.contains(21));
+    }
+}
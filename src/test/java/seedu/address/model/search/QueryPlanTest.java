@@ -0,0 +1,120 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.FilterDetails;
+import seedu.address.model.person.Person;
+
+public class QueryPlanTest {
+
+    private final PersonSearchIndex index = new PersonSearchIndex(() -> 0);
+
+    @Test
+    public void planQuery_fieldsOrderedByEstimatedMatches() {
+        index.reset(getTypicalPersons());
+        FilterDetails filterDetails = new FilterDetails();
+        filterDetails.setNameKeywords(Set.of("e"));
+        filterDetails.setTagGenderKeywords(Set.of("she/her"));
+        filterDetails.setStudentIdKeywords(Set.of(ALICE.getStudentId().value));
+
+        QueryPlan plan = index.planQuery(filterDetails);
+
+        assertEquals(List.of(new QueryPlan.Step(SearchField.STUDENT_ID, 1), new QueryPlan.Step(SearchField.GENDER, 3),
+                new QueryPlan.Step(SearchField.NAME, 7)), plan.getSteps());
+    }
+
+    @Test
+    public void planQuery_equalEstimates_exactFieldFirst() {
+        index.reset(getTypicalPersons());
+        FilterDetails filterDetails = new FilterDetails();
+        filterDetails.setNameKeywords(Set.of("a"));
+        filterDetails.setTagYearKeywords(Set.of("1", "2", "3", "4", "5"));
+        filterDetails.setTagGenderKeywords(Set.of("she/her", "he/him", "they/them"));
+
+        List<QueryPlan.Step> steps = index.planQuery(filterDetails).getSteps();
+
+        assertEquals(SearchField.NAME, steps.get(2).field());
+    }
+
+    @Test
+    public void test_sameResultAsCompiledFilter() {
+        index.reset(getTypicalPersons());
+        FilterDetails filterDetails = new FilterDetails();
+        filterDetails.setNameKeywords(Set.of("meier", "alice"));
+        filterDetails.setTagYearKeywords(Set.of("1", "3"));
+        QueryPlan plan = index.planQuery(filterDetails);
+        CompiledFilter filter = CompiledFilter.compile(filterDetails);
+
+        for (Person person : getTypicalPersons()) {
+            assertEquals(filter.matches(person), plan.test(person));
+        }
+    }
+
+    @Test
+    public void explain_noConstraints_everyResidentMatches() {
+        QueryPlan.Explanation explanation = index.planQuery(new FilterDetails()).explain(getTypicalPersons());
+
+        assertEquals(List.of(), explanation.stepRuns());
+        assertEquals(OptionalInt.empty(), explanation.candidateCount());
+        assertEquals(7, explanation.matchedCount());
+        assertEquals(String.format(QueryPlan.MESSAGE_MATCH_ALL_PLAN, 7), explanation.format());
+    }
+
+    @Test
+    public void planQuery_candidatesOfEachFieldIntersected() {
+        index.reset(getTypicalPersons());
+        FilterDetails filterDetails = new FilterDetails();
+        filterDetails.setNameKeywords(Set.of("alice", "benson"));
+        filterDetails.setTagGenderKeywords(Set.of("he/him"));
+
+        assertEquals(Optional.of(Set.of(BENSON.getStudentId())), index.planQuery(filterDetails).getCandidates());
+        assertEquals(Optional.empty(), index.planQuery(new FilterDetails()).getCandidates());
+    }
+
+    @Test
+    public void explain_candidatesFound_firstStepTestsOnlyCandidates() {
+        index.reset(getTypicalPersons());
+        FilterDetails filterDetails = new FilterDetails();
+        filterDetails.setNameKeywords(Set.of("alice", "benson"));
+        filterDetails.setTagGenderKeywords(Set.of("he/him"));
+        QueryPlan plan = index.planQuery(filterDetails);
+
+        QueryPlan.Explanation explanation = plan.explain(getTypicalPersons());
+
+        assertEquals(7, explanation.residentCount());
+        assertEquals(OptionalInt.of(1), explanation.candidateCount());
+        List<QueryPlan.StepRun> stepRuns = explanation.stepRuns();
+        assertEquals(plan.getSteps(), stepRuns.stream().map(QueryPlan.StepRun::step).toList());
+        assertEquals(List.of(1, 1), stepRuns.stream().map(QueryPlan.StepRun::tested).toList());
+        assertEquals(List.of(1, 1), stepRuns.stream().map(QueryPlan.StepRun::kept).toList());
+        assertEquals(1, explanation.matchedCount());
+    }
+
+    @Test
+    public void explain_stepRejectsResidents_laterStepsTestOnlySurvivors() {
+        index.reset(getTypicalPersons());
+        FilterDetails filterDetails = new FilterDetails();
+        filterDetails.setNameKeywords(Set.of("a"));
+        filterDetails.setStudentIdKeywords(Set.of(ALICE.getStudentId().value));
+
+        QueryPlan.Explanation explanation = index.planQuery(filterDetails).explain(getTypicalPersons());
+
+        assertEquals(List.of(new QueryPlan.StepRun(new QueryPlan.Step(SearchField.STUDENT_ID, 1), 7, 1, 0),
+                new QueryPlan.StepRun(new QueryPlan.Step(SearchField.NAME, 7), 1, 1, 0)),
+                explanation.stepRuns().stream()
+                        .map(run -> new QueryPlan.StepRun(run.step(), run.tested(), run.kept(), 0))
+                        .toList());
+        assertEquals(OptionalInt.empty(), explanation.candidateCount());
+        assertEquals(1, explanation.matchedCount());
+    }
+}
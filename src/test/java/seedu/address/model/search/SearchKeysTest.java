@@ -0,0 +1,60 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Remark;
+import seedu.address.model.tag.TagType;
+import seedu.address.model.util.PersonBuilder;
+
+public class SearchKeysTest {
+
+    private static final Person PERSON = new PersonBuilder().withName("Alice Pauline").withEmail("Alice@Example.com")
+            .withTags(new Object[]{TagType.MAJOR, "Computer Science"}).build();
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> SearchKeys.of(null));
+    }
+
+    @Test
+    public void of_normalizesEveryField() {
+        SearchKeys keys = SearchKeys.of(PERSON);
+        assertEquals("alice pauline", keys.get(SearchField.NAME));
+        assertEquals("alice@example.com", keys.get(SearchField.EMAIL));
+        assertEquals("computer science", keys.get(SearchField.MAJOR));
+        assertEquals("", keys.get(SearchField.GENDER));
+    }
+
+    @Test
+    public void update_noChangedFields_returnsSameKeys() {
+        SearchKeys keys = SearchKeys.of(PERSON);
+        assertSame(keys, keys.update(PERSON.withRemark(new Remark("Quiet"))));
+    }
+
+    @Test
+    public void update_changedField_recomputesOnlyThatField() {
+        SearchKeys keys = SearchKeys.of(PERSON);
+        Person renamed = PERSON.withName(new Name("Bob Choo"));
+        SearchKeys updated = keys.update(renamed, SearchField.NAME);
+
+        assertEquals("bob choo", updated.get(SearchField.NAME));
+        assertSame(keys.get(SearchField.EMAIL), updated.get(SearchField.EMAIL));
+        assertEquals("alice pauline", keys.get(SearchField.NAME));
+    }
+
+    @Test
+    public void personWithers_keepSearchKeysInStep() {
+        Person edited = PERSON.withName(new Name("Bob Choo")).withTags(Map.of());
+        assertEquals("bob choo", edited.getSearchKey(SearchField.NAME));
+        assertEquals("", edited.getSearchKey(SearchField.MAJOR));
+        assertEquals("alice@example.com", edited.getSearchKey(SearchField.EMAIL));
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.StudentId;
+
+public class TrigramIndexTest {
+
+    private static final StudentId ALICE_ID = new StudentId("A1234567X");
+    private static final StudentId BENSON_ID = new StudentId("A8765432Y");
+    private static final StudentId CARL_ID = new StudentId("A1111111X");
+
+    private final TrigramIndex index = new TrigramIndex();
+
+    @Test
+    public void findSubstringCandidates_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.findSubstringCandidates(null));
+    }
+
+    @Test
+    public void findSubstringCandidates_shortQuery_cannotNarrow() {
+        index.add(ALICE_ID, "alice pauline");
+        assertEquals(Optional.empty(), index.findSubstringCandidates("al"));
+    }
+
+    @Test
+    public void findSubstringCandidates_returnsValuesContainingAllTrigrams() {
+        index.add(ALICE_ID, "alice pauline");
+        index.add(BENSON_ID, "benson meier");
+        index.add(CARL_ID, "carl kurz");
+
+        assertEquals(Optional.of(Set.of(ALICE_ID)), index.findSubstringCandidates("ali"));
+        assertEquals(Optional.of(Set.of(BENSON_ID)), index.findSubstringCandidates("meier"));
+        assertEquals(Optional.of(Set.of()), index.findSubstringCandidates("xyz"));
+    }
+
+    @Test
+    public void remove_dropsPostings() {
+        index.add(ALICE_ID, "amy bee");
+        index.add(BENSON_ID, "amy");
+        index.remove(ALICE_ID, "amy bee");
+        assertEquals(Optional.of(Set.of(BENSON_ID)), index.findSubstringCandidates("amy"));
+        assertEquals(Optional.of(Set.of()), index.findSubstringCandidates("bee"));
+
+        index.clear();
+        assertEquals(Optional.of(Set.of()), index.findSubstringCandidates("amy"));
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.tag;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -22,6 +24,15 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> new Tag(TagType.MAJOR, null));
     }
 
+    @Test
+    public void of_equalTags_returnsSameInstance() {
+        Tag first = Tag.of(TagType.MAJOR, "Computer Science");
+        assertSame(first, Tag.of(TagType.MAJOR, "Computer Science"));
+        assertEquals(new Tag(TagType.MAJOR, "Computer Science"), first);
+        assertNotSame(first, Tag.of(TagType.MAJOR, "Physics"));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(TagType.YEAR, "0"));
+    }
+
     @Test
     public void constructor_invalidYearTag_throwsIllegalArgumentException() {
 
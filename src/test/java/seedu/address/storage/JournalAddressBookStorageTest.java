@@ -0,0 +1,194 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChange;
+import seedu.address.model.util.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JournalAddressBookStorage storage;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("hall-ledger.json");
+        storage = new JournalAddressBookStorage(filePath);
+        addressBook = getTypicalAddressBook();
+        // The first save writes a snapshot, as nothing is known about the data file
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_snapshotOnly() {
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(addressBook, readWithNewStorage());
+    }
+
+    @Test
+    public void saveAddressBookChanges_oneResidentEdited_oneRecordAppended() throws Exception {
+        Person editedAlice = new PersonBuilder(ALICE).withRemark("Moved in early").build();
+        addressBook.setPerson(ALICE, editedAlice);
+
+        storage.saveAddressBookChanges(addressBook, List.of(new PersonChange(ALICE, editedAlice)));
+
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(addressBook, readWithNewStorage());
+    }
+
+    @Test
+    public void saveAddressBookChanges_noChanges_nothingAppended() throws Exception {
+        storage.saveAddressBookChanges(addressBook, List.of());
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_addsRemovesAndStudentIdEdits_replayedInOrder() throws Exception {
+        addressBook.addPerson(HOON);
+        storage.saveAddressBookChanges(addressBook, List.of(PersonChange.added(HOON)));
+        Person renumberedAlice = new PersonBuilder(ALICE).withStudentId("A7654321B").build();
+        addressBook.removePerson(BENSON);
+        addressBook.setPerson(ALICE, renumberedAlice);
+        storage.saveAddressBookChanges(addressBook,
+                List.of(PersonChange.removed(BENSON), new PersonChange(ALICE, renumberedAlice)));
+
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(addressBook, readWithNewStorage());
+    }
+
+    @Test
+    public void saveAddressBookChanges_dataFileNotKnown_snapshotWritten() throws Exception {
+        storage = new JournalAddressBookStorage(filePath);
+        addressBook.removePerson(BENSON);
+
+        storage.saveAddressBookChanges(addressBook, List.of(PersonChange.removed(BENSON)));
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(addressBook, readWithNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_afterChanges_snapshotWrittenAndJournalDeleted() throws Exception {
+        removeBenson();
+        addressBook.addPerson(HOON);
+
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().orElseThrow());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignored() throws Exception {
+        removeBenson();
+        Files.writeString(storage.getJournalFilePath(), "{\"op\":\"remove\",\"stud", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        assertEquals(addressBook, readWithNewStorage());
+    }
+
+    @Test
+    public void readAddressBook_invalidRecordBeforeLast_throwsDataLoadingException() throws Exception {
+        Files.write(storage.getJournalFilePath(), List.of("{\"op\":\"rename\"}", "{\"op\":\"remove\"}"));
+
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_thenSave_appendsToReplayedState() throws Exception {
+        removeBenson();
+
+        JournalAddressBookStorage restartedStorage = new JournalAddressBookStorage(filePath);
+        AddressBook restarted = new AddressBook(restartedStorage.readAddressBook().orElseThrow());
+        restarted.addPerson(HOON);
+        restartedStorage.saveAddressBookChanges(restarted, List.of(PersonChange.added(HOON)));
+
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(restarted, readWithNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactedIntoSnapshot() throws Exception {
+        storage = new JournalAddressBookStorage(filePath, 1);
+        storage.readAddressBook();
+
+        removeBenson();
+        storage.awaitCompaction();
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().orElseThrow());
+        assertTrue(readWithNewStorage().getPersonList().stream().noneMatch(BENSON::isSamePerson));
+    }
+
+    @Test
+    public void compact_snapshotReplacedAndJournalDeleted() throws Exception {
+        removeBenson();
+
+        storage.compact();
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertFalse(Files.exists(testFolder.resolve("hall-ledger.json.tmp")));
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().orElseThrow());
+    }
+
+    @Test
+    public void compactLeftoverJournal_noJournal_returnsFalse() throws Exception {
+        assertFalse(JournalAddressBookStorage.compactLeftoverJournal(filePath));
+    }
+
+    @Test
+    public void compactLeftoverJournal_journalLeft_foldedIntoPlainFile() throws Exception {
+        removeBenson();
+
+        assertTrue(JournalAddressBookStorage.compactLeftoverJournal(filePath));
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().orElseThrow());
+    }
+
+    @Test
+    public void compactLeftoverJournal_invalidJournal_throwsDataLoadingException() throws Exception {
+        Files.write(storage.getJournalFilePath(), List.of("{\"op\":\"rename\"}", "{\"op\":\"remove\"}"));
+
+        assertThrows(DataLoadingException.class, () -> JournalAddressBookStorage.compactLeftoverJournal(filePath));
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+    }
+
+    private void removeBenson() throws Exception {
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBookChanges(addressBook, List.of(PersonChange.removed(BENSON)));
+    }
+
+    private AddressBook readWithNewStorage() {
+        try {
+            return new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().orElseThrow());
+        } catch (DataLoadingException e) {
+            throw new AssertionError("Data file could not be read.", e);
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.model.demerit.DemeritRuleCatalogue.BUILT_IN_VERSION;
 import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -12,7 +16,9 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.demerit.DemeritIncident;
+import seedu.address.model.demerit.DemeritRuleSet;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.EmergencyContact;
 import seedu.address.model.person.Name;
@@ -20,6 +26,7 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.RoomNumber;
 import seedu.address.model.person.StudentId;
+import seedu.address.model.util.PersonBuilder;
 
 public class JsonAdaptedPersonTest {
     private static final String INVALID_NAME = "R%chel";
@@ -50,17 +57,17 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_personWithDemerits_roundTripsSuccessfully() throws Exception {
         List<DemeritIncident> incidents = List.of(
-                new DemeritIncident(18,
+                new DemeritIncident(18, BUILT_IN_VERSION,
                         "Visit by non-residents of the hostel or visiting a resident "
                                 + "of another hostel during quiet hours",
                         1,
                         6,
                         "Visitor stayed during quiet hours"),
-                new DemeritIncident(28,
+                new DemeritIncident(28, BUILT_IN_VERSION,
                         "Littering and/or failure to upkeep cleanliness of common areas / room",
                         1,
                         3,
-                        "Common pantry left dirty")
+                        "Common pantry left dirty").withRecordedAt(LocalDateTime.of(2026, 1, 9, 14, 30))
         );
 
         Person personWithDemerits = new Person(
@@ -79,6 +86,64 @@ public class JsonAdaptedPersonTest {
         assertEquals(personWithDemerits, jsonAdaptedPerson.toModelType());
     }
 
+    @Test
+    public void toModelType_ruleIndexOutOfRange_throwsIllegalValueException() throws Exception {
+        Person personWithDemerit = new PersonBuilder(BENSON).withDemeritIncidents(new Object[]{18, 1}).build();
+        String json = JsonUtil.toJsonString(new JsonAdaptedPerson(personWithDemerit));
+
+        for (String ruleIndex : List.of("2000000000", "0", "-3")) {
+            JsonAdaptedPerson person = JsonUtil.fromJsonString(
+                    json.replaceFirst("\"ruleIndex\" : 18", "\"ruleIndex\" : " + ruleIndex), JsonAdaptedPerson.class);
+            assertThrows(IllegalValueException.class, DemeritRuleSet.MESSAGE_INVALID_INDEX, person::toModelType);
+        }
+    }
+
+    @Test
+    public void toModelType_invalidRecordedAt_throwsIllegalValueException() throws Exception {
+        Person personWithDemerit = new PersonBuilder(BENSON)
+                .withDemeritIncidents(new Object[]{18, 1, "", "2026-01-09T14:30"}).build();
+        String json = JsonUtil.toJsonString(new JsonAdaptedPerson(personWithDemerit))
+                .replace("2026-01-09T14:30", "yesterday");
+        JsonAdaptedPerson person = JsonUtil.fromJsonString(json, JsonAdaptedPerson.class);
+
+        String expectedMessage = String.format(JsonAdaptedPerson.INVALID_RECORDED_AT_MESSAGE_FORMAT, "yesterday");
+        assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
+    }
+
+    @Test
+    public void toModelType_studentIdEdited_keepsIncidentKey() throws Exception {
+        Person person = new PersonBuilder(BENSON).withDemeritIncidents(new Object[]{18, 1}).build()
+                .withStudentId(new StudentId("A7654321B"));
+        String json = JsonUtil.toJsonString(new JsonAdaptedPerson(person));
+
+        Person restored = JsonUtil.fromJsonString(json, JsonAdaptedPerson.class).toModelType();
+        assertEquals(person, restored);
+        assertEquals(BENSON.getStudentId(), restored.getIncidentKey());
+
+        // the key is only written once it differs from the student ID
+        assertFalse(JsonUtil.toJsonString(new JsonAdaptedPerson(BENSON)).contains("incidentKey"));
+    }
+
+    @Test
+    public void toModelType_invalidIncidentKey_throwsIllegalValueException() {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_STUDENTID,
+                VALID_ROOM_NUMBER, VALID_EMERGENCY_CONTACT, VALID_REMARK, VALID_TAGS, null, INVALID_STUDENTID);
+        assertThrows(IllegalValueException.class, StudentId.MESSAGE_CONSTRAINTS, person::toModelType);
+    }
+
+    @Test
+    public void toModelType_repeatedValues_shareCanonicalInstances() throws Exception {
+        Person first = new JsonAdaptedPerson(BENSON).toModelType();
+        Person second = new JsonAdaptedPerson(BENSON).toModelType();
+        first.getTags().forEach((type, tag) -> assertSame(tag, second.getTags().get(type)));
+
+        DemeritIncident incident = new DemeritIncident(21, BUILT_IN_VERSION,
+                new String("Excessive noise during quiet hours"), 1, 6, "");
+        DemeritIncident sameRule = new DemeritIncident(21, BUILT_IN_VERSION,
+                new String("Excessive noise during quiet hours"), 2, 9, "");
+        assertSame(incident.getRuleTitle(), sameRule.getRuleTitle());
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
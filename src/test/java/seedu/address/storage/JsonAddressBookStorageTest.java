@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -60,6 +61,44 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_typicalPersonsFile_success() throws Exception {
+        Path filePath = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "typicalPersonsAddressBook.json");
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwDataLoadingException() {
+        Path filePath = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "duplicatePersonAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unknownFields_ignored() throws Exception {
+        Path filePath = testFolder.resolve("unknownFields.json");
+        Files.writeString(filePath,
+                "{ \"version\" : { \"schema\" : [ 1, 2 ] }, \"persons\" : [ ], \"notes\" : \"x\" }");
+        assertEquals(new AddressBook(), new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_malformedStructure_throwDataLoadingException() throws Exception {
+        Path rootArray = testFolder.resolve("rootArray.json");
+        Files.writeString(rootArray, "[ ]");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(rootArray).readAddressBook());
+
+        Path personsNotArray = testFolder.resolve("personsNotArray.json");
+        Files.writeString(personsNotArray, "{ \"persons\" : { } }");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(personsNotArray).readAddressBook());
+
+        Path nullPerson = testFolder.resolve("nullPerson.json");
+        Files.writeString(nullPerson, "{ \"persons\" : [ null ] }");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(nullPerson).readAddressBook());
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
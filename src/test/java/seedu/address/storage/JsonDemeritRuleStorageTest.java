@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.demerit.DemeritRule;
+import seedu.address.model.demerit.DemeritRuleCatalogue;
+import seedu.address.model.demerit.DemeritRuleSet;
+
+public class JsonDemeritRuleStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonDemeritRuleStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    private Optional<DemeritRuleSet> readDemeritRules(String fileName) throws Exception {
+        return new JsonDemeritRuleStorage(TEST_DATA_FOLDER.resolve(fileName)).readDemeritRules();
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(readDemeritRules("NonExistentFile.json").isPresent());
+    }
+
+    @Test
+    public void read_notJsonFormat_exceptionThrown() {
+        assertThrows(DataLoadingException.class, () -> readDemeritRules("notJsonFormatRules.json"));
+    }
+
+    @Test
+    public void read_invalidRules_exceptionThrown() {
+        assertThrows(DataLoadingException.class, () -> readDemeritRules("duplicateIndexRules.json"));
+        assertThrows(DataLoadingException.class, () -> readDemeritRules("missingVersionRules.json"));
+    }
+
+    @Test
+    public void read_validRules_success() throws Exception {
+        DemeritRuleSet expected = new DemeritRuleSet(2, List.of(
+                new DemeritRule(1, "Noise during quiet hours", 3, 6, 9),
+                new DemeritRule(2, "Unauthorised cooking in rooms", 5, 10, 15)));
+
+        assertEquals(expected, readDemeritRules("validRules.json").orElseThrow());
+    }
+
+    @Test
+    public void readAndSaveDemeritRules_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempRules.json");
+        JsonDemeritRuleStorage storage = new JsonDemeritRuleStorage(filePath);
+        DemeritRuleSet builtInRules = DemeritRuleCatalogue.getBuiltInRules();
+
+        storage.saveDemeritRules(builtInRules);
+        assertEquals(builtInRules, storage.readDemeritRules().orElseThrow());
+    }
+
+    @Test
+    public void readDemeritRulesIfChanged_onlyAfterEdit() throws Exception {
+        Path filePath = testFolder.resolve("TempRules.json");
+        JsonDemeritRuleStorage storage = new JsonDemeritRuleStorage(filePath);
+        assertFalse(storage.readDemeritRulesIfChanged().isPresent());
+
+        // Written by another storage, as an edit made outside the app
+        new JsonDemeritRuleStorage(filePath).saveDemeritRules(DemeritRuleCatalogue.getBuiltInRules());
+        assertEquals(DemeritRuleCatalogue.getBuiltInRules(), storage.readDemeritRulesIfChanged().orElseThrow());
+        assertFalse(storage.readDemeritRulesIfChanged().isPresent());
+
+        Files.copy(TEST_DATA_FOLDER.resolve("duplicateIndexRules.json"), filePath,
+                StandardCopyOption.REPLACE_EXISTING);
+        assertThrows(DataLoadingException.class, storage::readDemeritRulesIfChanged);
+        assertFalse(storage.readDemeritRulesIfChanged().isPresent());
+    }
+}
@@ -1,16 +1,26 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.demerit.DemeritIncident;
+import seedu.address.model.demerit.DemeritRuleCatalogue;
+import seedu.address.model.util.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -19,6 +29,7 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path VERBOSE_DEMERIT_FILE = TEST_DATA_FOLDER.resolve("verboseDemeritAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -29,6 +40,31 @@ public class JsonSerializableAddressBookTest {
         assertEquals(addressBookFromFile, typicalPersonsAddressBook);
     }
 
+    @Test
+    public void toModelType_verboseDemeritFile_readsAndWritesCompactly() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(VERBOSE_DEMERIT_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        List<DemeritIncident> incidents = addressBookFromFile.getPersonList().get(0).getDemeritIncidents();
+
+        // title matching the catalogue is resolved through it, a reworded title is kept
+        assertEquals(Optional.empty(), incidents.get(0).getTitleForStorage());
+        assertEquals("Excessive noise during quiet hours", incidents.get(0).getRuleTitle());
+        assertEquals("Littering", incidents.get(1).getRuleTitle());
+
+        // incidents without a catalogue version predate versioned rules; a stored version is kept
+        assertEquals(DemeritRuleCatalogue.BUILT_IN_VERSION, incidents.get(0).getCatalogueVersion());
+        assertEquals(7, incidents.get(2).getCatalogueVersion());
+        assertEquals("Visitors after midnight", incidents.get(2).getRuleTitle());
+
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBookFromFile));
+        assertFalse(json.contains("Excessive noise during quiet hours"));
+        assertTrue(json.contains("Littering"));
+        assertTrue(json.contains("catalogueVersion"));
+        assertEquals(addressBookFromFile,
+                JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType());
+    }
+
     @Test
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_PERSON_FILE,
@@ -40,8 +76,35 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+        assertThrows(IllegalValueException.class,
+                String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, "[A1234567X]"),
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_multipleDuplicatesAndSharedRooms_reportsAll() {
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(List.of(
+                new JsonAdaptedPerson(ALICE),
+                new JsonAdaptedPerson(BENSON),
+                new JsonAdaptedPerson(CARL),
+                new JsonAdaptedPerson(new PersonBuilder(ALICE).withRoomNumber("1A").build()),
+                new JsonAdaptedPerson(new PersonBuilder(BENSON).withRoomNumber("2A").build()),
+                new JsonAdaptedPerson(new PersonBuilder().withStudentId("A7654321Z")
+                        .withRoomNumber(CARL.getRoomNumber().value).build())));
+        String expectedMessage = String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                "[A1234567X, A8765432Y]")
+                + "\n" + String.format(JsonSerializableAddressBook.MESSAGE_SHARED_ROOM, "[12B]");
+        assertThrows(IllegalValueException.class, expectedMessage, data::toModelType);
+    }
+
+    @Test
+    public void toModelType_studentIdStillFilingAnotherResidentsIncidents_throwsIllegalValueException() {
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(List.of(
+                new JsonAdaptedPerson(new PersonBuilder(ALICE).withDemeritIncidents(new Object[] {18, 1}).build()
+                        .withStudentId(CARL.getStudentId())),
+                new JsonAdaptedPerson(new PersonBuilder(BENSON).withStudentId(ALICE.getStudentId().value).build())));
+        String expectedMessage = String.format(JsonSerializableAddressBook.MESSAGE_SHARED_INCIDENT_KEY, "[A1234567X]");
+        assertThrows(IllegalValueException.class, expectedMessage, data::toModelType);
+    }
+
 }
@@ -14,6 +14,8 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.demerit.DemeritRuleCatalogue;
+import seedu.address.model.demerit.DemeritRuleSet;
 
 public class StorageManagerTest {
 
@@ -60,6 +62,20 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void demeritRulesReadSave() throws Exception {
+        /*
+         * Note: This is an integration test that verifies the StorageManager is properly wired to the
+         * {@link JsonDemeritRuleStorage} class.
+         * More extensive testing of rule saving/reading is done in {@link JsonDemeritRuleStorageTest} class.
+         */
+        DemeritRuleSet original = DemeritRuleCatalogue.getBuiltInRules();
+        storageManager.saveDemeritRules(original);
+        assertEquals(original, storageManager.readDemeritRules().get());
+        assertEquals(getTempFilePath(JsonDemeritRuleStorage.DEFAULT_FILE_NAME),
+                storageManager.getDemeritRuleFilePath());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
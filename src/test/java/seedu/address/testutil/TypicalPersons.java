@@ -79,9 +79,9 @@ public class TypicalPersons {
 
     // Manually added
     public static final Person HOON = new PersonBuilder().withName("Hoon Meier").withPhone("+65 8482424")
-            .withEmail("stefan@example.com").withStudentId("A6666666X").build();
+            .withEmail("stefan@example.com").withStudentId("A6666666X").withRoomNumber("8H").build();
     public static final Person IDA = new PersonBuilder().withName("Ida Mueller").withPhone("+65 8482131")
-            .withEmail("hans@example.com").withStudentId("A7777777X").build();
+            .withEmail("hans@example.com").withStudentId("A7777777X").withRoomNumber("9I").build();
 
     // Manually added - Person's details found in {@code CommandTestUtil}
     public static final Person AMY = new PersonBuilder().withName(VALID_NAME_AMY).withPhone(VALID_PHONE_AMY)